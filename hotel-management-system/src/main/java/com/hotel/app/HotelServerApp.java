@@ -0,0 +1,45 @@
+package com.hotel.app;
+
+import com.hotel.http.HotelHttpServer;
+import com.hotel.model.*;
+import com.hotel.service.BookingCompactor;
+import com.hotel.service.BookingService;
+import com.hotel.service.HotelService;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the HTTP front end for a sample hotel.
+ * Usage: {@code HotelServerApp [port]}; the default port is 8080.
+ */
+public class HotelServerApp {
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        // Must be set before the first server is created; see HotelHttpServer
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        Hotel hotel = new Hotel("LUXURY-001", "Grand Luxury Hotel", "New York", 5);
+        hotel.addRoom(new Room("101", RoomType.SINGLE, 79.99));
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 79.99));
+        hotel.addRoom(new Room("201", RoomType.DOUBLE, 129.99));
+        hotel.addRoom(new Room("202", RoomType.DOUBLE, 129.99));
+        hotel.addRoom(new Room("203", RoomType.DOUBLE, 129.99));
+        hotel.addRoom(new Room("301", RoomType.SUITE, 199.99));
+        hotel.addRoom(new Room("302", RoomType.DELUXE, 159.99));
+
+        BookingService bookingService = new BookingService(hotel);
+        BookingCompactor compactor = new BookingCompactor(bookingService, 30);
+        compactor.schedule(1, TimeUnit.HOURS);
+        HotelHttpServer server = new HotelHttpServer(new HotelService(hotel), bookingService, port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(1);
+            compactor.close();
+        }));
+        server.start();
+        System.out.println("✓ " + hotel.getHotelName() + " listening on port " + server.getPort());
+    }
+}
@@ -0,0 +1,366 @@
+package com.hotel.http;
+
+import com.hotel.exception.InvalidBookingException;
+import com.hotel.exception.RoomNotAvailableException;
+import com.hotel.model.Booking;
+import com.hotel.model.Hotel;
+import com.hotel.model.Room;
+import com.hotel.persistence.BookingExporter;
+import com.hotel.service.BookingPage;
+import com.hotel.service.BookingService;
+import com.hotel.service.HotelService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Embedded HTTP front end for {@link HotelService} and {@link BookingService}.
+ * Built on the JDK's {@code com.sun.net.httpserver}: connections, including
+ * idle keep-alive ones, are multiplexed by the server's selector thread and
+ * each request runs on its own virtual thread when the JDK provides them.
+ * On older JDKs requests run on a fixed pool sized from the core count.
+ * <p>
+ * Endpoints (responses are JSON, request bodies are form-encoded):
+ * <ul>
+ *   <li>{@code GET /availability?checkIn=&checkOut=} - rooms free for the stay</li>
+ *   <li>{@code POST /bookings} with bookingId, guestName, roomNumber, checkIn, checkOut</li>
+ *   <li>{@code GET /bookings?limit=&cursor=&guest=&status=} - one page of bookings,
+ *       optionally one guest's or only active ones ({@code status=active}), with
+ *       the {@code nextCursor} to pass back for the next page</li>
+ *   <li>{@code GET /bookings/{id}} and {@code DELETE /bookings/{id}}</li>
+ *   <li>{@code GET /export?format=csv|ndjson&guest=&status=} - every matching booking,
+ *       archived ones first ({@code status=active} covers the working set only),
+ *       streamed with chunked transfer encoding</li>
+ *   <li>{@code GET /stats} - room counts, occupancy and booking totals</li>
+ * </ul>
+ * Invalid input maps to 400, unknown bookings to 404 and unavailable rooms to 409;
+ * any other failure is logged and answered with 500.
+ * <p>
+ * The JDK server leaves Nagle's algorithm on unless the JVM is started with
+ * {@code -Dsun.net.httpserver.nodelay=true}, which adds a delayed-ACK stall
+ * (about 40 ms) to every response on a reused keep-alive connection. The
+ * flag is JVM-wide and read once, so it is the launcher's job to set it;
+ * {@link com.hotel.app.HotelServerApp} does.
+ */
+public class HotelHttpServer {
+    
+    private static final int BACKLOG = 4096;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    
+    private static final Logger LOGGER = Logger.getLogger(HotelHttpServer.class.getName());
+    
+    private final HotelService hotelService;
+    private final BookingService bookingService;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    
+    /**
+     * Creates a server bound to the given port; it does not accept requests until started.
+     *
+     * @param hotelService the hotel service to expose (non-null)
+     * @param bookingService the booking service to expose (non-null)
+     * @param port the port to listen on, or 0 for an ephemeral port
+     * @throws IOException if the port cannot be bound
+     * @throws IllegalArgumentException if a service is null
+     */
+    public HotelHttpServer(HotelService hotelService, BookingService bookingService, int port) throws IOException {
+        if (hotelService == null || bookingService == null) {
+            throw new IllegalArgumentException("Services cannot be null");
+        }
+        this.hotelService = hotelService;
+        this.bookingService = bookingService;
+        this.server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        this.executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/availability", exchange -> handle(exchange, this::availability));
+        server.createContext("/bookings", exchange -> handle(exchange, this::bookings));
+        server.createContext("/stats", exchange -> handle(exchange, this::stats));
+        server.createContext("/export", this::export);
+    }
+    
+    /**
+     * Creates the executor requests run on: one virtual thread per request
+     * where available (Java 21+), otherwise a fixed platform-thread pool.
+     *
+     * @return a new request executor
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Math.max(8, Runtime.getRuntime().availableProcessors() * 4));
+        }
+    }
+    
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+    
+    /**
+     * Stops the server, waiting up to the given number of seconds for exchanges in progress.
+     *
+     * @param delaySeconds maximum time to wait for running exchanges
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Gets the port the server is bound to.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    private Response availability(HttpExchange exchange) {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            return Response.methodNotAllowed();
+        }
+        Map<String, String> query = parseForm(exchange.getRequestURI().getRawQuery());
+        List<Room> rooms = hotelService.checkAvailability(date(query, "checkIn"), date(query, "checkOut"));
+        return new Response(200, Json.rooms(rooms));
+    }
+    
+    private Response bookings(HttpExchange exchange) throws IOException, InvalidBookingException,
+            RoomNotAvailableException {
+        String path = exchange.getRequestURI().getPath();
+        String bookingId = path.startsWith("/bookings/") ? path.substring("/bookings/".length()) : "";
+        String method = exchange.getRequestMethod();
+        
+        if (bookingId.isEmpty()) {
+            if ("GET".equals(method)) {
+                return bookingPage(parseForm(exchange.getRequestURI().getRawQuery()));
+            }
+            if (!"POST".equals(method)) {
+                return Response.methodNotAllowed();
+            }
+            Map<String, String> form = parseForm(readBody(exchange));
+            Booking booking = bookingService.createBooking(form.get("bookingId"), form.get("guestName"),
+                    form.get("roomNumber"), date(form, "checkIn"), date(form, "checkOut"));
+            return new Response(201, Json.booking(booking));
+        }
+        if ("GET".equals(method)) {
+            Booking booking = bookingService.getBookingById(bookingId);
+            return booking == null ? Response.notFound(bookingId) : new Response(200, Json.booking(booking));
+        }
+        if ("DELETE".equals(method)) {
+            return bookingService.cancelBooking(bookingId)
+                    ? new Response(200, Json.booking(bookingService.getBookingById(bookingId)))
+                    : Response.notFound(bookingId);
+        }
+        return Response.methodNotAllowed();
+    }
+    
+    private Response bookingPage(Map<String, String> query) {
+        int limit = DEFAULT_PAGE_SIZE;
+        String limitValue = query.get("limit");
+        if (limitValue != null) {
+            try {
+                limit = Integer.parseInt(limitValue);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid limit: " + limitValue);
+            }
+            if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+            }
+        }
+        String cursor = query.get("cursor");
+        String guest = query.get("guest");
+        BookingPage page;
+        if (guest != null) {
+            if (activeOnly(query)) {
+                throw new IllegalArgumentException("Cannot combine guest and status filters");
+            }
+            page = bookingService.getBookingsByGuest(guest, cursor, limit);
+        } else if (activeOnly(query)) {
+            page = bookingService.getActiveBookings(cursor, limit);
+        } else {
+            page = bookingService.getAllBookings(cursor, limit);
+        }
+        return new Response(200, Json.page(page));
+    }
+    
+    private void export(HttpExchange exchange) throws IOException {
+        BookingExporter.Format format;
+        Stream<Booking> bookings;
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, Response.methodNotAllowed());
+                return;
+            }
+            Map<String, String> query = parseForm(exchange.getRequestURI().getRawQuery());
+            format = exportFormat(query.get("format"));
+            String guest = query.get("guest");
+            if (guest != null) {
+                if (activeOnly(query)) {
+                    throw new IllegalArgumentException("Cannot combine guest and status filters");
+                }
+                bookings = bookingService.streamBookingsByGuest(guest);
+            } else {
+                bookings = activeOnly(query) ? bookingService.streamActiveBookings()
+                        : bookingService.streamAllBookings();
+            }
+        } catch (IllegalArgumentException e) {
+            send(exchange, new Response(400, Json.error(e.getMessage())));
+            return;
+        }
+        
+        // Length 0 selects chunked encoding, so the export is never buffered whole
+        exchange.getResponseHeaders().set("Content-Type", format.getContentType() + "; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            BookingExporter.export(bookings, format, out);
+        } catch (RuntimeException e) {
+            // Headers are already sent, so the client only sees a truncated stream
+            LOGGER.log(Level.SEVERE, "Export failed: " + exchange.getRequestURI(), e);
+            throw e;
+        }
+    }
+    
+    private static BookingExporter.Format exportFormat(String value) {
+        if (value == null || "csv".equalsIgnoreCase(value)) {
+            return BookingExporter.Format.CSV;
+        }
+        if ("ndjson".equalsIgnoreCase(value)) {
+            return BookingExporter.Format.NDJSON;
+        }
+        throw new IllegalArgumentException("Invalid format: " + value);
+    }
+    
+    private static boolean activeOnly(Map<String, String> query) {
+        String status = query.get("status");
+        if (status == null || "all".equalsIgnoreCase(status)) {
+            return false;
+        }
+        if ("active".equalsIgnoreCase(status)) {
+            return true;
+        }
+        throw new IllegalArgumentException("Invalid status: " + status);
+    }
+    
+    private Response stats(HttpExchange exchange) {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            return Response.methodNotAllowed();
+        }
+        Hotel hotel = hotelService.getHotel();
+        return new Response(200, "{\"hotelId\":" + Json.quote(hotel.getHotelId())
+                + ",\"totalRooms\":" + hotel.getTotalRoomCount()
+                + ",\"availableRooms\":" + hotel.getAvailableRoomCount()
+                + ",\"occupancyRate\":" + Json.number(hotelService.getOccupancyRate())
+                + ",\"averageAvailablePrice\":" + Json.number(hotelService.getAveragePriceOfAvailableRooms())
+                + ",\"totalBookings\":" + bookingService.getTotalBookings()
+                + ",\"activeBookings\":" + bookingService.getActiveBookingCount()
+                + ",\"archivedBookings\":" + bookingService.getArchivedBookingCount() + "}");
+    }
+    
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        Response response;
+        try {
+            response = handler.handle(exchange);
+        } catch (InvalidBookingException | IllegalArgumentException e) {
+            response = new Response(400, Json.error(e.getMessage()));
+        } catch (RoomNotAvailableException e) {
+            response = new Response(409, Json.error(e.getMessage()));
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Request failed: " + exchange.getRequestMethod() + " "
+                    + exchange.getRequestURI(), e);
+            response = new Response(500, Json.error("Internal error"));
+        }
+        send(exchange, response);
+    }
+    
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+    
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+    
+    private static Map<String, String> parseForm(String encoded) {
+        Map<String, String> values = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return values;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                values.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return values;
+    }
+    
+    private static LocalDate date(Map<String, String> values, String name) {
+        String value = values.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date for " + name + ": " + value);
+        }
+    }
+    
+    @FunctionalInterface
+    private interface Handler {
+        Response handle(HttpExchange exchange) throws IOException, InvalidBookingException,
+                RoomNotAvailableException;
+    }
+    
+    private static final class Response {
+        private final int status;
+        private final String body;
+        
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+        
+        static Response notFound(String bookingId) {
+            return new Response(404, Json.error("Booking not found: " + bookingId));
+        }
+        
+        static Response methodNotAllowed() {
+            return new Response(405, Json.error("Method not allowed"));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.hotel.http;
+
+import com.hotel.model.Booking;
+import com.hotel.model.Room;
+import com.hotel.service.BookingPage;
+
+import java.util.List;
+
+/**
+ * Minimal JSON rendering for the HTTP front end.
+ * Only the shapes the API returns are supported; there is no parser.
+ */
+final class Json {
+    
+    private Json() {
+    }
+    
+    static String room(Room room) {
+        return "{\"roomNumber\":" + quote(room.getRoomNumber())
+                + ",\"type\":" + quote(room.getType().name())
+                + ",\"pricePerNight\":" + number(room.getPricePerNight())
+                + ",\"status\":" + quote(room.getStatus().name()) + "}";
+    }
+    
+    static String rooms(List<Room> rooms) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < rooms.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(room(rooms.get(i)));
+        }
+        return json.append(']').toString();
+    }
+    
+    static String booking(Booking booking) {
+        return "{\"bookingId\":" + quote(booking.getBookingId())
+                + ",\"guestName\":" + quote(booking.getGuestName())
+                + ",\"roomNumber\":" + quote(booking.getRoom().getRoomNumber())
+                + ",\"checkInDate\":" + quote(booking.getCheckInDate().toString())
+                + ",\"checkOutDate\":" + quote(booking.getCheckOutDate().toString())
+                + ",\"totalPrice\":" + number(booking.getTotalPrice())
+                + ",\"status\":" + quote(booking.getStatus().name()) + "}";
+    }
+    
+    static String page(BookingPage page) {
+        StringBuilder json = new StringBuilder("{\"bookings\":[");
+        List<Booking> bookings = page.getBookings();
+        for (int i = 0; i < bookings.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(booking(bookings.get(i)));
+        }
+        String cursor = page.getNextCursor();
+        return json.append("],\"nextCursor\":").append(cursor == null ? "null" : quote(cursor)).append('}').toString();
+    }
+    
+    static String error(String message) {
+        return "{\"error\":" + quote(message) + "}";
+    }
+    
+    static String number(double value) {
+        // Built by hand: String.format dominates the cost of rendering a room list
+        long cents = Math.round(Math.abs(value) * 100);
+        long fraction = cents % 100;
+        return (value < 0 && cents != 0 ? "-" : "") + cents / 100 + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+    
+    static String quote(String value) {
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"').toString();
+    }
+}
@@ -32,10 +32,16 @@ public final class Booking {
     public Booking(String bookingId, String guestName, Room room, 
                    LocalDate checkInDate, LocalDate checkOutDate, 
                    double totalPrice, BookingStatus status) {
+        this(bookingId, guestName, room, checkInDate, checkOutDate, totalPrice, status, false);
+    }
+    
+    private Booking(String bookingId, String guestName, Room room,
+                    LocalDate checkInDate, LocalDate checkOutDate,
+                    double totalPrice, BookingStatus status, boolean restored) {
         this.bookingId = validateBookingId(bookingId);
         this.guestName = validateGuestName(guestName);
         this.room = validateRoom(room);
-        this.checkInDate = validateCheckInDate(checkInDate);
+        this.checkInDate = restored ? validateDate(checkInDate, "Check-in") : validateCheckInDate(checkInDate);
         this.checkOutDate = validateCheckOutDate(checkOutDate);
         this.totalPrice = validatePrice(totalPrice);
         this.status = validateStatus(status);
@@ -43,6 +49,37 @@ public final class Booking {
         validateDateRange();
     }
     
+    /**
+     * Recreates a booking that was stored earlier.
+     * All rules of the public constructor apply except that the check-in
+     * date may lie in the past, so booking history can be loaded back.
+     *
+     * @param bookingId unique booking identifier (non-null, non-empty)
+     * @param guestName name of the guest (non-null, non-empty)
+     * @param room the booked room (non-null)
+     * @param checkInDate check-in date (non-null)
+     * @param checkOutDate check-out date (non-null, after check-in)
+     * @param totalPrice total booking price (non-negative)
+     * @param status current booking status (non-null)
+     * @return the restored booking
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public static Booking restore(String bookingId, String guestName, Room room,
+                                  LocalDate checkInDate, LocalDate checkOutDate,
+                                  double totalPrice, BookingStatus status) {
+        return new Booking(bookingId, guestName, room, checkInDate, checkOutDate, totalPrice, status, true);
+    }
+    
+    private Booking(Booking source, BookingStatus status) {
+        this.bookingId = source.bookingId;
+        this.guestName = source.guestName;
+        this.room = source.room;
+        this.checkInDate = source.checkInDate;
+        this.checkOutDate = source.checkOutDate;
+        this.totalPrice = source.totalPrice;
+        this.status = validateStatus(status);
+    }
+    
     private String validateBookingId(String bookingId) {
         if (bookingId == null || bookingId.trim().isEmpty()) {
             throw new IllegalArgumentException("Booking ID cannot be null or empty");
@@ -67,6 +104,13 @@ public final class Booking {
         return room;
     }
     
+    private LocalDate validateDate(LocalDate date, String label) {
+        if (date == null) {
+            throw new IllegalArgumentException(label + " date cannot be null");
+        }
+        return date;
+    }
+    
     private LocalDate validateCheckInDate(LocalDate checkInDate) {
         if (checkInDate == null) {
             throw new IllegalArgumentException("Check-in date cannot be null");
@@ -132,6 +176,19 @@ public final class Booking {
         return status;
     }
     
+    /**
+     * Returns a copy of this booking with a different status.
+     * The check-in date is not re-validated, so bookings that have
+     * already started can still be cancelled or completed.
+     *
+     * @param status the new booking status (non-null)
+     * @return a new booking with the given status
+     * @throws IllegalArgumentException if status is null
+     */
+    public Booking withStatus(BookingStatus status) {
+        return new Booking(this, status);
+    }
+    
     /**
      * Calculates the number of nights for this booking.
      *
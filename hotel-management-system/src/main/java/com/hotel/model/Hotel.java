@@ -1,20 +1,59 @@
 package com.hotel.model;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
 
 /**
  * Represents a hotel with multiple rooms.
  * Manages hotel details and maintains collection of rooms.
+ * Rooms are also partitioned by type and status; the partitions follow
+ * room status changes through a status listener. The listener runs on the
+ * booking path, so it takes no lock: it moves the room's count and price
+ * between atomic per-status counters, marks the room number dirty and bumps
+ * the version. The counters answer the room counts, price total and the
+ * metrics built on them directly. Dirty rooms are moved to the partition
+ * of their current status the next time a snapshot is built, the first
+ * point at which anyone reads the partitions.
+ * Rooms are kept in a {@link RoomRepository}, in memory unless another
+ * engine is given. Room lookups by number are lock-free; the partitions,
+ * price index and aggregates are guarded by the hotel's monitor, which is
+ * taken only by room additions, removals and snapshot builds.
+ * Queries read an immutable {@link HotelSnapshot} instead of the mutable
+ * indexes. A published snapshot is used for as long as its version is the
+ * current one; the next read after a mutation rebuilds it once under the
+ * monitor, and all later reads until the next mutation share it.
  */
 public class Hotel {
     
     private final String hotelId;
     private final String hotelName;
     private final String location;
-    private final List<Room> rooms;
+    private final RoomRepository rooms;
+    private final Map<RoomStatus, Set<Room>> roomsByStatus;
+    private final Map<RoomType, Map<RoomStatus, Set<Room>>> roomsByTypeAndStatus;
+    private final Map<Room, RoomStatus> indexedStatuses;
+    private final Set<String> dirtyRoomNumbers;
+    private final Map<String, CountedRoom> countedRooms;
+    private final AtomicIntegerArray statusCounts;
+    private final DoubleAdder availablePriceTotal;
+    private final RoomPriceIndex availableRoomsByPrice;
+    private final RoomStatusListener statusListener;
+    private final OccupancyCalendar occupancyCalendar;
+    private final AtomicLong version;
+    private volatile HotelSnapshot snapshot;
     private int starRating;
     
     /**
@@ -27,11 +66,59 @@ public class Hotel {
      * @throws IllegalArgumentException if any parameter is invalid
      */
     public Hotel(String hotelId, String hotelName, String location, int starRating) {
+        this(hotelId, hotelName, location, starRating, new InMemoryRoomRepository());
+    }
+    
+    /**
+     * Creates a Hotel whose rooms are kept in the given storage engine.
+     * Rooms the engine already holds become the hotel's rooms.
+     *
+     * @param hotelId unique hotel identifier (non-null, non-empty)
+     * @param hotelName name of the hotel (non-null, non-empty)
+     * @param location hotel location (non-null, non-empty)
+     * @param starRating star rating between 1-5
+     * @param rooms the room storage engine (non-null)
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public Hotel(String hotelId, String hotelName, String location, int starRating, RoomRepository rooms) {
+        if (rooms == null) {
+            throw new IllegalArgumentException("Room repository cannot be null");
+        }
         this.hotelId = validateHotelId(hotelId);
         this.hotelName = validateHotelName(hotelName);
         this.location = validateLocation(location);
         this.starRating = validateStarRating(starRating);
-        this.rooms = new ArrayList<>();
+        this.rooms = rooms;
+        this.roomsByStatus = new EnumMap<>(RoomStatus.class);
+        this.roomsByTypeAndStatus = new EnumMap<>(RoomType.class);
+        this.indexedStatuses = new HashMap<>();
+        this.dirtyRoomNumbers = ConcurrentHashMap.newKeySet();
+        this.countedRooms = new ConcurrentHashMap<>();
+        this.statusCounts = new AtomicIntegerArray(RoomStatus.values().length);
+        this.availablePriceTotal = new DoubleAdder();
+        this.version = new AtomicLong();
+        for (RoomStatus status : RoomStatus.values()) {
+            roomsByStatus.put(status, new LinkedHashSet<>());
+        }
+        for (RoomType type : RoomType.values()) {
+            Map<RoomStatus, Set<Room>> byStatus = new EnumMap<>(RoomStatus.class);
+            for (RoomStatus status : RoomStatus.values()) {
+                byStatus.put(status, new LinkedHashSet<>());
+            }
+            roomsByTypeAndStatus.put(type, byStatus);
+        }
+        this.availableRoomsByPrice = new RoomPriceIndex();
+        this.statusListener = this::onRoomStatusChanged;
+        this.occupancyCalendar = new OccupancyCalendar();
+        this.snapshot = HotelSnapshot.empty();
+        for (Room room : rooms.getAll()) {
+            room.addStatusListener(statusListener);
+            index(room, room.getStatus());
+            count(room);
+        }
+        if (rooms.size() > 0) {
+            invalidateSnapshot();
+        }
     }
     
     private String validateHotelId(String hotelId) {
@@ -95,28 +182,200 @@ public class Hotel {
      * @return true if room was added, false if room already exists
      * @throws IllegalArgumentException if room is null
      */
-    public boolean addRoom(Room room) {
+    public synchronized boolean addRoom(Room room) {
         if (room == null) {
             throw new IllegalArgumentException("Room cannot be null");
         }
         
-        if (rooms.stream().anyMatch(r -> r.getRoomNumber().equals(room.getRoomNumber()))) {
+        if (!rooms.add(room)) {
             return false;
         }
-        return rooms.add(room);
+        // Listen first: a change racing with this call marks the room dirty and is reconciled later
+        room.addStatusListener(statusListener);
+        index(room, room.getStatus());
+        count(room);
+        invalidateSnapshot();
+        return true;
     }
     
+    /**
+     * Adds many rooms under one lock, invalidating the snapshot once.
+     * Rooms whose number is already present are skipped, as with {@link #addRoom}.
+     *
+     * @param newRooms the rooms to add (non-null, no null elements)
+     * @return the number of rooms added
+     * @throws IllegalArgumentException if newRooms or any element is null
+     */
+    public synchronized int addRooms(Collection<Room> newRooms) {
+        if (newRooms == null) {
+            throw new IllegalArgumentException("Rooms cannot be null");
+        }
+        for (Room room : newRooms) {
+            if (room == null) {
+                throw new IllegalArgumentException("Room cannot be null");
+            }
+        }
+        
+        List<Room> added = rooms.addAll(newRooms);
+        for (Room room : added) {
+            room.addStatusListener(statusListener);
+            index(room, room.getStatus());
+            count(room);
+        }
+        if (!added.isEmpty()) {
+            invalidateSnapshot();
+        }
+        return added.size();
+    }
+
     /**
      * Removes a room from the hotel.
      *
      * @param roomNumber the room number (non-null, non-empty)
      * @return true if room was removed, false if room not found
      */
-    public boolean removeRoom(String roomNumber) {
+    public synchronized boolean removeRoom(String roomNumber) {
         if (roomNumber == null || roomNumber.trim().isEmpty()) {
             throw new IllegalArgumentException("Room number cannot be null or empty");
         }
-        return rooms.removeIf(r -> r.getRoomNumber().equals(roomNumber.trim()));
+        Room removed = rooms.remove(roomNumber.trim());
+        if (removed == null) {
+            return false;
+        }
+        removed.removeStatusListener(statusListener);
+        unindex(removed);
+        uncount(removed);
+        invalidateSnapshot();
+        occupancyCalendar.removeRoom(removed.getRoomNumber());
+        return true;
+    }
+    
+    private Set<Room> partition(Room room, RoomStatus status) {
+        return roomsByTypeAndStatus.get(room.getType()).get(status);
+    }
+    
+    private void onRoomStatusChanged(Room room, RoomStatus oldStatus, RoomStatus newStatus) {
+        CountedRoom counted = countedRooms.get(room.getRoomNumber());
+        if (counted != null && counted.room == room) {
+            recount(counted);
+        }
+        // Dirty before the version bump, so a build that misses the room is already stale
+        dirtyRoomNumbers.add(room.getRoomNumber());
+        invalidateSnapshot();
+    }
+    
+    private void reindexDirtyRooms() {
+        Iterator<String> dirty = dirtyRoomNumbers.iterator();
+        while (dirty.hasNext()) {
+            // By number, so a room removed and replaced since it changed resolves to the replacement
+            Room room = rooms.get(dirty.next());
+            dirty.remove();
+            if (room == null) {
+                continue;
+            }
+            RoomStatus indexed = indexedStatuses.get(room);
+            RoomStatus current = room.getStatus();
+            if (indexed != null && indexed != current) {
+                unindex(room);
+                index(room, current);
+            }
+        }
+    }
+    
+    private void count(Room room) {
+        CountedRoom counted = new CountedRoom(room);
+        countedRooms.put(room.getRoomNumber(), counted);
+        adjustCounts(counted.status.get(), room, 1);
+        // A change the listener saw before the room was in the map is picked up here
+        recount(counted);
+    }
+    
+    private void uncount(Room room) {
+        CountedRoom counted = countedRooms.remove(room.getRoomNumber());
+        RoomStatus status = counted.status.getAndSet(null);
+        adjustCounts(status, room, -1);
+    }
+    
+    private void recount(CountedRoom counted) {
+        // Re-check after every move: a racing recount may have counted a status that has changed again
+        while (true) {
+            RoomStatus status = counted.status.get();
+            RoomStatus current = counted.room.getStatus();
+            if (status == null || status == current) {
+                return;
+            }
+            if (counted.status.compareAndSet(status, current)) {
+                adjustCounts(status, counted.room, -1);
+                adjustCounts(current, counted.room, 1);
+            }
+        }
+    }
+    
+    private void adjustCounts(RoomStatus status, Room room, int delta) {
+        statusCounts.addAndGet(status.ordinal(), delta);
+        if (status == RoomStatus.AVAILABLE) {
+            availablePriceTotal.add(delta * room.getPricePerNight());
+        }
+    }
+    
+    private void index(Room room, RoomStatus status) {
+        indexedStatuses.put(room, status);
+        partition(room, status).add(room);
+        roomsByStatus.get(status).add(room);
+        if (status == RoomStatus.AVAILABLE) {
+            availableRoomsByPrice.add(room);
+        }
+    }
+    
+    private void unindex(Room room) {
+        RoomStatus status = indexedStatuses.remove(room);
+        partition(room, status).remove(room);
+        roomsByStatus.get(status).remove(room);
+        if (status == RoomStatus.AVAILABLE) {
+            availableRoomsByPrice.remove(room);
+        }
+    }
+    
+    private void invalidateSnapshot() {
+        version.incrementAndGet();
+    }
+    
+    /**
+     * Gets the current immutable snapshot of the hotel's rooms and indexes.
+     * Multi-step queries should take one snapshot and read everything from it
+     * so that they see a single consistent state.
+     *
+     * @return the snapshot for the current version
+     */
+    public HotelSnapshot getSnapshot() {
+        HotelSnapshot current = snapshot;
+        return current.getVersion() == version.get() ? current : buildSnapshot();
+    }
+    
+    private synchronized HotelSnapshot buildSnapshot() {
+        HotelSnapshot current = snapshot;
+        long built = version.get();
+        if (current.getVersion() == built) {
+            return current;
+        }
+        reindexDirtyRooms();
+        Map<RoomStatus, List<Room>> byStatus = new EnumMap<>(RoomStatus.class);
+        for (RoomStatus status : RoomStatus.values()) {
+            byStatus.put(status, List.copyOf(roomsByStatus.get(status)));
+        }
+        Map<RoomType, Map<RoomStatus, List<Room>>> byTypeAndStatus = new EnumMap<>(RoomType.class);
+        for (RoomType type : RoomType.values()) {
+            Map<RoomStatus, List<Room>> typeByStatus = new EnumMap<>(RoomStatus.class);
+            for (RoomStatus status : RoomStatus.values()) {
+                typeByStatus.put(status, List.copyOf(roomsByTypeAndStatus.get(type).get(status)));
+            }
+            byTypeAndStatus.put(type, typeByStatus);
+        }
+        List<Room> byPrice = Collections.unmodifiableList(
+                availableRoomsByPrice.toList(byStatus.get(RoomStatus.AVAILABLE).size()));
+        current = new HotelSnapshot(built, List.copyOf(rooms.getAll()), byStatus, byTypeAndStatus, byPrice);
+        snapshot = current;
+        return current;
     }
     
     /**
@@ -129,38 +388,108 @@ public class Hotel {
         if (roomNumber == null || roomNumber.trim().isEmpty()) {
             throw new IllegalArgumentException("Room number cannot be null or empty");
         }
-        return rooms.stream()
-                .filter(r -> r.getRoomNumber().equals(roomNumber.trim()))
-                .findFirst()
-                .orElse(null);
+        return rooms.get(roomNumber.trim());
     }
     
     /**
-     * Gets all rooms in the hotel.
+     * Gets all rooms in the hotel, in the order they were added.
+     * The list belongs to the current snapshot and does not change afterwards.
      *
      * @return unmodifiable list of rooms
      */
     public List<Room> getAllRooms() {
-        return Collections.unmodifiableList(rooms);
+        return getSnapshot().getAllRooms();
     }
     
     /**
      * Gets available rooms in the hotel.
      *
-     * @return list of available rooms
+     * @return unmodifiable list of available rooms
      */
     public List<Room> getAvailableRooms() {
-        List<Room> available = new ArrayList<>();
-        for (Room room : rooms) {
-            if (room.isAvailable()) {
-                available.add(room);
-            }
-        }
-        return available;
+        return getRoomsByStatus(RoomStatus.AVAILABLE);
+    }
+    
+    /**
+     * Gets rooms with the given status.
+     * Only the rooms in that status are visited.
+     *
+     * @param status room status (non-null)
+     * @return unmodifiable list of rooms with the status
+     * @throws IllegalArgumentException if status is null
+     */
+    public List<Room> getRoomsByStatus(RoomStatus status) {
+        return getSnapshot().getRoomsByStatus(status);
+    }
+    
+    /**
+     * Gets rooms of the given type with the given status.
+     * Only the rooms in that type and status are visited.
+     *
+     * @param type room type (non-null)
+     * @param status room status (non-null)
+     * @return unmodifiable list of matching rooms
+     * @throws IllegalArgumentException if type or status is null
+     */
+    public List<Room> getRoomsByTypeAndStatus(RoomType type, RoomStatus status) {
+        return getSnapshot().getRoomsByTypeAndStatus(type, status);
+    }
+    
+    /**
+     * Gets the cheapest available room.
+     * Among rooms with the same price, the one added first wins.
+     *
+     * @return the cheapest available room or null if none is available
+     */
+    public Room getCheapestAvailableRoom() {
+        return getSnapshot().getCheapestAvailableRoom();
+    }
+    
+    /**
+     * Gets the most expensive available room.
+     * Among rooms with the same price, the one added first wins.
+     *
+     * @return the most expensive available room or null if none is available
+     */
+    public Room getMostExpensiveAvailableRoom() {
+        return getSnapshot().getMostExpensiveAvailableRoom();
+    }
+    
+    /**
+     * Gets the cheapest available rooms in ascending price order.
+     *
+     * @param count maximum number of rooms to return (non-negative)
+     * @return up to count available rooms
+     * @throws IllegalArgumentException if count is negative
+     */
+    public List<Room> getCheapestAvailableRooms(int count) {
+        return getSnapshot().getCheapestAvailableRooms(count);
+    }
+    
+    /**
+     * Gets available rooms priced within a range, in ascending price order.
+     *
+     * @param minPrice lowest price per night, inclusive
+     * @param maxPrice highest price per night, inclusive
+     * @return available rooms within the range
+     * @throws IllegalArgumentException if minPrice is greater than maxPrice
+     */
+    public List<Room> getAvailableRoomsInPriceRange(double minPrice, double maxPrice) {
+        return getSnapshot().getAvailableRoomsInPriceRange(minPrice, maxPrice);
+    }
+    
+    /**
+     * Gets the calendar of days each room is held by a booking.
+     *
+     * @return the hotel's occupancy calendar
+     */
+    public OccupancyCalendar getOccupancyCalendar() {
+        return occupancyCalendar;
     }
     
     /**
      * Gets the total number of rooms.
+     * Read from the room storage, without building a snapshot.
      *
      * @return total room count
      */
@@ -170,11 +499,91 @@ public class Hotel {
     
     /**
      * Gets the number of available rooms.
+     * Read from the maintained counters, without building a snapshot.
      *
      * @return available room count
      */
     public int getAvailableRoomCount() {
-        return (int) rooms.stream().filter(Room::isAvailable).count();
+        return getRoomCount(RoomStatus.AVAILABLE);
+    }
+    
+    /**
+     * Gets the number of rooms with the given status.
+     * Read from the maintained counters, without building a snapshot.
+     *
+     * @param status room status (non-null)
+     * @return room count for the status
+     * @throws IllegalArgumentException if status is null
+     */
+    public int getRoomCount(RoomStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Room status cannot be null");
+        }
+        return statusCounts.get(status.ordinal());
+    }
+    
+    /**
+     * Gets the sum of the nightly prices of all available rooms.
+     * Maintained incrementally on every room status change.
+     *
+     * @return total price of available rooms
+     */
+    public double getAvailablePriceTotal() {
+        // Nothing available means exactly zero, whatever rounding error the adds left behind
+        return getAvailableRoomCount() == 0 ? 0.0 : availablePriceTotal.sum();
+    }
+    
+    /**
+     * Recounts every room and compares the result with the maintained
+     * counters, partitions and price total. Intended for diagnostics and
+     * tests; the hotel must not change while it runs.
+     *
+     * @throws IllegalStateException if any maintained aggregate has drifted
+     */
+    public synchronized void verifyAggregates() {
+        reindexDirtyRooms();
+        Map<RoomStatus, Integer> counts = new EnumMap<>(RoomStatus.class);
+        double priceTotal = 0.0;
+        for (Room room : rooms.getAll()) {
+            counts.merge(room.getStatus(), 1, Integer::sum);
+            if (room.isAvailable()) {
+                priceTotal += room.getPricePerNight();
+            }
+        }
+        for (RoomStatus status : RoomStatus.values()) {
+            int expected = counts.getOrDefault(status, 0);
+            int maintained = getRoomCount(status);
+            if (maintained != expected) {
+                throw new IllegalStateException("Room count for " + status + " is " + maintained
+                        + " but recount found " + expected);
+            }
+            int partitioned = roomsByStatus.get(status).size();
+            if (partitioned != expected) {
+                throw new IllegalStateException("Partition for " + status + " holds " + partitioned
+                        + " rooms but recount found " + expected);
+            }
+        }
+        double maintainedTotal = getAvailablePriceTotal();
+        if (Math.abs(priceTotal - maintainedTotal) > 1e-6 * Math.max(1.0, Math.abs(priceTotal))) {
+            throw new IllegalStateException("Available price total is " + maintainedTotal
+                    + " but recount found " + priceTotal);
+        }
+    }
+    
+    /**
+     * The status a room is counted under in the lock-free aggregates.
+     * The status is cleared when the room is removed, so a notification
+     * still in flight for it cannot move the counters afterwards.
+     */
+    private static final class CountedRoom {
+        
+        private final Room room;
+        private final AtomicReference<RoomStatus> status;
+        
+        private CountedRoom(Room room) {
+            this.room = room;
+            this.status = new AtomicReference<>(room.getStatus());
+        }
     }
     
     @Override
@@ -193,6 +602,6 @@ public class Hotel {
     @Override
     public String toString() {
         return String.format("Hotel{id=%s, name=%s, location=%s, rating=%d, rooms=%d}",
-                hotelId, hotelName, location, starRating, rooms.size());
+                hotelId, hotelName, location, starRating, getTotalRoomCount());
     }
 }
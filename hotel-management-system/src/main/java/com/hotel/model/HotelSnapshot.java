@@ -0,0 +1,220 @@
+package com.hotel.model;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, versioned view of a hotel's rooms and derived indexes.
+ * Every list is fixed when the snapshot is built, so a query that makes
+ * several calls on one snapshot sees one consistent state with no locking.
+ * Room objects themselves stay live: {@link Room#getStatus()} may already
+ * be newer than the partition a room is listed under.
+ */
+public final class HotelSnapshot {
+    
+    private final long version;
+    private final List<Room> rooms;
+    private final Map<RoomStatus, List<Room>> roomsByStatus;
+    private final Map<RoomType, Map<RoomStatus, List<Room>>> roomsByTypeAndStatus;
+    private final List<Room> availableRoomsByPrice;
+    private final double[] availablePrices;
+    private final double availablePriceTotal;
+    
+    HotelSnapshot(long version, List<Room> rooms, Map<RoomStatus, List<Room>> roomsByStatus,
+                  Map<RoomType, Map<RoomStatus, List<Room>>> roomsByTypeAndStatus,
+                  List<Room> availableRoomsByPrice) {
+        this.version = version;
+        this.rooms = rooms;
+        this.roomsByStatus = roomsByStatus;
+        this.roomsByTypeAndStatus = roomsByTypeAndStatus;
+        this.availableRoomsByPrice = availableRoomsByPrice;
+        this.availablePrices = new double[availableRoomsByPrice.size()];
+        double priceTotal = 0.0;
+        for (int i = 0; i < availablePrices.length; i++) {
+            availablePrices[i] = availableRoomsByPrice.get(i).getPricePerNight();
+            priceTotal += availablePrices[i];
+        }
+        this.availablePriceTotal = priceTotal;
+    }
+    
+    static HotelSnapshot empty() {
+        Map<RoomStatus, List<Room>> byStatus = new EnumMap<>(RoomStatus.class);
+        Map<RoomType, Map<RoomStatus, List<Room>>> byTypeAndStatus = new EnumMap<>(RoomType.class);
+        for (RoomStatus status : RoomStatus.values()) {
+            byStatus.put(status, List.of());
+        }
+        for (RoomType type : RoomType.values()) {
+            byTypeAndStatus.put(type, byStatus);
+        }
+        return new HotelSnapshot(0, List.of(), byStatus, byTypeAndStatus, List.of());
+    }
+    
+    /**
+     * Gets the hotel version this snapshot was built from.
+     * The version increases with every room added, removed or changing status.
+     *
+     * @return snapshot version
+     */
+    public long getVersion() {
+        return version;
+    }
+    
+    /**
+     * Gets all rooms, in the order they were added.
+     *
+     * @return unmodifiable list of rooms
+     */
+    public List<Room> getAllRooms() {
+        return rooms;
+    }
+    
+    /**
+     * Gets the rooms listed under a status.
+     *
+     * @param status room status (non-null)
+     * @return unmodifiable list of rooms with the status
+     * @throws IllegalArgumentException if status is null
+     */
+    public List<Room> getRoomsByStatus(RoomStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Room status cannot be null");
+        }
+        return roomsByStatus.get(status);
+    }
+    
+    /**
+     * Gets the rooms of a type listed under a status.
+     *
+     * @param type room type (non-null)
+     * @param status room status (non-null)
+     * @return unmodifiable list of matching rooms
+     * @throws IllegalArgumentException if type or status is null
+     */
+    public List<Room> getRoomsByTypeAndStatus(RoomType type, RoomStatus status) {
+        if (type == null) {
+            throw new IllegalArgumentException("Room type cannot be null");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Room status cannot be null");
+        }
+        return roomsByTypeAndStatus.get(type).get(status);
+    }
+    
+    /**
+     * Gets the cheapest available room; among equal prices the one added first.
+     *
+     * @return the cheapest available room or null if none is available
+     */
+    public Room getCheapestAvailableRoom() {
+        return availableRoomsByPrice.isEmpty() ? null : availableRoomsByPrice.get(0);
+    }
+    
+    /**
+     * Gets the most expensive available room; among equal prices the one added first.
+     *
+     * @return the most expensive available room or null if none is available
+     */
+    public Room getMostExpensiveAvailableRoom() {
+        if (availablePrices.length == 0) {
+            return null;
+        }
+        return availableRoomsByPrice.get(lowerBound(availablePrices[availablePrices.length - 1]));
+    }
+    
+    /**
+     * Gets the cheapest available rooms in ascending price order.
+     *
+     * @param count maximum number of rooms to return (non-negative)
+     * @return up to count available rooms
+     * @throws IllegalArgumentException if count is negative
+     */
+    public List<Room> getCheapestAvailableRooms(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        return availableRoomsByPrice.subList(0, Math.min(count, availableRoomsByPrice.size()));
+    }
+    
+    /**
+     * Gets available rooms priced within a range, in ascending price order.
+     *
+     * @param minPrice lowest price per night, inclusive
+     * @param maxPrice highest price per night, inclusive
+     * @return available rooms within the range
+     * @throws IllegalArgumentException if minPrice is greater than maxPrice
+     */
+    public List<Room> getAvailableRoomsInPriceRange(double minPrice, double maxPrice) {
+        if (minPrice > maxPrice) {
+            throw new IllegalArgumentException("Minimum price cannot exceed maximum price");
+        }
+        return availableRoomsByPrice.subList(lowerBound(minPrice), upperBound(maxPrice));
+    }
+    
+    /**
+     * Gets the total number of rooms.
+     *
+     * @return total room count
+     */
+    public int getTotalRoomCount() {
+        return rooms.size();
+    }
+    
+    /**
+     * Gets the number of available rooms.
+     *
+     * @return available room count
+     */
+    public int getAvailableRoomCount() {
+        return availableRoomsByPrice.size();
+    }
+    
+    /**
+     * Gets the number of rooms listed under a status.
+     *
+     * @param status room status (non-null)
+     * @return room count for the status
+     * @throws IllegalArgumentException if status is null
+     */
+    public int getRoomCount(RoomStatus status) {
+        return getRoomsByStatus(status).size();
+    }
+    
+    /**
+     * Gets the sum of the nightly prices of the rooms listed as available
+     * in this snapshot.
+     *
+     * @return total price of available rooms
+     */
+    public double getAvailablePriceTotal() {
+        return availablePriceTotal;
+    }
+    
+    private int lowerBound(double price) {
+        int low = 0;
+        int high = availablePrices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (availablePrices[mid] < price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private int upperBound(double price) {
+        int low = 0;
+        int high = availablePrices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (availablePrices[mid] <= price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
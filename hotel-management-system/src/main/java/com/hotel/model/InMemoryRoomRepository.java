@@ -0,0 +1,61 @@
+package com.hotel.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-heap room engine: a concurrent map for lock-free lookups by number
+ * and a list for insertion order. The default engine of {@link Hotel}.
+ */
+public class InMemoryRoomRepository implements RoomRepository {
+    
+    private final List<Room> rooms;
+    private final Map<String, Room> roomsByNumber;
+    
+    /**
+     * Creates an empty repository.
+     */
+    public InMemoryRoomRepository() {
+        this.rooms = new ArrayList<>();
+        this.roomsByNumber = new ConcurrentHashMap<>();
+    }
+    
+    @Override
+    public boolean add(Room room) {
+        if (room == null) {
+            throw new IllegalArgumentException("Room cannot be null");
+        }
+        if (roomsByNumber.putIfAbsent(room.getRoomNumber(), room) != null) {
+            return false;
+        }
+        rooms.add(room);
+        return true;
+    }
+    
+    @Override
+    public Room remove(String roomNumber) {
+        Room removed = roomsByNumber.remove(roomNumber);
+        if (removed != null) {
+            rooms.remove(removed);
+        }
+        return removed;
+    }
+    
+    @Override
+    public Room get(String roomNumber) {
+        return roomsByNumber.get(roomNumber);
+    }
+    
+    @Override
+    public List<Room> getAll() {
+        return Collections.unmodifiableList(rooms);
+    }
+    
+    @Override
+    public int size() {
+        return rooms.size();
+    }
+}
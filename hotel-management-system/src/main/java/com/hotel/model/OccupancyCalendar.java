@@ -0,0 +1,376 @@
+package com.hotel.model;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks which days each room is held by a booking, from today up to a
+ * rolling horizon.
+ * Every room has one bit per day in pages of four 64-day words, each page
+ * an {@link AtomicLongArray}. A stay is claimed by setting its bits word by
+ * word with compare-and-set; if any bit is already taken, the words claimed
+ * so far are released and the claim fails. Day ranges are inclusive of the
+ * check-out day, matching the booking conflict rule.
+ * <p>
+ * Each room's window of pages moves on demand: a write past the last page
+ * adds pages and drops those before today's. The window is swapped with
+ * compare-and-set and pages are never copied, so no lock is taken and no
+ * claim is lost while a window moves. Days before today are not tracked:
+ * writes skip them and queries that include them are rejected. Writes
+ * read a cached date, so the clock is not read on every claim.
+ */
+public class OccupancyCalendar {
+    
+    /** Default horizon of roughly three years. */
+    public static final int DEFAULT_HORIZON_DAYS = 3 * 366;
+    
+    private static final int DAYS_PER_WORD = 64;
+    private static final int WORDS_PER_PAGE = 4;
+    private static final int DAYS_PER_PAGE = DAYS_PER_WORD * WORDS_PER_PAGE;
+    
+    private static volatile Today cachedToday = Today.now();
+    
+    private final ConcurrentMap<String, AtomicReference<Pages>> daysByRoom;
+    private final int horizonDays;
+    
+    /**
+     * Creates an empty calendar with the default horizon.
+     */
+    public OccupancyCalendar() {
+        this(DEFAULT_HORIZON_DAYS);
+    }
+    
+    /**
+     * Creates an empty calendar that holds days up to the given number of days from today.
+     *
+     * @param horizonDays number of days from today, inclusive, that can be held (positive)
+     * @throws IllegalArgumentException if horizonDays is not positive
+     */
+    public OccupancyCalendar(int horizonDays) {
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Horizon must be positive");
+        }
+        this.daysByRoom = new ConcurrentHashMap<>();
+        this.horizonDays = horizonDays;
+    }
+    
+    /**
+     * Gets the last day that can be held; it moves forward with the date.
+     *
+     * @return the last day of the horizon
+     */
+    public LocalDate getLastDay() {
+        return LocalDate.ofEpochDay(currentDay() + horizonDays - 1);
+    }
+    
+    /**
+     * Atomically holds every day of a range if none is held yet.
+     * Days before today are skipped.
+     *
+     * @param roomNumber the room number (non-null)
+     * @param fromDate first day of the range (non-null)
+     * @param toDate last day of the range, inclusive (non-null, not after the last day)
+     * @return true if all days were free and are now held, false if any was held
+     * @throws IllegalArgumentException if the range is invalid or ends after the horizon
+     */
+    public boolean tryReserve(String roomNumber, LocalDate fromDate, LocalDate toDate) {
+        long from = Math.max(validateRange(roomNumber, fromDate, toDate), cachedToday.day);
+        long to = validateHorizon(toDate);
+        if (to < from) {
+            return true;
+        }
+        Pages pages = pagesFor(roomNumber, to);
+        from = Math.max(from, pages.firstDay());
+        long firstWord = Math.floorDiv(from, DAYS_PER_WORD);
+        long lastWord = Math.floorDiv(to, DAYS_PER_WORD);
+        for (long word = firstWord; word <= lastWord; word++) {
+            AtomicLongArray page = pages.pageOf(word);
+            int slot = slotOf(word);
+            long mask = mask(word, from, to);
+            while (true) {
+                long current = page.get(slot);
+                if ((current & mask) != 0) {
+                    clear(pages, firstWord, word - 1, from, to);
+                    return false;
+                }
+                if (page.compareAndSet(slot, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Marks a room as held for every day of the range, whether or not some
+     * days were already held. Days before today are skipped.
+     *
+     * @param roomNumber the room number (non-null)
+     * @param fromDate first day of the range (non-null)
+     * @param toDate last day of the range, inclusive (non-null, not after the last day)
+     * @throws IllegalArgumentException if the range is invalid or ends after the horizon
+     */
+    public void markOccupied(String roomNumber, LocalDate fromDate, LocalDate toDate) {
+        long from = Math.max(validateRange(roomNumber, fromDate, toDate), cachedToday.day);
+        long to = validateHorizon(toDate);
+        if (to < from) {
+            return;
+        }
+        Pages pages = pagesFor(roomNumber, to);
+        from = Math.max(from, pages.firstDay());
+        for (long word = Math.floorDiv(from, DAYS_PER_WORD); word <= Math.floorDiv(to, DAYS_PER_WORD); word++) {
+            long mask = mask(word, from, to);
+            pages.pageOf(word).getAndUpdate(slotOf(word), current -> current | mask);
+        }
+    }
+    
+    /**
+     * Releases a room for every day of the range.
+     * Days that are not tracked are skipped.
+     *
+     * @param roomNumber the room number (non-null)
+     * @param fromDate first day of the range (non-null)
+     * @param toDate last day of the range, inclusive (non-null)
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    public void markFree(String roomNumber, LocalDate fromDate, LocalDate toDate) {
+        long from = validateRange(roomNumber, fromDate, toDate);
+        AtomicReference<Pages> room = daysByRoom.get(roomNumber);
+        if (room == null) {
+            return;
+        }
+        Pages pages = room.get();
+        from = Math.max(from, pages.firstDay());
+        long to = Math.min(toDate.toEpochDay(), pages.endDay() - 1);
+        if (from <= to) {
+            clear(pages, Math.floorDiv(from, DAYS_PER_WORD), Math.floorDiv(to, DAYS_PER_WORD), from, to);
+        }
+    }
+    
+    /**
+     * Checks whether a room is free for every day of the range.
+     * The answer is a consistent read of each word, not of the whole range.
+     *
+     * @param roomNumber the room number (non-null)
+     * @param fromDate first day of the range (non-null, not before today)
+     * @param toDate last day of the range, inclusive (non-null)
+     * @return true if no day in the range is held
+     * @throws IllegalArgumentException if the range is invalid or starts before today
+     */
+    public boolean isFree(String roomNumber, LocalDate fromDate, LocalDate toDate) {
+        long from = validateRange(roomNumber, fromDate, toDate);
+        validateTracked(from);
+        return isFree(daysByRoom.get(roomNumber), from, toDate.toEpochDay());
+    }
+    
+    /**
+     * Selects the rooms that are free for every day of the range in one pass.
+     * Each room is tested with word-level AND operations against the range masks.
+     *
+     * @param rooms candidate rooms (non-null)
+     * @param fromDate first day of the range (non-null, not before today)
+     * @param toDate last day of the range, inclusive (non-null)
+     * @return the free rooms, in candidate order
+     * @throws IllegalArgumentException if the range is invalid or starts before today
+     */
+    public List<Room> findFreeRooms(List<Room> rooms, LocalDate fromDate, LocalDate toDate) {
+        if (rooms == null) {
+            throw new IllegalArgumentException("Rooms cannot be null");
+        }
+        long from = validateDates(fromDate, toDate);
+        long to = toDate.toEpochDay();
+        validateTracked(from);
+        
+        List<Room> free = new ArrayList<>();
+        for (Room room : rooms) {
+            if (isFree(daysByRoom.get(room.getRoomNumber()), from, to)) {
+                free.add(room);
+            }
+        }
+        return free;
+    }
+    
+    /**
+     * Forgets every day held by a room.
+     *
+     * @param roomNumber the room number (non-null)
+     */
+    public void removeRoom(String roomNumber) {
+        daysByRoom.remove(roomNumber);
+    }
+    
+    private long validateRange(String roomNumber, LocalDate fromDate, LocalDate toDate) {
+        if (roomNumber == null) {
+            throw new IllegalArgumentException("Room number cannot be null");
+        }
+        return validateDates(fromDate, toDate);
+    }
+    
+    private long validateDates(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate == null || toDate == null) {
+            throw new IllegalArgumentException("Dates cannot be null");
+        }
+        if (toDate.isBefore(fromDate)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+        return fromDate.toEpochDay();
+    }
+    
+    private long validateHorizon(LocalDate toDate) {
+        long to = toDate.toEpochDay();
+        // The cached date is only ever behind, so it is refreshed before rejecting
+        if (to >= cachedToday.day + horizonDays && to >= currentDay() + horizonDays) {
+            throw new IllegalArgumentException("Dates cannot be after " + getLastDay());
+        }
+        return to;
+    }
+    
+    private static void validateTracked(long from) {
+        long today = currentDay();
+        if (from < today) {
+            throw new IllegalArgumentException("Days before " + LocalDate.ofEpochDay(today) + " are not tracked");
+        }
+    }
+    
+    private static boolean isFree(AtomicReference<Pages> room, long from, long to) {
+        if (room == null) {
+            return true;
+        }
+        Pages pages = room.get();
+        from = Math.max(from, pages.firstDay());
+        long last = Math.min(to, pages.endDay() - 1);
+        if (from > last) {
+            return true;
+        }
+        for (long word = Math.floorDiv(from, DAYS_PER_WORD); word <= Math.floorDiv(last, DAYS_PER_WORD); word++) {
+            if ((pages.pageOf(word).get(slotOf(word)) & mask(word, from, last)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Gets a room's pages, first moving its window up to today's page and
+     * out to the given day if it ends before that day.
+     */
+    private Pages pagesFor(String roomNumber, long to) {
+        long lastPage = Math.floorDiv(to, DAYS_PER_PAGE);
+        AtomicReference<Pages> room = daysByRoom.get(roomNumber);
+        if (room == null) {
+            long todayPage = Math.floorDiv(currentDay(), DAYS_PER_PAGE);
+            AtomicReference<Pages> created = new AtomicReference<>(new Pages(todayPage, new AtomicLongArray[0]));
+            room = daysByRoom.putIfAbsent(roomNumber, created);
+            room = room == null ? created : room;
+        }
+        while (true) {
+            Pages pages = room.get();
+            if (lastPage < pages.firstPage + pages.pages.length) {
+                return pages;
+            }
+            long todayPage = Math.floorDiv(currentDay(), DAYS_PER_PAGE);
+            Pages moved = pages.moveTo(Math.max(pages.firstPage, todayPage), lastPage);
+            if (room.compareAndSet(pages, moved)) {
+                return moved;
+            }
+        }
+    }
+    
+    private static void clear(Pages pages, long firstWord, long lastWord, long from, long to) {
+        for (long word = firstWord; word <= lastWord; word++) {
+            long mask = mask(word, from, to);
+            pages.pageOf(word).getAndUpdate(slotOf(word), current -> current & ~mask);
+        }
+    }
+    
+    private static int slotOf(long word) {
+        return Math.floorMod(word, WORDS_PER_PAGE);
+    }
+    
+    private static long mask(long word, long from, long to) {
+        long wordStart = word * DAYS_PER_WORD;
+        int firstBit = (int) Math.max(0, from - wordStart);
+        int lastBit = (int) Math.min(DAYS_PER_WORD - 1, to - wordStart);
+        return (-1L << firstBit) & (-1L >>> (DAYS_PER_WORD - 1 - lastBit));
+    }
+    
+    private static long currentDay() {
+        Today cached = cachedToday;
+        long now = System.currentTimeMillis();
+        if (now < cached.startMillis || now >= cached.endMillis) {
+            cached = Today.now();
+            cachedToday = cached;
+        }
+        return cached.day;
+    }
+    
+    /**
+     * One room's held days: a run of pages from firstPage on. A directory is
+     * never changed, only replaced with compare-and-set; the pages
+     * themselves are shared between directories and never copied, so a bit
+     * set in a page is never lost when the window moves.
+     */
+    private static final class Pages {
+        
+        private final long firstPage;
+        private final AtomicLongArray[] pages;
+        
+        Pages(long firstPage, AtomicLongArray[] pages) {
+            this.firstPage = firstPage;
+            this.pages = pages;
+        }
+        
+        long firstDay() {
+            return firstPage * DAYS_PER_PAGE;
+        }
+        
+        long endDay() {
+            return (firstPage + pages.length) * DAYS_PER_PAGE;
+        }
+        
+        AtomicLongArray pageOf(long word) {
+            return pages[(int) (Math.floorDiv(word, WORDS_PER_PAGE) - firstPage)];
+        }
+        
+        Pages moveTo(long newFirstPage, long lastPage) {
+            long end = Math.max(firstPage + pages.length, lastPage + 1);
+            AtomicLongArray[] moved = new AtomicLongArray[(int) (end - newFirstPage)];
+            for (int i = 0; i < moved.length; i++) {
+                long page = newFirstPage + i;
+                moved[i] = page < firstPage + pages.length ? pages[(int) (page - firstPage)]
+                        : new AtomicLongArray(WORDS_PER_PAGE);
+            }
+            return new Pages(newFirstPage, moved);
+        }
+    }
+    
+    /**
+     * The current date with the span of system time it covers, so the date
+     * is not recomputed from the clock and time zone on every call.
+     */
+    private static final class Today {
+        
+        private final long day;
+        private final long startMillis;
+        private final long endMillis;
+        
+        private Today(long day, long startMillis, long endMillis) {
+            this.day = day;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+        
+        static Today now() {
+            ZoneId zone = ZoneId.systemDefault();
+            LocalDate date = LocalDate.now(zone);
+            return new Today(date.toEpochDay(), date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                    date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.hotel.model;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a room in the hotel.
  * Mutable entity that tracks room status and pricing.
+ * The status and a version stamp are packed into one atomic word, so status
+ * changes are lock-free and {@link #transition} can compare and set them.
  */
 public class Room {
     
+    private static final RoomStatus[] STATUSES = RoomStatus.values();
+    private static final int STATUS_BITS = 8;
+    private static final long STATUS_MASK = (1L << STATUS_BITS) - 1;
+    
     private final String roomNumber;
     private final RoomType type;
     private final double pricePerNight;
-    private RoomStatus status;
+    private final AtomicLong state;
     private String description;
+    private final List<RoomStatusListener> statusListeners;
     
     /**
      * Creates a new Room with specified details.
@@ -26,8 +36,9 @@ public class Room {
         this.roomNumber = validateRoomNumber(roomNumber);
         this.type = validateRoomType(type);
         this.pricePerNight = validatePrice(pricePerNight);
-        this.status = RoomStatus.AVAILABLE;
+        this.state = new AtomicLong(RoomStatus.AVAILABLE.ordinal());
         this.description = "";
+        this.statusListeners = new CopyOnWriteArrayList<>();
     }
     
     private String validateRoomNumber(String roomNumber) {
@@ -64,20 +75,106 @@ public class Room {
     }
     
     public RoomStatus getStatus() {
-        return status;
+        return statusOf(state.get());
+    }
+    
+    /**
+     * Gets the version stamp of the room status.
+     * The version increases by one with every status change.
+     *
+     * @return current status version
+     */
+    public long getVersion() {
+        return state.get() >>> STATUS_BITS;
     }
     
     /**
-     * Sets the room status.
+     * Sets the room status unconditionally.
+     * Registered status listeners are notified when the status actually changes.
      *
      * @param status new room status (non-null)
      * @throws IllegalArgumentException if status is null
      */
     public void setStatus(RoomStatus status) {
+        validateStatus(status);
+        long current;
+        do {
+            current = state.get();
+            if (statusOf(current) == status) {
+                return;
+            }
+        } while (!state.compareAndSet(current, next(current, status)));
+        notifyListeners(statusOf(current), status);
+    }
+    
+    /**
+     * Changes the room status only if it currently equals the expected status.
+     * The check and the change are one atomic step, so concurrent callers
+     * cannot overwrite each other's updates.
+     *
+     * @param expectedStatus the status the room must have (non-null)
+     * @param newStatus the status to change to (non-null)
+     * @return true if the room had the expected status and now has the new one
+     * @throws IllegalArgumentException if either status is null
+     */
+    public boolean transition(RoomStatus expectedStatus, RoomStatus newStatus) {
+        validateStatus(expectedStatus);
+        validateStatus(newStatus);
+        long current;
+        do {
+            current = state.get();
+            if (statusOf(current) != expectedStatus) {
+                return false;
+            }
+            if (expectedStatus == newStatus) {
+                return true;
+            }
+        } while (!state.compareAndSet(current, next(current, newStatus)));
+        notifyListeners(expectedStatus, newStatus);
+        return true;
+    }
+    
+    private void validateStatus(RoomStatus status) {
         if (status == null) {
             throw new IllegalArgumentException("Room status cannot be null");
         }
-        this.status = status;
+    }
+    
+    private static RoomStatus statusOf(long state) {
+        return STATUSES[(int) (state & STATUS_MASK)];
+    }
+    
+    private static long next(long state, RoomStatus status) {
+        return ((state >>> STATUS_BITS) + 1) << STATUS_BITS | status.ordinal();
+    }
+    
+    private void notifyListeners(RoomStatus oldStatus, RoomStatus newStatus) {
+        for (RoomStatusListener listener : statusListeners) {
+            listener.onStatusChanged(this, oldStatus, newStatus);
+        }
+    }
+    
+    /**
+     * Registers a listener for status changes.
+     *
+     * @param listener the listener to add (non-null)
+     * @throws IllegalArgumentException if listener is null
+     */
+    public void addStatusListener(RoomStatusListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Status listener cannot be null");
+        }
+        statusListeners.add(listener);
+    }
+    
+    /**
+     * Unregisters a listener for status changes.
+     *
+     * @param listener the listener to remove
+     * @return true if the listener was registered
+     */
+    public boolean removeStatusListener(RoomStatusListener listener) {
+        return statusListeners.remove(listener);
     }
     
     public String getDescription() {
@@ -103,7 +200,7 @@ public class Room {
      * @return true if room is available, false otherwise
      */
     public boolean isAvailable() {
-        return status == RoomStatus.AVAILABLE;
+        return getStatus() == RoomStatus.AVAILABLE;
     }
     
     /**
@@ -136,6 +233,6 @@ public class Room {
     @Override
     public String toString() {
         return String.format("Room{number=%s, type=%s, price=%.2f, status=%s}",
-                roomNumber, type.getDisplayName(), pricePerNight, status.getDisplayName());
+                roomNumber, type.getDisplayName(), pricePerNight, getStatus().getDisplayName());
     }
 }
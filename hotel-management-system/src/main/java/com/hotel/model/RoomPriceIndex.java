@@ -0,0 +1,41 @@
+package com.hotel.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Rooms ordered by price per night.
+ * Rooms with the same price share a bucket and keep the order they were added in.
+ */
+final class RoomPriceIndex {
+    
+    private final NavigableMap<Double, Set<Room>> roomsByPrice;
+    
+    RoomPriceIndex() {
+        this.roomsByPrice = new TreeMap<>();
+    }
+    
+    void add(Room room) {
+        roomsByPrice.computeIfAbsent(room.getPricePerNight(), k -> new LinkedHashSet<>()).add(room);
+    }
+    
+    void remove(Room room) {
+        Set<Room> bucket = roomsByPrice.get(room.getPricePerNight());
+        if (bucket != null && bucket.remove(room) && bucket.isEmpty()) {
+            roomsByPrice.remove(room.getPricePerNight());
+        }
+    }
+    
+    List<Room> toList(int size) {
+        List<Room> result = new ArrayList<>(size);
+        for (Collection<Room> bucket : roomsByPrice.values()) {
+            result.addAll(bucket);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package com.hotel.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Storage engine for a hotel's rooms.
+ * <p>
+ * Engines keep rooms in the order they were added and key them by room
+ * number. {@link #get} must be safe to call concurrently with mutations;
+ * mutations are serialized by the caller, such as {@link Hotel}, which
+ * calls them under its monitor. Room status is runtime state and is not
+ * part of what an engine has to store. Shipped engines are
+ * {@link InMemoryRoomRepository} and
+ * {@link com.hotel.persistence.FileRoomRepository}.
+ */
+public interface RoomRepository extends AutoCloseable {
+    
+    /**
+     * Adds a room unless its number is already stored.
+     *
+     * @param room the room to add (non-null)
+     * @return true if the room was added, false if its number is already stored
+     */
+    boolean add(Room room);
+    
+    /**
+     * Adds rooms, skipping numbers already stored, as one change where the engine can.
+     *
+     * @param rooms the rooms to add (non-null, no null elements)
+     * @return the rooms that were added, in order
+     */
+    default List<Room> addAll(Collection<Room> rooms) {
+        List<Room> added = new ArrayList<>();
+        for (Room room : rooms) {
+            if (add(room)) {
+                added.add(room);
+            }
+        }
+        return added;
+    }
+    
+    /**
+     * Removes a room.
+     *
+     * @param roomNumber the room number (non-null)
+     * @return the removed room, or null if not found
+     */
+    Room remove(String roomNumber);
+    
+    /**
+     * Gets a room by its number.
+     *
+     * @param roomNumber the room number (non-null)
+     * @return the room, or null if not found
+     */
+    Room get(String roomNumber);
+    
+    /**
+     * Gets every room in the order they were added.
+     *
+     * @return unmodifiable list of rooms
+     */
+    List<Room> getAll();
+    
+    /**
+     * Gets the number of rooms.
+     *
+     * @return room count
+     */
+    int size();
+    
+    /**
+     * Releases the engine's resources. The default does nothing.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,21 @@
+package com.hotel.model;
+
+/**
+ * Callback for rooms whose status changes.
+ * Lets owners such as {@link Hotel} keep derived indexes in sync with {@link Room#setStatus}
+ * and {@link Room#transition}.
+ * Status changes are lock-free, so notifications for one room may arrive
+ * out of order when several threads change it at once; listeners that keep
+ * state should reconcile against {@link Room#getStatus()}.
+ */
+public interface RoomStatusListener {
+    
+    /**
+     * Called after a room's status has changed to a different value.
+     *
+     * @param room the room whose status changed
+     * @param oldStatus the previous status
+     * @param newStatus the current status
+     */
+    void onStatusChanged(Room room, RoomStatus oldStatus, RoomStatus newStatus);
+}
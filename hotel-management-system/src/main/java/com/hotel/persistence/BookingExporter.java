@@ -0,0 +1,202 @@
+package com.hotel.persistence;
+
+import com.hotel.model.Booking;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streaming writer for bookings in CSV or newline-delimited JSON.
+ * <p>
+ * Bookings are written one at a time as the stream yields them, through a
+ * small buffer, so exporting the stream of
+ * {@link com.hotel.service.BookingService#streamAllBookings()} never holds the
+ * result set in memory. CSV output has the header and columns that
+ * {@link CsvImporter#importBookings} reads, with prices written exactly, so
+ * an export can be imported again unchanged. NDJSON output has one object per
+ * line with the field names of the HTTP API.
+ */
+public final class BookingExporter {
+
+    /** Output formats. */
+    public enum Format {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        /**
+         * Gets the media type of this format, for HTTP responses.
+         *
+         * @return the content type without charset
+         */
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    static final String CSV_HEADER = "bookingId,guestName,roomNumber,checkInDate,checkOutDate,totalPrice,status";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** Prices below this are written as exact cents; {@code price * 100} stays well inside 2^53. */
+    private static final double MAX_CENTS_PRICE = 1e13;
+
+    private BookingExporter() {
+    }
+
+    /**
+     * Writes bookings to an output stream as UTF-8.
+     * The output is flushed but not closed, and the booking stream is consumed but not closed.
+     *
+     * @param bookings the bookings to write (non-null)
+     * @param format the output format (non-null)
+     * @param out the stream to write to (non-null)
+     * @return the number of bookings written
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public static long export(Stream<Booking> bookings, Format format, OutputStream out) throws IOException {
+        if (bookings == null || format == null || out == null) {
+            throw new IllegalArgumentException("Bookings, format and output cannot be null");
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        // Each row is formatted into one reused buffer and handed to the
+        // writer in a single call; writing char by char costs a lock each
+        StringBuilder row = new StringBuilder(256);
+        char[] chars = new char[256];
+        long count = 0;
+        Iterator<Booking> iterator = bookings.iterator();
+        while (iterator.hasNext()) {
+            row.setLength(0);
+            if (format == Format.CSV) {
+                appendCsv(row, iterator.next());
+            } else {
+                appendJson(row, iterator.next());
+            }
+            if (chars.length < row.length()) {
+                chars = new char[row.capacity()];
+            }
+            row.getChars(0, row.length(), chars, 0);
+            writer.write(chars, 0, row.length());
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void appendCsv(StringBuilder row, Booking booking) {
+        appendCsvField(row, booking.getBookingId());
+        row.append(',');
+        appendCsvField(row, booking.getGuestName());
+        row.append(',');
+        appendCsvField(row, booking.getRoom().getRoomNumber());
+        row.append(',');
+        appendDate(row, booking.getCheckInDate());
+        row.append(',');
+        appendDate(row, booking.getCheckOutDate());
+        row.append(',');
+        double price = booking.getTotalPrice();
+        if (price >= 0 && price < MAX_CENTS_PRICE && Math.round(price * 100) / 100.0 == price) {
+            appendCents(row, price);
+        } else {
+            row.append(price);
+        }
+        row.append(',').append(booking.getStatus().name()).append('\n');
+    }
+
+    private static void appendCsvField(StringBuilder row, String value) {
+        boolean quoted = false;
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            char c = value.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quoted) {
+            row.append(value);
+            return;
+        }
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        row.append('"');
+    }
+
+    private static void appendJson(StringBuilder row, Booking booking) {
+        row.append("{\"bookingId\":");
+        appendJsonString(row, booking.getBookingId());
+        row.append(",\"guestName\":");
+        appendJsonString(row, booking.getGuestName());
+        row.append(",\"roomNumber\":");
+        appendJsonString(row, booking.getRoom().getRoomNumber());
+        row.append(",\"checkInDate\":\"");
+        appendDate(row, booking.getCheckInDate());
+        row.append("\",\"checkOutDate\":\"");
+        appendDate(row, booking.getCheckOutDate());
+        row.append("\",\"totalPrice\":");
+        appendCents(row, booking.getTotalPrice());
+        row.append(",\"status\":\"").append(booking.getStatus().name()).append("\"}\n");
+    }
+
+    private static void appendJsonString(StringBuilder row, String value) {
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                row.append('\\').append(c);
+            } else if (c < 0x20) {
+                row.append(String.format("\\u%04x", (int) c));
+            } else {
+                row.append(c);
+            }
+        }
+        row.append('"');
+    }
+
+    /**
+     * Appends an ISO date as {@link LocalDate#toString()} would, without
+     * building a string per date.
+     */
+    private static void appendDate(StringBuilder row, LocalDate date) {
+        int year = date.getYear();
+        if (year < 1000 || year > 9999) {
+            row.append(date);
+            return;
+        }
+        row.append(year).append('-');
+        appendTwoDigits(row, date.getMonthValue());
+        row.append('-');
+        appendTwoDigits(row, date.getDayOfMonth());
+    }
+
+    private static void appendTwoDigits(StringBuilder row, long value) {
+        row.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static void appendCents(StringBuilder row, double value) {
+        long cents = Math.round(Math.abs(value) * 100);
+        if (value < 0 && cents != 0) {
+            row.append('-');
+        }
+        row.append(cents / 100).append('.');
+        appendTwoDigits(row, cents % 100);
+    }
+}
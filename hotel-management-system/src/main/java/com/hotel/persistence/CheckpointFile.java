@@ -0,0 +1,254 @@
+package com.hotel.persistence;
+
+import com.hotel.model.Booking;
+import com.hotel.model.BookingStatus;
+import com.hotel.model.Hotel;
+import com.hotel.model.Room;
+import com.hotel.model.RoomStatus;
+import com.hotel.model.RoomType;
+import com.hotel.service.BookingServiceState;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact binary image of a hotel's rooms and bookings at one write-ahead
+ * log offset.
+ * Rooms and guest names are written once in tables and bookings refer to
+ * them by index; dates are stored as day offsets from the earliest date.
+ * Archived bookings come first and their count is recorded, so each
+ * booking is restored into the tier it was in. Files from before the count
+ * was recorded are still read, with every booking in the working set.
+ * The file ends with a CRC-32 of everything before it. It is written to a
+ * temporary file, forced, and then moved over the previous checkpoint, and
+ * the directory is forced after the move, so a crash leaves either the old
+ * or the new checkpoint in place.
+ */
+final class CheckpointFile {
+
+    private static final int MAGIC = 0x48434B32;
+    private static final int MAGIC_WITHOUT_TIERS = 0x48434B31;
+    private static final RoomType[] TYPES = RoomType.values();
+    private static final RoomStatus[] ROOM_STATUSES = RoomStatus.values();
+    private static final BookingStatus[] BOOKING_STATUSES = BookingStatus.values();
+
+    private final long logOffset;
+    private final List<Booking> bookings;
+    private final int archivedCount;
+
+    private CheckpointFile(long logOffset, List<Booking> bookings, int archivedCount) {
+        this.logOffset = logOffset;
+        this.bookings = bookings;
+        this.archivedCount = archivedCount;
+    }
+
+    long getLogOffset() {
+        return logOffset;
+    }
+
+    List<Booking> getBookings() {
+        return bookings;
+    }
+
+    /**
+     * Gets the number of archived bookings at the start of {@link #getBookings()}.
+     */
+    int getArchivedCount() {
+        return archivedCount;
+    }
+
+    /**
+     * Writes a checkpoint of the hotel's current rooms and a captured booking state.
+     */
+    static void write(Path target, Hotel hotel, BookingServiceState state) throws IOException {
+        List<Room> rooms = new ArrayList<>(hotel.getAllRooms());
+        int hotelRooms = rooms.size();
+        Map<String, Integer> roomIndexes = new HashMap<>();
+        for (int i = 0; i < rooms.size(); i++) {
+            roomIndexes.put(rooms.get(i).getRoomNumber(), i);
+        }
+        Map<String, Integer> guestIndexes = new HashMap<>();
+        List<String> guests = new ArrayList<>();
+        long minDay = Long.MAX_VALUE;
+        for (Booking booking : state.getBookings()) {
+            if (roomIndexes.putIfAbsent(booking.getRoom().getRoomNumber(), rooms.size()) == null) {
+                rooms.add(booking.getRoom());
+            }
+            if (guestIndexes.putIfAbsent(booking.getGuestName(), guests.size()) == null) {
+                guests.add(booking.getGuestName());
+            }
+            minDay = Math.min(minDay, booking.getCheckInDate().toEpochDay());
+        }
+        if (minDay == Long.MAX_VALUE) {
+            minDay = 0;
+        }
+
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream file = Channels.newOutputStream(channel);
+            CheckedOutputStream checked = new CheckedOutputStream(file, new CRC32());
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checked, 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeLong(state.getLogOffset());
+            out.writeInt(state.getArchivedCount());
+            out.writeLong(minDay);
+            out.writeInt(rooms.size());
+            for (int i = 0; i < rooms.size(); i++) {
+                Room room = rooms.get(i);
+                writeString(out, room.getRoomNumber());
+                out.writeByte(room.getType().ordinal());
+                out.writeDouble(room.getPricePerNight());
+                out.writeByte(room.getStatus().ordinal());
+                out.writeBoolean(i < hotelRooms);
+            }
+            out.writeInt(guests.size());
+            for (String guest : guests) {
+                writeString(out, guest);
+            }
+            out.writeInt(state.getBookings().size());
+            for (Booking booking : state.getBookings()) {
+                writeString(out, booking.getBookingId());
+                out.writeInt(roomIndexes.get(booking.getRoom().getRoomNumber()));
+                out.writeInt(guestIndexes.get(booking.getGuestName()));
+                out.writeInt((int) (booking.getCheckInDate().toEpochDay() - minDay));
+                out.writeInt((int) (booking.getCheckOutDate().toEpochDay() - booking.getCheckInDate().toEpochDay()));
+                out.writeDouble(booking.getTotalPrice());
+                out.writeByte(booking.getStatus().ordinal());
+            }
+            out.flush();
+            new DataOutputStream(file).writeLong(checked.getChecksum().getValue());
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        WriteAheadLog.forceDirectory(target);
+    }
+
+    /**
+     * Reads a checkpoint. Rooms the hotel does not have yet are added to it,
+     * and rooms that were under maintenance are put back under maintenance.
+     * The returned bookings refer to the hotel's rooms.
+     */
+    static CheckpointFile read(Path source, Hotel hotel) throws IOException {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < Integer.BYTES + 3 * Long.BYTES) {
+                throw new IOException("Checkpoint is truncated: " + source);
+            }
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+            crc.update(in.duplicate().limit((int) size - Long.BYTES));
+            if (crc.getValue() != in.getLong((int) size - Long.BYTES)) {
+                throw new IOException("Checkpoint checksum mismatch: " + source);
+            }
+            int magic = in.getInt();
+            if (magic != MAGIC && magic != MAGIC_WITHOUT_TIERS) {
+                throw new IOException("Not a checkpoint: " + source);
+            }
+            try {
+                return decode(in, hotel, magic == MAGIC);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+                throw new IOException("Corrupt checkpoint: " + source, e);
+            }
+        }
+    }
+
+    private static CheckpointFile decode(ByteBuffer in, Hotel hotel, boolean tiered) {
+        long logOffset = in.getLong();
+        int archivedCount = tiered ? in.getInt() : 0;
+        long minDay = in.getLong();
+        byte[] scratch = new byte[256];
+
+        Room[] rooms = new Room[in.getInt()];
+        for (int i = 0; i < rooms.length; i++) {
+            String roomNumber = readString(in, scratch);
+            RoomType type = TYPES[in.get()];
+            double price = in.getDouble();
+            RoomStatus status = ROOM_STATUSES[in.get()];
+            boolean inHotel = in.get() != 0;
+            Room room = inHotel ? hotel.getRoomByNumber(roomNumber) : null;
+            if (room == null) {
+                room = new Room(roomNumber, type, price);
+                if (inHotel) {
+                    hotel.addRoom(room);
+                }
+            }
+            if (status == RoomStatus.MAINTENANCE) {
+                room.setStatus(RoomStatus.MAINTENANCE);
+            }
+            rooms[i] = room;
+        }
+
+        String[] guests = new String[in.getInt()];
+        for (int i = 0; i < guests.length; i++) {
+            guests[i] = readString(in, scratch);
+        }
+
+        int count = in.getInt();
+        List<Booking> bookings = new ArrayList<>(count);
+        LocalDate[] dates = new LocalDate[64];
+        for (int i = 0; i < count; i++) {
+            String bookingId = readString(in, scratch);
+            Room room = rooms[in.getInt()];
+            String guest = guests[in.getInt()];
+            int checkIn = in.getInt();
+            int checkOut = checkIn + in.getInt();
+            double price = in.getDouble();
+            BookingStatus status = BOOKING_STATUSES[in.get()];
+            if (checkOut >= dates.length) {
+                dates = Arrays.copyOf(dates, Math.max(checkOut + 1, dates.length * 2));
+            }
+            bookings.add(Booking.restore(bookingId, guest, room, date(dates, checkIn, minDay),
+                    date(dates, checkOut, minDay), price, status));
+        }
+        if (archivedCount < 0 || archivedCount > count) {
+            throw new IllegalArgumentException("Archived count " + archivedCount + " exceeds " + count + " bookings");
+        }
+        return new CheckpointFile(logOffset, bookings, archivedCount);
+    }
+
+    private static LocalDate date(LocalDate[] dates, int day, long minDay) {
+        LocalDate date = dates[day];
+        if (date == null) {
+            date = LocalDate.ofEpochDay(minDay + day);
+            dates[day] = date;
+        }
+        return date;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IOException("String too long for checkpoint: " + bytes.length + " bytes");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in, byte[] scratch) {
+        int length = Short.toUnsignedInt(in.getShort());
+        byte[] bytes = length <= scratch.length ? scratch : new byte[length];
+        in.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,407 @@
+package com.hotel.persistence;
+
+import com.hotel.exception.HotelException;
+import com.hotel.model.Booking;
+import com.hotel.model.BookingStatus;
+import com.hotel.model.Hotel;
+import com.hotel.model.Room;
+import com.hotel.model.RoomStatus;
+import com.hotel.model.RoomType;
+import com.hotel.service.BookingService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Streaming importer for a hotel's rooms and booking history in CSV form.
+ * <p>
+ * Input is read in chunks of lines. Each chunk is parsed and validated in
+ * parallel on the common fork-join pool and then registered in one bulk
+ * call, {@link Hotel#addRooms} or {@link BookingService#importBookings}, so
+ * locks are taken and indexes updated once per chunk instead of once per
+ * row. Besides the imported objects themselves, memory use is bounded by the
+ * chunk size. A rejected row is counted and reported with its line number;
+ * the rest of its chunk is still imported.
+ * <p>
+ * Room rows are {@code roomNumber,type,pricePerNight[,status]}. Booking rows
+ * are {@code bookingId,guestName,roomNumber,checkInDate,checkOutDate,totalPrice,status}
+ * with ISO dates; past dates are accepted and the room must already be in
+ * the hotel. Fields may be enclosed in double quotes, with a quote inside
+ * written twice. A first line whose first field is the first column name is
+ * skipped as a header, as are blank lines. Imported bookings are not written
+ * to a write-ahead log; take a checkpoint after importing into a persistent
+ * hotel.
+ */
+public final class CsvImporter {
+
+    /** Default number of lines parsed and registered together. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private static final int FIRST_CACHED_YEAR = 1900;
+    private static final int CACHED_YEARS = 300;
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15};
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+    private static final RoomStatus[] ROOM_STATUSES = RoomStatus.values();
+    private static final BookingStatus[] BOOKING_STATUSES = BookingStatus.values();
+
+    private final Hotel hotel;
+    private final BookingService bookingService;
+    private final int chunkSize;
+    private final ConcurrentMap<String, String> guestNames;
+    private final LocalDate[] dates;
+
+    /**
+     * Creates an importer with the default chunk size.
+     *
+     * @param hotel the hotel to import rooms into (non-null)
+     * @param bookingService the service to import bookings into (non-null)
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public CsvImporter(Hotel hotel, BookingService bookingService) {
+        this(hotel, bookingService, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates an importer.
+     *
+     * @param hotel the hotel to import rooms into (non-null)
+     * @param bookingService the service to import bookings into (non-null)
+     * @param chunkSize number of lines parsed and registered together (positive)
+     * @throws IllegalArgumentException if any parameter is null or chunkSize is not positive
+     */
+    public CsvImporter(Hotel hotel, BookingService bookingService, int chunkSize) {
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel cannot be null");
+        }
+        if (bookingService == null) {
+            throw new IllegalArgumentException("Booking service cannot be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.hotel = hotel;
+        this.bookingService = bookingService;
+        this.chunkSize = chunkSize;
+        this.guestNames = new ConcurrentHashMap<>();
+        this.dates = new LocalDate[CACHED_YEARS * 16 * 32];
+    }
+
+    /**
+     * Imports rooms from a UTF-8 CSV file.
+     *
+     * @param file the CSV file (non-null)
+     * @return the import report
+     * @throws IOException if the file cannot be read
+     */
+    public ImportReport importRooms(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importRooms(reader);
+        }
+    }
+
+    /**
+     * Imports rooms from CSV text. A room number that is already in the
+     * hotel, or repeated in the input, is rejected.
+     *
+     * @param input the CSV text (non-null)
+     * @return the import report
+     * @throws IOException if the input cannot be read
+     */
+    public ImportReport importRooms(Reader input) throws IOException {
+        return importChunks(input, "roomNumber", this::parseRoom, rooms -> {
+            hotel.addRooms(rooms);
+            String[] failures = new String[rooms.size()];
+            for (int i = 0; i < failures.length; i++) {
+                Room room = rooms.get(i);
+                if (hotel.getRoomByNumber(room.getRoomNumber()) != room) {
+                    failures[i] = "Room already exists: " + room.getRoomNumber();
+                }
+            }
+            return failures;
+        });
+    }
+
+    /**
+     * Imports bookings from a UTF-8 CSV file.
+     *
+     * @param file the CSV file (non-null)
+     * @return the import report
+     * @throws IOException if the file cannot be read
+     */
+    public ImportReport importBookings(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importBookings(reader);
+        }
+    }
+
+    /**
+     * Imports bookings from CSV text, with the checks of
+     * {@link BookingService#importBookings}.
+     *
+     * @param input the CSV text (non-null)
+     * @return the import report
+     * @throws IOException if the input cannot be read
+     */
+    public ImportReport importBookings(Reader input) throws IOException {
+        return importChunks(input, "bookingId", this::parseBooking, bookings -> {
+            HotelException[] rejected = bookingService.importBookings(bookings);
+            String[] failures = new String[rejected.length];
+            for (int i = 0; i < failures.length; i++) {
+                failures[i] = rejected[i] == null ? null : rejected[i].getMessage();
+            }
+            return failures;
+        });
+    }
+
+    /**
+     * Reads, parses and registers the input one chunk at a time. The loader
+     * returns one entry per parsed row, null if it was registered.
+     */
+    private <T> ImportReport importChunks(Reader input, String header, Function<String[], T> parser,
+                                          Function<List<T>, String[]> loader) throws IOException {
+        if (input == null) {
+            throw new IllegalArgumentException("Input cannot be null");
+        }
+        BufferedReader reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+        ImportReport report = new ImportReport();
+        String[] lines = new String[chunkSize];
+        long[] lineNumbers = new long[chunkSize];
+        Object[] parsed = new Object[chunkSize];
+        String[] errors = new String[chunkSize];
+        long lineNumber = 0;
+        while (true) {
+            int count = 0;
+            String line;
+            while (count < chunkSize && (line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty() || (lineNumber == 1 && isHeader(line, header))) {
+                    continue;
+                }
+                lines[count] = line;
+                lineNumbers[count] = lineNumber;
+                count++;
+            }
+            if (count == 0) {
+                break;
+            }
+
+            IntStream.range(0, count).parallel().forEach(i -> {
+                try {
+                    parsed[i] = parser.apply(split(lines[i]));
+                    errors[i] = null;
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    parsed[i] = null;
+                    errors[i] = e.getMessage();
+                }
+            });
+
+            List<T> valid = new ArrayList<>(count);
+            int[] rows = new int[count];
+            for (int i = 0; i < count; i++) {
+                if (errors[i] == null) {
+                    rows[valid.size()] = i;
+                    @SuppressWarnings("unchecked")
+                    T value = (T) parsed[i];
+                    valid.add(value);
+                }
+            }
+            String[] failures = valid.isEmpty() ? new String[0] : loader.apply(valid);
+            for (int i = 0; i < failures.length; i++) {
+                errors[rows[i]] = failures[i];
+            }
+            int imported = 0;
+            for (int i = 0; i < count; i++) {
+                if (errors[i] == null) {
+                    imported++;
+                } else {
+                    report.addRejected(lineNumbers[i], errors[i]);
+                }
+            }
+            report.addImported(imported);
+            Arrays.fill(lines, 0, count, null);
+            Arrays.fill(parsed, 0, count, null);
+        }
+        return report;
+    }
+
+    private Room parseRoom(String[] fields) {
+        requireColumns(fields, 3, 4);
+        Room room = new Room(fields[0], parseEnum(ROOM_TYPES, fields[1]), parseNumber(fields[2]));
+        if (fields.length == 4 && !fields[3].trim().isEmpty()) {
+            room.setStatus(parseEnum(ROOM_STATUSES, fields[3]));
+        }
+        return room;
+    }
+
+    private Booking parseBooking(String[] fields) {
+        requireColumns(fields, 7, 7);
+        Room room = hotel.getRoomByNumber(fields[2]);
+        if (room == null) {
+            throw new IllegalArgumentException("Room not found: " + fields[2].trim());
+        }
+        String guestName = guestNames.computeIfAbsent(fields[1].trim(), Function.identity());
+        return Booking.restore(fields[0], guestName, room, parseDate(fields[3]), parseDate(fields[4]),
+                parseNumber(fields[5]), parseEnum(BOOKING_STATUSES, fields[6]));
+    }
+
+    /**
+     * Parses an ISO date. Dates in common years are shared, so a long
+     * history holds one object per distinct day.
+     */
+    private LocalDate parseDate(String field) {
+        String text = field.trim();
+        if (text.length() != 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return LocalDate.parse(text);
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 7);
+        int day = digits(text, 8, 10);
+        if (year < FIRST_CACHED_YEAR || year >= FIRST_CACHED_YEAR + CACHED_YEARS
+                || month < 1 || month > 12 || day < 1 || day > 31) {
+            return LocalDate.parse(text);
+        }
+        int slot = ((year - FIRST_CACHED_YEAR) * 16 + month) * 32 + day;
+        LocalDate date = dates[slot];
+        if (date == null) {
+            // Racing threads may each create the date; LocalDate is immutable, so either copy is fine
+            date = LocalDate.of(year, month, day);
+            dates[slot] = date;
+        }
+        return date;
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static double parseNumber(String field) {
+        String text = field.trim();
+        double plain = parsePlainDecimal(text);
+        if (plain >= 0) {
+            return plain;
+        }
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number: " + text);
+        }
+    }
+
+    /**
+     * Parses digits with an optional fraction, such as {@code 249.50}, or
+     * returns -1 for anything else. Up to 15 digits are exact in a long, so
+     * the single division rounds exactly as {@link Double#parseDouble} does.
+     */
+    private static double parsePlainDecimal(String text) {
+        int length = text.length();
+        int point = text.indexOf('.');
+        int digitCount = point < 0 ? length : length - 1;
+        if (digitCount == 0 || digitCount > 15 || point == 0 || point == length - 1) {
+            return -1;
+        }
+        long digits = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = digits * 10 + (c - '0');
+            } else if (i != point) {
+                return -1;
+            }
+        }
+        return point < 0 ? digits : digits / POWERS_OF_TEN[length - 1 - point];
+    }
+
+    private static <E extends Enum<E>> E parseEnum(E[] values, String field) {
+        String name = field.trim();
+        for (E value : values) {
+            if (value.name().equalsIgnoreCase(name)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid " + values[0].getDeclaringClass().getSimpleName() + ": " + name);
+    }
+
+    private static void requireColumns(String[] fields, int min, int max) {
+        if (fields.length < min || fields.length > max) {
+            throw new IllegalArgumentException("Expected " + (min == max ? String.valueOf(min) : min + " to " + max)
+                    + " columns but found " + fields.length);
+        }
+    }
+
+    private static boolean isHeader(String line, String firstColumn) {
+        String[] fields = split(line);
+        return fields.length > 0 && fields[0].trim().equalsIgnoreCase(firstColumn);
+    }
+
+    /**
+     * Splits one CSV line into fields. Lines without quotes take a fast path.
+     */
+    static String[] split(String line) {
+        if (line.indexOf('"') < 0) {
+            int count = 1;
+            for (int comma = line.indexOf(','); comma >= 0; comma = line.indexOf(',', comma + 1)) {
+                count++;
+            }
+            String[] fields = new String[count];
+            int start = 0;
+            for (int i = 0; i < count - 1; i++) {
+                int comma = line.indexOf(',', start);
+                fields[i] = line.substring(start, comma);
+                start = comma + 1;
+            }
+            fields[count - 1] = line.substring(start);
+            return fields;
+        }
+
+        List<String> fields = new ArrayList<>(8);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,29 @@
+package com.hotel.persistence;
+
+/**
+ * When a {@link WriteAheadLog} forces appended records to disk, and how
+ * long writers wait for it.
+ */
+public enum DurabilityPolicy {
+    
+    /**
+     * Sync as soon as records are pending and wait for the sync.
+     * Writers that append while a sync is running share the next one.
+     */
+    PER_OPERATION,
+    
+    /**
+     * Like {@link #PER_OPERATION}, but once a sync has been shared by several
+     * writers, the next one waits up to the batching interval until as many
+     * records are pending again, so the group stays together. A lone writer
+     * never waits, so it syncs as soon as under {@link #PER_OPERATION}.
+     */
+    BATCHED,
+    
+    /**
+     * Write records in the background and sync them at the batching
+     * interval without making writers wait. A crash may lose the last
+     * interval's records.
+     */
+    ASYNC
+}
@@ -0,0 +1,248 @@
+package com.hotel.persistence;
+
+import com.hotel.model.InMemoryRoomRepository;
+import com.hotel.model.Room;
+import com.hotel.model.RoomRepository;
+import com.hotel.model.RoomType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Room engine backed by a local append-only file.
+ * <p>
+ * Every addition and removal is appended as a checksummed record and forced
+ * to disk before the call returns; {@link #addAll} writes and forces its
+ * rooms as one record batch. Opening the file replays the records into an
+ * {@link InMemoryRoomRepository} that serves all reads, so lookups cost the
+ * same as in memory. A torn or corrupt record at the end, left by a crash
+ * during a write, is dropped and truncated away. Room number, type and
+ * nightly price are stored; reopened rooms start out available.
+ */
+public final class FileRoomRepository implements RoomRepository {
+
+    private static final int MAGIC = 0x48524D31;
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final RoomType[] TYPES = RoomType.values();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final InMemoryRoomRepository rooms;
+
+    /**
+     * Opens the file, creating it if needed, and loads the rooms it records.
+     *
+     * @param path the room file (non-null)
+     * @throws IOException if the file cannot be opened or is not a room file
+     * @throws IllegalArgumentException if path is null
+     */
+    public FileRoomRepository(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        this.path = path;
+        this.rooms = new InMemoryRoomRepository();
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public boolean add(Room room) {
+        if (room == null) {
+            throw new IllegalArgumentException("Room cannot be null");
+        }
+        if (rooms.get(room.getRoomNumber()) != null) {
+            return false;
+        }
+        append(List.of(encodeAdd(room)));
+        return rooms.add(room);
+    }
+
+    @Override
+    public List<Room> addAll(Collection<Room> newRooms) {
+        List<Room> added = new ArrayList<>();
+        Set<String> numbers = new HashSet<>();
+        for (Room room : newRooms) {
+            if (room == null) {
+                throw new IllegalArgumentException("Room cannot be null");
+            }
+            if (rooms.get(room.getRoomNumber()) == null && numbers.add(room.getRoomNumber())) {
+                added.add(room);
+            }
+        }
+        if (added.isEmpty()) {
+            return added;
+        }
+        List<ByteBuffer> records = new ArrayList<>(added.size());
+        for (Room room : added) {
+            records.add(encodeAdd(room));
+        }
+        append(records);
+        for (Room room : added) {
+            rooms.add(room);
+        }
+        return added;
+    }
+
+    @Override
+    public Room remove(String roomNumber) {
+        if (rooms.get(roomNumber) == null) {
+            return null;
+        }
+        byte[] number = roomNumber.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(1 + 2 + number.length);
+        payload.put(REMOVE).putShort((short) number.length).put(number).flip();
+        append(List.of(payload));
+        return rooms.remove(roomNumber);
+    }
+
+    @Override
+    public Room get(String roomNumber) {
+        return rooms.get(roomNumber);
+    }
+
+    @Override
+    public List<Room> getAll() {
+        return rooms.getAll();
+    }
+
+    @Override
+    public int size() {
+        return rooms.size();
+    }
+
+    /**
+     * Closes the file. Rooms already loaded stay readable; changes fail.
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer encodeAdd(Room room) {
+        byte[] number = room.getRoomNumber().getBytes(StandardCharsets.UTF_8);
+        if (number.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Room number is too long: " + room.getRoomNumber());
+        }
+        ByteBuffer payload = ByteBuffer.allocate(1 + 2 + number.length + 1 + 8);
+        payload.put(ADD).putShort((short) number.length).put(number)
+                .put((byte) room.getType().ordinal()).putDouble(room.getPricePerNight()).flip();
+        return payload;
+    }
+
+    /**
+     * Frames each payload as [length][payload][CRC-32 of payload], writes
+     * them in one call and forces the file.
+     */
+    private void append(List<ByteBuffer> payloads) {
+        int size = 0;
+        for (ByteBuffer payload : payloads) {
+            size += 8 + payload.remaining();
+        }
+        ByteBuffer frames = ByteBuffer.allocate(size);
+        CRC32 crc = new CRC32();
+        for (ByteBuffer payload : payloads) {
+            crc.reset();
+            crc.update(payload.duplicate());
+            frames.putInt(payload.remaining()).put(payload).putInt((int) crc.getValue());
+        }
+        frames.flip();
+        try {
+            while (frames.hasRemaining()) {
+                channel.write(frames);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write room file " + path, e);
+        }
+    }
+
+    private void load() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            ByteBuffer header = ByteBuffer.allocate(4).putInt(MAGIC);
+            header.flip();
+            channel.write(header, 0);
+            channel.force(false);
+            channel.position(4);
+            return;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Room file " + path + " is too large");
+        }
+        ByteBuffer file = ByteBuffer.allocate((int) size);
+        while (file.hasRemaining() && channel.read(file, file.position()) >= 0) {
+            // read the whole file
+        }
+        file.flip();
+        if (file.remaining() < 4 || file.getInt() != MAGIC) {
+            throw new IOException("Not a room file: " + path);
+        }
+        CRC32 crc = new CRC32();
+        int end = file.position();
+        while (file.remaining() >= 8) {
+            int length = file.getInt();
+            if (length <= 0 || file.remaining() < length + 4) {
+                break;
+            }
+            ByteBuffer payload = file.slice();
+            payload.limit(length);
+            file.position(file.position() + length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if (file.getInt() != (int) crc.getValue()) {
+                break;
+            }
+            apply(payload);
+            end = file.position();
+        }
+        if (end < size) {
+            channel.truncate(end);
+        }
+        channel.position(end);
+    }
+
+    private void apply(ByteBuffer payload) throws IOException {
+        byte op = payload.get();
+        byte[] number = new byte[payload.getShort()];
+        payload.get(number);
+        String roomNumber = new String(number, StandardCharsets.UTF_8);
+        if (op == ADD) {
+            int type = payload.get();
+            if (type < 0 || type >= TYPES.length) {
+                throw new IOException("Unknown room type " + type + " in " + path);
+            }
+            rooms.add(new Room(roomNumber, TYPES[type], payload.getDouble()));
+        } else if (op == REMOVE) {
+            rooms.remove(roomNumber);
+        } else {
+            throw new IOException("Unknown record " + op + " in " + path);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.hotel.persistence;
+
+import com.hotel.model.Booking;
+import com.hotel.model.BookingStatus;
+import com.hotel.model.Hotel;
+import com.hotel.model.Room;
+import com.hotel.service.BookingService;
+import com.hotel.service.BookingServiceState;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Durable home for one hotel's bookings: a {@link WriteAheadLog} plus
+ * periodic checkpoints, kept together in one directory.
+ * <p>
+ * Opening loads the latest checkpoint, if any, and replays only the log
+ * records appended after it, so startup time depends on the size of the
+ * checkpoint and the log tail rather than on the whole history.
+ * A checkpoint copies the booking registry under a brief read lock, syncs
+ * the log up to the copied position and then encodes and writes the file
+ * without holding any lock, so bookings continue meanwhile. Once the
+ * checkpoint is on disk the log is truncated to the records after it, so
+ * neither the log file nor its recovery scan grows with the history.
+ * Checkpoints record which bookings {@link BookingService#compact} had
+ * archived, and opening restores those into the archive tier, so
+ * compaction survives a restart.
+ * Checkpoints normally run on a background thread through
+ * {@link #checkpointAsync} or {@link #scheduleCheckpoints}.
+ * <p>
+ * Rooms added through {@link BookingService#addRoom} are logged and
+ * recreated on replay. Log records that still name a room the hotel does
+ * not have are skipped, counted in {@link #getSkippedRecordCount()} and
+ * reported as a warning.
+ */
+public final class HotelPersistence implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(HotelPersistence.class.getName());
+
+    /** File name of the write-ahead log inside the directory. */
+    public static final String LOG_FILE = "bookings.wal";
+
+    /** File name of the latest checkpoint inside the directory. */
+    public static final String CHECKPOINT_FILE = "checkpoint.bin";
+
+    private final Path directory;
+    private final Hotel hotel;
+    private final WriteAheadLog log;
+    private final BookingService bookingService;
+    private final ScheduledExecutorService checkpointer;
+    private long skippedRecords;
+
+    private HotelPersistence(Path directory, Hotel hotel, WriteAheadLog log) {
+        this.directory = directory;
+        this.hotel = hotel;
+        this.log = log;
+        this.bookingService = new BookingService(hotel, log);
+        this.checkpointer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "hotel-checkpointer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens the persistent state in a directory, creating it if needed, and
+     * restores it into the given hotel.
+     * Rooms recorded in the checkpoint that the hotel lacks are added to it.
+     *
+     * @param directory the directory holding the log and checkpoint (non-null)
+     * @param hotel the hotel to restore into (non-null)
+     * @param policy the log's durability policy (non-null)
+     * @return the opened persistence
+     * @throws IOException if the files cannot be read or are corrupt
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public static HotelPersistence open(Path directory, Hotel hotel, DurabilityPolicy policy) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel cannot be null");
+        }
+        Files.createDirectories(directory);
+        Path logPath = directory.resolve(LOG_FILE);
+        Path checkpointPath = directory.resolve(CHECKPOINT_FILE);
+
+        HotelPersistence persistence = new HotelPersistence(directory, hotel, new WriteAheadLog(logPath, policy));
+        WriteAheadLog log = persistence.log;
+        try {
+            if (Files.exists(checkpointPath)) {
+                CheckpointFile checkpoint = CheckpointFile.read(checkpointPath, hotel);
+                if (checkpoint.getLogOffset() > log.getEndOffset()) {
+                    throw new IOException("Checkpoint " + checkpointPath + " is ahead of log " + logPath);
+                }
+                if (checkpoint.getLogOffset() < log.getStartOffset()) {
+                    throw new IOException("Log " + logPath + " no longer holds the records after checkpoint "
+                            + checkpointPath);
+                }
+                List<Booking> bookings = checkpoint.getBookings();
+                int archived = checkpoint.getArchivedCount();
+                persistence.bookingService.restoreArchivedBookings(bookings.subList(0, archived));
+                persistence.bookingService.restoreBookings(bookings.subList(archived, bookings.size()));
+                persistence.replay(logPath, checkpoint.getLogOffset());
+            } else {
+                persistence.replay(logPath, -1);
+            }
+            if (persistence.skippedRecords > 0) {
+                LOGGER.warning("Skipped " + persistence.skippedRecords + " log records in " + logPath
+                        + " that name rooms hotel " + hotel.getHotelId() + " does not have");
+            }
+            return persistence;
+        } catch (IOException | RuntimeException e) {
+            persistence.close();
+            throw e;
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Hotel getHotel() {
+        return hotel;
+    }
+
+    public BookingService getBookingService() {
+        return bookingService;
+    }
+
+    public WriteAheadLog getLog() {
+        return log;
+    }
+
+    /**
+     * Gets the number of log records skipped while opening because they
+     * named a room the hotel does not have.
+     *
+     * @return skipped record count
+     */
+    public long getSkippedRecordCount() {
+        return skippedRecords;
+    }
+
+    /**
+     * Writes a checkpoint now on the calling thread, then drops the log
+     * records it covers. Concurrent checkpoints are serialized.
+     *
+     * @throws IOException if the checkpoint cannot be written, or the log
+     *                     cannot be truncated after it (the checkpoint is then still valid)
+     */
+    public synchronized void checkpoint() throws IOException {
+        BookingServiceState state = bookingService.captureState();
+        log.sync();
+        CheckpointFile.write(directory.resolve(CHECKPOINT_FILE), hotel, state);
+        log.truncateBefore(state.getLogOffset());
+    }
+
+    /**
+     * Writes a checkpoint on the background thread.
+     *
+     * @return a future completed when the checkpoint is on disk
+     */
+    public CompletableFuture<Void> checkpointAsync() {
+        return CompletableFuture.runAsync(this::checkpointUnchecked, checkpointer);
+    }
+
+    /**
+     * Writes a checkpoint on the background thread at a fixed interval.
+     * A failed checkpoint is skipped and retried at the next interval.
+     *
+     * @param period time between checkpoints (positive)
+     * @param unit unit of the period (non-null)
+     * @throws IllegalArgumentException if period is not positive
+     */
+    public void scheduleCheckpoints(long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Checkpoint period must be positive");
+        }
+        checkpointer.scheduleAtFixedRate(() -> {
+            try {
+                checkpoint();
+            } catch (IOException | RuntimeException e) {
+                // Keep the schedule alive; the previous checkpoint and the log still cover everything
+                LOGGER.log(Level.WARNING, "Scheduled checkpoint of " + directory + " failed", e);
+            }
+        }, period, period, unit);
+    }
+
+    /**
+     * Stops background checkpoints and closes the log.
+     * A checkpoint that is already running is allowed to finish.
+     */
+    @Override
+    public void close() {
+        checkpointer.shutdown();
+        try {
+            checkpointer.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.close();
+    }
+
+    private void checkpointUnchecked() {
+        try {
+            checkpoint();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Applies the log records after an offset, or the whole log when the
+     * offset is negative. Consecutive creations are restored in one batch;
+     * records for rooms the hotel lacks are counted and skipped.
+     */
+    private void replay(Path logPath, long fromOffset) throws IOException {
+        List<Booking> created = new ArrayList<>();
+        Consumer<LogRecord> apply = record -> {
+            if (record.getType() != LogRecord.Type.BOOKING_CREATED) {
+                flush(created);
+            }
+            Room room = record.getRoomNumber() == null ? null : hotel.getRoomByNumber(record.getRoomNumber());
+            switch (record.getType()) {
+                case BOOKING_CREATED:
+                    if (room != null) {
+                        created.add(Booking.restore(record.getBookingId(), record.getGuestName(), room,
+                                record.getCheckInDate(), record.getCheckOutDate(), record.getTotalPrice(),
+                                BookingStatus.CONFIRMED));
+                    } else {
+                        skippedRecords++;
+                    }
+                    break;
+                case BOOKING_CANCELLED:
+                    bookingService.restoreCancellation(record.getBookingId());
+                    break;
+                case ROOM_ADDED:
+                    if (room == null) {
+                        hotel.addRoom(new Room(record.getRoomNumber(), record.getRoomType(),
+                                record.getPricePerNight()));
+                    }
+                    break;
+                default:
+                    if (room != null) {
+                        room.setStatus(record.getRoomStatus());
+                    } else {
+                        skippedRecords++;
+                    }
+                    break;
+            }
+        };
+        if (fromOffset < 0) {
+            WriteAheadLog.replay(logPath, apply);
+        } else {
+            WriteAheadLog.replay(logPath, fromOffset, apply);
+        }
+        flush(created);
+    }
+
+    private void flush(List<Booking> created) {
+        if (!created.isEmpty()) {
+            bookingService.restoreBookings(created);
+            created.clear();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hotel.persistence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of one {@link CsvImporter} run: how many rows were imported and
+ * rejected, and the reasons for the first rejections.
+ */
+public final class ImportReport {
+
+    /** Maximum number of rejection messages kept. */
+    public static final int MAX_ERRORS = 100;
+
+    private long imported;
+    private long rejected;
+    private final List<String> errors;
+
+    ImportReport() {
+        this.errors = new ArrayList<>();
+    }
+
+    void addImported(int count) {
+        imported += count;
+    }
+
+    void addRejected(long lineNumber, String reason) {
+        rejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add("line " + lineNumber + ": " + reason);
+        }
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Gets the reasons for the first {@value #MAX_ERRORS} rejected rows,
+     * each prefixed with its line number.
+     *
+     * @return unmodifiable list of messages
+     */
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReport{imported=" + imported + ", rejected=" + rejected + "}";
+    }
+}
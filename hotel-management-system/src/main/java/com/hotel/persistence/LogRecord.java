@@ -0,0 +1,124 @@
+package com.hotel.persistence;
+
+import com.hotel.model.RoomStatus;
+import com.hotel.model.RoomType;
+
+import java.time.LocalDate;
+
+/**
+ * One decoded entry of a {@link WriteAheadLog}.
+ * Fields that do not apply to the record's type are null or zero.
+ */
+public final class LogRecord {
+    
+    /**
+     * Kind of change a record describes.
+     */
+    public enum Type {
+        BOOKING_CREATED,
+        BOOKING_CANCELLED,
+        ROOM_STATUS,
+        ROOM_ADDED
+    }
+    
+    private final Type type;
+    private final String bookingId;
+    private final String guestName;
+    private final String roomNumber;
+    private final LocalDate checkInDate;
+    private final LocalDate checkOutDate;
+    private final double totalPrice;
+    private final RoomStatus roomStatus;
+    private final RoomType roomType;
+    private final double pricePerNight;
+    
+    private LogRecord(Type type, String bookingId, String guestName, String roomNumber,
+                      LocalDate checkInDate, LocalDate checkOutDate, double totalPrice, RoomStatus roomStatus,
+                      RoomType roomType, double pricePerNight) {
+        this.type = type;
+        this.bookingId = bookingId;
+        this.guestName = guestName;
+        this.roomNumber = roomNumber;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        this.totalPrice = totalPrice;
+        this.roomStatus = roomStatus;
+        this.roomType = roomType;
+        this.pricePerNight = pricePerNight;
+    }
+    
+    static LogRecord bookingCreated(String bookingId, String guestName, String roomNumber,
+                                    LocalDate checkInDate, LocalDate checkOutDate, double totalPrice) {
+        return new LogRecord(Type.BOOKING_CREATED, bookingId, guestName, roomNumber,
+                checkInDate, checkOutDate, totalPrice, null, null, 0.0);
+    }
+    
+    static LogRecord bookingCancelled(String bookingId) {
+        return new LogRecord(Type.BOOKING_CANCELLED, bookingId, null, null, null, null, 0.0, null, null, 0.0);
+    }
+    
+    static LogRecord roomStatus(String roomNumber, RoomStatus roomStatus) {
+        return new LogRecord(Type.ROOM_STATUS, null, null, roomNumber, null, null, 0.0, roomStatus, null, 0.0);
+    }
+    
+    static LogRecord roomAdded(String roomNumber, RoomType roomType, double pricePerNight) {
+        return new LogRecord(Type.ROOM_ADDED, null, null, roomNumber, null, null, 0.0, null,
+                roomType, pricePerNight);
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public String getBookingId() {
+        return bookingId;
+    }
+    
+    public String getGuestName() {
+        return guestName;
+    }
+    
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+    
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+    
+    public double getTotalPrice() {
+        return totalPrice;
+    }
+    
+    public RoomStatus getRoomStatus() {
+        return roomStatus;
+    }
+    
+    public RoomType getRoomType() {
+        return roomType;
+    }
+    
+    public double getPricePerNight() {
+        return pricePerNight;
+    }
+    
+    @Override
+    public String toString() {
+        switch (type) {
+            case BOOKING_CREATED:
+                return String.format("LogRecord{%s, id=%s, guest=%s, room=%s, %s to %s, price=%.2f}",
+                        type, bookingId, guestName, roomNumber, checkInDate, checkOutDate, totalPrice);
+            case BOOKING_CANCELLED:
+                return String.format("LogRecord{%s, id=%s}", type, bookingId);
+            case ROOM_ADDED:
+                return String.format("LogRecord{%s, room=%s, type=%s, price=%.2f}",
+                        type, roomNumber, roomType, pricePerNight);
+            default:
+                return String.format("LogRecord{%s, room=%s, status=%s}", type, roomNumber, roomStatus);
+        }
+    }
+}
@@ -0,0 +1,785 @@
+package com.hotel.persistence;
+
+import com.hotel.model.Booking;
+import com.hotel.model.Room;
+import com.hotel.model.RoomStatus;
+import com.hotel.model.RoomType;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary log of booking creations, cancellations, room
+ * additions and room status changes.
+ * <p>
+ * Appending only copies the encoded record into an in-memory buffer and
+ * returns its sequence number. A single writer thread swaps the buffer out,
+ * writes it through a {@link FileChannel} and forces it to disk, so every
+ * record appended while one sync runs is covered by the next one (group
+ * commit). {@link #awaitDurable} blocks until a sequence number is on disk,
+ * according to the {@link DurabilityPolicy}.
+ * <p>
+ * The file starts with a 4-byte magic number and the 8-byte offset of its
+ * first record. Each record is framed as a 4-byte payload length, a 4-byte
+ * CRC-32 of the payload, then the payload. Opening an existing log truncates
+ * it after the last intact record, which discards a record torn by a crash.
+ * <p>
+ * Offsets such as {@link #getEndOffset()} are logical: they count every
+ * byte ever appended, so they stay valid after {@link #truncateBefore}
+ * drops the records a checkpoint already covers. Until the first
+ * truncation, an offset is also the record's position in the file.
+ */
+public final class WriteAheadLog implements AutoCloseable {
+
+    /** Default batching interval for {@link DurabilityPolicy#BATCHED} and {@link DurabilityPolicy#ASYNC}. */
+    public static final long DEFAULT_BATCH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private static final int MAGIC = 0x48574C32;
+    private static final int HEADER_SIZE = 12;
+    private static final int FRAME_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final LogRecord.Type[] TYPES = LogRecord.Type.values();
+    private static final RoomStatus[] STATUSES = RoomStatus.values();
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+
+    private final Path path;
+    private FileChannel channel;
+    private final DurabilityPolicy policy;
+    private final long batchIntervalNanos;
+    private final ReentrantLock lock;
+    private final Condition recordsPending;
+    private final Condition synced;
+    private final Thread writer;
+    private ByteBuffer pending;
+    private ByteBuffer spare;
+    private long appendedSequence;
+    private long startOffset;
+    private long endOffset;
+    private long writtenOffset;
+    private long truncateTo;
+    private long truncateRequests;
+    private long truncationsDone;
+    private IOException truncateFailure;
+    private long durableSequence;
+    private long syncCount;
+    private long lastBatchRecords;
+    private boolean syncRequested;
+    private boolean open;
+    private volatile IOException failure;
+
+    /**
+     * Opens or creates a log with the default batching interval.
+     *
+     * @param path the log file (non-null)
+     * @param policy the durability policy (non-null)
+     * @throws IOException if the file cannot be opened or is not a log
+     */
+    public WriteAheadLog(Path path, DurabilityPolicy policy) throws IOException {
+        this(path, policy, DEFAULT_BATCH_INTERVAL_NANOS);
+    }
+
+    /**
+     * Opens or creates a log.
+     *
+     * @param path the log file (non-null)
+     * @param policy the durability policy (non-null)
+     * @param batchIntervalNanos the longest a batched sync waits for more records,
+     *                           and how often an async log syncs (non-negative)
+     * @throws IOException if the file cannot be opened or is not a log
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public WriteAheadLog(Path path, DurabilityPolicy policy, long batchIntervalNanos) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Log path cannot be null");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Durability policy cannot be null");
+        }
+        if (batchIntervalNanos < 0) {
+            throw new IllegalArgumentException("Batch interval cannot be negative");
+        }
+        this.path = path;
+        this.policy = policy;
+        this.batchIntervalNanos = batchIntervalNanos;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            startOffset = recover();
+            endOffset = scan(channel, path, -1, record -> { });
+            writtenOffset = endOffset;
+            long fileEnd = HEADER_SIZE + endOffset - startOffset;
+            channel.truncate(fileEnd);
+            channel.position(fileEnd);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.lock = new ReentrantLock();
+        this.recordsPending = lock.newCondition();
+        this.synced = lock.newCondition();
+        this.truncateTo = -1;
+        this.pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        this.spare = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        this.open = true;
+        this.writer = new Thread(this::runWriter, "wal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public DurabilityPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Appends the creation of a booking.
+     *
+     * @param booking the created booking (non-null)
+     * @return the record's sequence number
+     * @throws IllegalStateException if the log is closed
+     * @throws UncheckedIOException if the log has failed
+     */
+    public long appendBookingCreated(Booking booking) {
+        return append(List.of(encode(created(booking))));
+    }
+
+    /**
+     * Appends the creation of several bookings as one contiguous run.
+     *
+     * @param bookings the created bookings (non-null, no null elements)
+     * @return the sequence number of the last record
+     * @throws IllegalStateException if the log is closed
+     * @throws UncheckedIOException if the log has failed
+     */
+    public long appendBookingsCreated(Collection<Booking> bookings) {
+        List<byte[]> frames = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            frames.add(encode(created(booking)));
+        }
+        return append(frames);
+    }
+
+    /**
+     * Appends the cancellation of a booking.
+     *
+     * @param bookingId the cancelled booking's ID (non-null)
+     * @return the record's sequence number
+     * @throws IllegalStateException if the log is closed
+     * @throws UncheckedIOException if the log has failed
+     */
+    public long appendBookingCancelled(String bookingId) {
+        return append(List.of(encode(LogRecord.bookingCancelled(bookingId))));
+    }
+
+    /**
+     * Appends the addition of a room.
+     *
+     * @param room the added room (non-null)
+     * @return the record's sequence number
+     * @throws IllegalStateException if the log is closed
+     * @throws UncheckedIOException if the log has failed
+     */
+    public long appendRoomAdded(Room room) {
+        return append(List.of(encode(LogRecord.roomAdded(room.getRoomNumber(), room.getType(),
+                room.getPricePerNight()))));
+    }
+
+    /**
+     * Appends a room status change.
+     *
+     * @param roomNumber the room number (non-null)
+     * @param status the new status (non-null)
+     * @return the record's sequence number
+     * @throws IllegalStateException if the log is closed
+     * @throws UncheckedIOException if the log has failed
+     */
+    public long appendRoomStatus(String roomNumber, RoomStatus status) {
+        return append(List.of(encode(LogRecord.roomStatus(roomNumber, status))));
+    }
+
+    /**
+     * Waits until a record is on disk. Returns at once under
+     * {@link DurabilityPolicy#ASYNC}.
+     *
+     * @param sequence sequence number returned by an append
+     * @throws UncheckedIOException if the log failed before the record was synced
+     */
+    public void awaitDurable(long sequence) {
+        if (policy != DurabilityPolicy.ASYNC) {
+            waitFor(sequence, false);
+        } else if (failure != null) {
+            throw new UncheckedIOException("Write-ahead log has failed", failure);
+        }
+    }
+
+    /**
+     * Forces every record appended so far to disk, whatever the policy.
+     *
+     * @throws UncheckedIOException if the log failed before the records were synced
+     */
+    public void sync() {
+        waitFor(Long.MAX_VALUE, true);
+    }
+
+    /**
+     * Gets the number of syncs performed so far.
+     *
+     * @return sync count
+     */
+    public long getSyncCount() {
+        lock.lock();
+        try {
+            return syncCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the offset just past the last appended record, synced or not.
+     * Replaying from this offset later yields only records appended after this call.
+     *
+     * @return end offset of the appended records
+     */
+    public long getEndOffset() {
+        lock.lock();
+        try {
+            return endOffset;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Gets the offset of the first record the log still holds.
+     *
+     * @return start offset, which only grows through {@link #truncateBefore}
+     */
+    public long getStartOffset() {
+        lock.lock();
+        try {
+            return startOffset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops every record before an offset, typically once a checkpoint that
+     * covers them is on disk. The records from the offset on are copied to a
+     * new file that atomically replaces the log, so a crash leaves either the
+     * old or the new file, and both can be replayed from the offset. Appends
+     * wait only while the records written since the offset are copied.
+     *
+     * @param offset offset returned by {@link #getEndOffset()}; earlier offsets are a no-op
+     * @throws IOException if the new file could not be written; the log is left unchanged
+     * @throws IllegalArgumentException if offset is past the end of the log
+     * @throws IllegalStateException if the log is closed
+     * @throws UncheckedIOException if the log has failed
+     */
+    public void truncateBefore(long offset) throws IOException {
+        lock.lock();
+        try {
+            if (offset > endOffset) {
+                throw new IllegalArgumentException("Offset " + offset + " is past the end of the log");
+            }
+            if (!open) {
+                throw new IllegalStateException("Write-ahead log is closed");
+            }
+            if (offset <= startOffset) {
+                return;
+            }
+            truncateTo = Math.max(truncateTo, offset);
+            long ticket = ++truncateRequests;
+            recordsPending.signal();
+            while (truncationsDone < ticket && failure == null) {
+                synced.awaitUninterruptibly();
+            }
+            if (truncationsDone < ticket) {
+                throw new UncheckedIOException("Write-ahead log has failed", failure);
+            }
+            if (truncateFailure != null) {
+                IOException cause = truncateFailure;
+                truncateFailure = null;
+                throw new IOException("Cannot truncate write-ahead log " + path, cause);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Syncs the remaining records, stops the writer and closes the file.
+     * Appends after close fail with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (!open) {
+                return;
+            }
+            open = false;
+            recordsPending.signal();
+        } finally {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close write-ahead log " + path, e);
+        }
+    }
+
+    /**
+     * Reads every intact record the log still holds, in order.
+     * Reading stops at the first torn or corrupt record.
+     *
+     * @param path the log file (non-null)
+     * @param handler receives each record (non-null)
+     * @return the number of records read
+     * @throws IOException if the file cannot be read or is not a log
+     */
+    public static long replay(Path path, Consumer<LogRecord> handler) throws IOException {
+        return read(path, -1, handler);
+    }
+    
+    /**
+     * Reads every intact record from an offset onwards, in order.
+     * Reading stops at the first torn or corrupt record.
+     *
+     * @param path the log file (non-null)
+     * @param fromOffset offset of the first record to read, as returned by {@link #getEndOffset()}
+     * @param handler receives each record (non-null)
+     * @return the number of records read
+     * @throws IOException if the file cannot be read, is not a log or no longer holds fromOffset
+     * @throws IllegalArgumentException if fromOffset lies inside the file header
+     */
+    public static long replay(Path path, long fromOffset, Consumer<LogRecord> handler) throws IOException {
+        if (fromOffset < HEADER_SIZE) {
+            throw new IllegalArgumentException("Offset cannot lie inside the log header");
+        }
+        return read(path, fromOffset, handler);
+    }
+
+    private static long read(Path path, long fromOffset, Consumer<LogRecord> handler) throws IOException {
+        if (handler == null) {
+            throw new IllegalArgumentException("Record handler cannot be null");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] count = new long[1];
+            scan(channel, path, fromOffset, record -> {
+                handler.accept(record);
+                count[0]++;
+            });
+            return count[0];
+        }
+    }
+
+    /**
+     * Writes the header of a new log, or reads the start offset of an existing one.
+     */
+    private long recover() throws IOException {
+        if (channel.size() == 0) {
+            writeHeader(channel, HEADER_SIZE);
+            channel.force(true);
+            return HEADER_SIZE;
+        }
+        return readStartOffset(channel, path);
+    }
+
+    /**
+     * Forces the directory holding a file that was just moved into place, so
+     * the rename survives a crash together with the file's contents. Platforms
+     * that cannot open a directory as a channel, such as Windows, make the
+     * rename durable through the file system's journal instead; there the
+     * directory is left as it is.
+     */
+    static void forceDirectory(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    private static void writeHeader(FileChannel channel, long startOffset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putLong(startOffset);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, HEADER_SIZE - header.remaining());
+        }
+    }
+
+    private static long readStartOffset(FileChannel channel, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                break;
+            }
+        }
+        if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getLong(4) < HEADER_SIZE) {
+            throw new IOException("Not a write-ahead log: " + path);
+        }
+        return header.getLong(4);
+    }
+
+    /**
+     * Checks the header, decodes records from an offset onwards, or from the
+     * first record when the offset is -1, and returns the offset just past
+     * the last intact one.
+     */
+    private static long scan(FileChannel channel, Path path, long fromOffset,
+                             Consumer<LogRecord> handler) throws IOException {
+        long startOffset = readStartOffset(channel, path);
+        if (fromOffset == -1) {
+            fromOffset = startOffset;
+        } else if (fromOffset < startOffset) {
+            throw new IOException("Write-ahead log " + path + " no longer holds offset " + fromOffset
+                    + "; it starts at " + startOffset);
+        }
+        channel.position(HEADER_SIZE + fromOffset - startOffset);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 64 * 1024));
+        long end = fromOffset;
+        CRC32 crc = new CRC32();
+        byte[] payload = new byte[256];
+        while (true) {
+            int length;
+            int checksum;
+            try {
+                length = in.readInt();
+                checksum = in.readInt();
+                if (length <= 0 || length > MAX_RECORD_SIZE) {
+                    return end;
+                }
+                if (payload.length < length) {
+                    payload = new byte[Math.max(length, payload.length * 2)];
+                }
+                in.readFully(payload, 0, length);
+            } catch (EOFException e) {
+                return end;
+            }
+            crc.reset();
+            crc.update(payload, 0, length);
+            if ((int) crc.getValue() != checksum) {
+                return end;
+            }
+            handler.accept(decode(payload, length, path));
+            end += FRAME_SIZE + length;
+        }
+    }
+
+    private long append(List<byte[]> frames) {
+        int size = 0;
+        for (byte[] frame : frames) {
+            size += frame.length;
+        }
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw new UncheckedIOException("Write-ahead log has failed", failure);
+            }
+            if (!open) {
+                throw new IllegalStateException("Write-ahead log is closed");
+            }
+            if (pending.remaining() < size) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + size));
+                pending.flip();
+                grown.put(pending);
+                pending = grown;
+            }
+            for (byte[] frame : frames) {
+                pending.put(frame);
+            }
+            appendedSequence += frames.size();
+            endOffset += size;
+            recordsPending.signal();
+            return appendedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void waitFor(long sequence, boolean requestSync) {
+        lock.lock();
+        try {
+            if (requestSync) {
+                sequence = Math.min(sequence, appendedSequence);
+            }
+            if (requestSync && durableSequence < sequence) {
+                syncRequested = true;
+                recordsPending.signal();
+            }
+            while (durableSequence < sequence && failure == null) {
+                synced.awaitUninterruptibly();
+            }
+            if (durableSequence < sequence) {
+                throw new UncheckedIOException("Write-ahead log has failed", failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runWriter() {
+        try {
+            while (true) {
+                boolean linger;
+                lock.lock();
+                try {
+                    while (open && pending.position() == 0 && truncateTo < 0) {
+                        recordsPending.awaitUninterruptibly();
+                    }
+                    if (pending.position() == 0 && truncateTo < 0) {
+                        return;
+                    }
+                    linger = open && !syncRequested && truncateTo < 0 && policy != DurabilityPolicy.PER_OPERATION;
+                } finally {
+                    lock.unlock();
+                }
+                if (linger && batchIntervalNanos > 0) {
+                    if (policy == DurabilityPolicy.ASYNC) {
+                        LockSupport.parkNanos(batchIntervalNanos);
+                    } else {
+                        awaitGroup();
+                    }
+                }
+
+                ByteBuffer batch;
+                long target;
+                long batchEnd;
+                long truncate;
+                long truncateTicket;
+                lock.lock();
+                try {
+                    batch = pending;
+                    pending = spare;
+                    spare = null;
+                    target = appendedSequence;
+                    batchEnd = endOffset;
+                    syncRequested = false;
+                    truncate = truncateTo;
+                    truncateTicket = truncateRequests;
+                    truncateTo = -1;
+                } finally {
+                    lock.unlock();
+                }
+                batch.flip();
+                boolean written = batch.hasRemaining();
+                while (batch.hasRemaining()) {
+                    channel.write(batch);
+                }
+                if (written) {
+                    channel.force(false);
+                }
+                batch.clear();
+                writtenOffset = batchEnd;
+                IOException truncated = truncate < 0 ? null : rotate(truncate);
+
+                lock.lock();
+                try {
+                    spare = batch;
+                    if (written) {
+                        lastBatchRecords = target - durableSequence;
+                        durableSequence = target;
+                        syncCount++;
+                    }
+                    if (truncate >= 0) {
+                        if (truncated == null) {
+                            startOffset = truncate;
+                        }
+                        truncateFailure = truncated;
+                        truncationsDone = truncateTicket;
+                    }
+                    synced.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            lock.lock();
+            try {
+                failure = e instanceof IOException ? (IOException) e : new IOException(e);
+                synced.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Copies the records from an offset up to the written end into a new
+     * file and moves it over the log. Runs on the writer thread, which owns
+     * the channel. Returns the failure if the log was left unchanged;
+     * failures after the move are fatal and thrown.
+     */
+    private IOException rotate(long offset) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel copy = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeHeader(copy, offset);
+            long position = HEADER_SIZE + offset - startOffset;
+            long remaining = writtenOffset - offset;
+            copy.position(HEADER_SIZE);
+            while (remaining > 0) {
+                long copied = channel.transferTo(position, remaining, copy);
+                position += copied;
+                remaining -= copied;
+            }
+            copy.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            return e;
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(path);
+        FileChannel next = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        next.position(next.size());
+        channel.close();
+        channel = next;
+        return null;
+    }
+
+    /**
+     * Lingers for a batched sync only once writers have been seen sharing
+     * one: waits up to the batching interval, or until as many records are
+     * pending as the previous sync covered. A lone writer syncs at once.
+     */
+    private void awaitGroup() {
+        long deadline = System.nanoTime() + batchIntervalNanos;
+        lock.lock();
+        try {
+            long expected = lastBatchRecords;
+            while (expected > 1 && open && !syncRequested && appendedSequence - durableSequence < expected) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                try {
+                    recordsPending.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static LogRecord created(Booking booking) {
+        return LogRecord.bookingCreated(booking.getBookingId(), booking.getGuestName(),
+                booking.getRoom().getRoomNumber(), booking.getCheckInDate(), booking.getCheckOutDate(),
+                booking.getTotalPrice());
+    }
+
+    private static byte[] encode(LogRecord record) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(0L);
+            out.writeByte(record.getType().ordinal());
+            switch (record.getType()) {
+                case BOOKING_CREATED:
+                    out.writeUTF(record.getBookingId());
+                    out.writeUTF(record.getGuestName());
+                    out.writeUTF(record.getRoomNumber());
+                    out.writeLong(record.getCheckInDate().toEpochDay());
+                    out.writeLong(record.getCheckOutDate().toEpochDay());
+                    out.writeDouble(record.getTotalPrice());
+                    break;
+                case BOOKING_CANCELLED:
+                    out.writeUTF(record.getBookingId());
+                    break;
+                case ROOM_ADDED:
+                    out.writeUTF(record.getRoomNumber());
+                    out.writeByte(record.getRoomType().ordinal());
+                    out.writeDouble(record.getPricePerNight());
+                    break;
+                default:
+                    out.writeUTF(record.getRoomNumber());
+                    out.writeByte(record.getRoomStatus().ordinal());
+                    break;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] frame = bytes.toByteArray();
+        int length = frame.length - FRAME_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(frame, FRAME_SIZE, length);
+        ByteBuffer.wrap(frame).putInt(length).putInt((int) crc.getValue());
+        return frame;
+    }
+
+    private static LogRecord decode(byte[] payload, int length, Path path) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload, 0, length));
+        int type = in.readUnsignedByte();
+        if (type >= TYPES.length) {
+            throw new IOException("Unknown record type " + type + " in " + path);
+        }
+        switch (TYPES[type]) {
+            case BOOKING_CREATED:
+                return LogRecord.bookingCreated(in.readUTF(), in.readUTF(), in.readUTF(),
+                        LocalDate.ofEpochDay(in.readLong()), LocalDate.ofEpochDay(in.readLong()), in.readDouble());
+            case BOOKING_CANCELLED:
+                return LogRecord.bookingCancelled(in.readUTF());
+            case ROOM_ADDED:
+                String addedRoom = in.readUTF();
+                int roomType = in.readUnsignedByte();
+                if (roomType >= ROOM_TYPES.length) {
+                    throw new IOException("Unknown room type " + roomType + " in " + path);
+                }
+                return LogRecord.roomAdded(addedRoom, ROOM_TYPES[roomType], in.readDouble());
+            default:
+                String roomNumber = in.readUTF();
+                int status = in.readUnsignedByte();
+                if (status >= STATUSES.length) {
+                    throw new IOException("Unknown room status " + status + " in " + path);
+                }
+                return LogRecord.roomStatus(roomNumber, STATUSES[status]);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.hotel.service;
+
+import com.hotel.model.Booking;
+import com.hotel.model.Room;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Non-blocking facade over {@link HotelService} and {@link BookingService}.
+ * Every call returns a {@link CompletableFuture} at once and runs on the
+ * configured executor, so callers can pipeline many requests without
+ * holding a thread per request.
+ * <p>
+ * At most {@code maxPending} calls may be queued or running. Beyond that a
+ * call fails fast with a future completed by {@link RejectedExecutionException}
+ * instead of growing an unbounded queue. Checked exceptions such as
+ * {@link com.hotel.exception.RoomNotAvailableException} complete the future
+ * exceptionally with the original exception.
+ */
+public class AsyncBookingService {
+    
+    private final HotelService hotelService;
+    private final BookingService bookingService;
+    private final Executor executor;
+    private final Semaphore pending;
+    private final int maxPending;
+    
+    /**
+     * Creates an async facade.
+     *
+     * @param hotelService the hotel service to delegate to (non-null)
+     * @param bookingService the booking service to delegate to (non-null)
+     * @param executor the executor calls run on (non-null)
+     * @param maxPending maximum number of queued or running calls (positive)
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public AsyncBookingService(HotelService hotelService, BookingService bookingService,
+                               Executor executor, int maxPending) {
+        if (hotelService == null || bookingService == null) {
+            throw new IllegalArgumentException("Services cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        if (maxPending <= 0) {
+            throw new IllegalArgumentException("Maximum pending calls must be positive");
+        }
+        this.hotelService = hotelService;
+        this.bookingService = bookingService;
+        this.executor = executor;
+        this.pending = new Semaphore(maxPending);
+        this.maxPending = maxPending;
+    }
+    
+    /**
+     * Creates a booking asynchronously.
+     *
+     * @param bookingId unique booking identifier (non-null, non-empty)
+     * @param guestName guest name (non-null, non-empty)
+     * @param roomNumber room number (non-null, non-empty)
+     * @param checkInDate check-in date (non-null)
+     * @param checkOutDate check-out date (non-null)
+     * @return future of the created booking
+     * @see BookingService#createBooking
+     */
+    public CompletableFuture<Booking> createBookingAsync(String bookingId, String guestName, String roomNumber,
+                                                         LocalDate checkInDate, LocalDate checkOutDate) {
+        return submit(() -> bookingService.createBooking(bookingId, guestName, roomNumber,
+                checkInDate, checkOutDate));
+    }
+    
+    /**
+     * Creates a batch of bookings asynchronously, keeping each one that succeeds.
+     *
+     * @param requests the booking requests (non-null, no null elements)
+     * @return future of one result per request, in request order
+     * @see BookingService#createBookings
+     */
+    public CompletableFuture<List<BookingResult>> createBookingsAsync(List<BookingRequest> requests) {
+        return submit(() -> bookingService.createBookings(requests));
+    }
+    
+    /**
+     * Cancels a booking asynchronously.
+     *
+     * @param bookingId booking ID (non-null, non-empty)
+     * @return future of true if the booking was cancelled, false if not found
+     * @see BookingService#cancelBooking
+     */
+    public CompletableFuture<Boolean> cancelBookingAsync(String bookingId) {
+        return submit(() -> bookingService.cancelBooking(bookingId));
+    }
+    
+    /**
+     * Gets a booking by its ID asynchronously.
+     *
+     * @param bookingId booking ID (non-null, non-empty)
+     * @return future of the booking, or of null if not found
+     * @see BookingService#getBookingById
+     */
+    public CompletableFuture<Booking> getBookingByIdAsync(String bookingId) {
+        return submit(() -> bookingService.getBookingById(bookingId));
+    }
+    
+    /**
+     * Checks room availability for a date range asynchronously.
+     *
+     * @param checkInDate check-in date (non-null)
+     * @param checkOutDate check-out date (non-null)
+     * @return future of the rooms free for the whole stay
+     * @see HotelService#checkAvailability
+     */
+    public CompletableFuture<List<Room>> checkAvailabilityAsync(LocalDate checkInDate, LocalDate checkOutDate) {
+        return submit(() -> hotelService.checkAvailability(checkInDate, checkOutDate));
+    }
+    
+    /**
+     * Checks whether one room is free for a date range asynchronously.
+     *
+     * @param roomNumber room number (non-null, non-empty)
+     * @param checkInDate check-in date (non-null)
+     * @param checkOutDate check-out date (non-null)
+     * @return future of true if the room is free
+     * @see BookingService#isRoomAvailableForDates
+     */
+    public CompletableFuture<Boolean> isRoomAvailableForDatesAsync(String roomNumber, LocalDate checkInDate,
+                                                                   LocalDate checkOutDate) {
+        return submit(() -> bookingService.isRoomAvailableForDates(roomNumber, checkInDate, checkOutDate));
+    }
+    
+    /**
+     * Gets the number of calls currently queued or running.
+     *
+     * @return pending call count
+     */
+    public int getPendingCount() {
+        return maxPending - pending.availablePermits();
+    }
+    
+    private <T> CompletableFuture<T> submit(Call<T> call) {
+        if (!pending.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("Too many pending requests: " + maxPending));
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                T result = null;
+                Throwable failure = null;
+                try {
+                    result = call.call();
+                } catch (Throwable e) {
+                    failure = e;
+                }
+                // Release first so callbacks that run on completion can submit again
+                pending.release();
+                if (failure == null) {
+                    future.complete(result);
+                } else {
+                    future.completeExceptionally(failure);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.release();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+    
+    @FunctionalInterface
+    private interface Call<T> {
+        T call() throws Exception;
+    }
+}
@@ -0,0 +1,322 @@
+package com.hotel.service;
+
+import com.hotel.model.Booking;
+import com.hotel.model.Room;
+import com.hotel.model.RoomStatus;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Optional single-writer front for booking mutations.
+ * Creates, cancellations and room status changes are claimed into a
+ * pre-allocated ring buffer by any number of producer threads and applied
+ * strictly in sequence by one writer thread, which owns the underlying
+ * {@link BookingService}. Its locks are therefore never contended.
+ * <p>
+ * The writer drains every command that is ready as one batch, then publishes
+ * a new {@link BookingSnapshot} and completes the batch's futures, so a
+ * caller that sees its future complete also sees its change in
+ * {@link #getSnapshot()}. Futures complete on the writer thread, so heavy
+ * callbacks should be attached with the async variants. Producers wait
+ * while the ring is full.
+ */
+public class BookingCommandPipeline implements AutoCloseable {
+    
+    private static final int CREATE = 0;
+    private static final int CANCEL = 1;
+    private static final int SET_STATUS = 2;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    
+    private final BookingService bookingService;
+    private final Command[] ring;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed;
+    private final Thread writer;
+    private final Map<String, Integer> positionsById;
+    private volatile long consumed;
+    private volatile boolean writerParked;
+    private volatile boolean running;
+    private volatile BookingSnapshot snapshot;
+    private Booking[][] chunks;
+    private int size;
+    
+    /**
+     * Creates a pipeline and starts its writer thread.
+     * The first snapshot holds every booking the service already has, in
+     * {@link BookingService#getAllBookings()} order. The booking service must
+     * not be mutated directly while the pipeline runs.
+     *
+     * @param bookingService the service the writer applies commands to (non-null)
+     * @param capacity ring buffer size (positive power of two)
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public BookingCommandPipeline(BookingService bookingService, int capacity) {
+        if (bookingService == null) {
+            throw new IllegalArgumentException("Booking service cannot be null");
+        }
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+        this.bookingService = bookingService;
+        this.ring = new Command[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new Command();
+            published.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.claimed = new AtomicLong(-1);
+        this.consumed = -1;
+        this.positionsById = new ConcurrentHashMap<>();
+        this.chunks = new Booking[1][BookingSnapshot.CHUNK_SIZE];
+        for (Booking booking : bookingService.getAllBookings()) {
+            append(booking);
+        }
+        this.snapshot = new BookingSnapshot(-1, chunks.clone(), size, positionsById);
+        this.running = true;
+        this.writer = new Thread(this::runWriter, "booking-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    /**
+     * Submits a booking creation.
+     *
+     * @see BookingService#createBooking
+     * @return future of the created booking, completed exceptionally with the
+     *         exception {@link BookingService#createBooking} would throw
+     */
+    public CompletableFuture<Booking> createBooking(String bookingId, String guestName, String roomNumber,
+                                                    LocalDate checkInDate, LocalDate checkOutDate) {
+        CompletableFuture<Booking> future = new CompletableFuture<>();
+        Command command = claim(future);
+        if (command != null) {
+            command.type = CREATE;
+            command.bookingId = bookingId;
+            command.guestName = guestName;
+            command.roomNumber = roomNumber;
+            command.checkInDate = checkInDate;
+            command.checkOutDate = checkOutDate;
+            publish(command);
+        }
+        return future;
+    }
+    
+    /**
+     * Submits a booking cancellation.
+     *
+     * @see BookingService#cancelBooking
+     * @return future of true if the booking was cancelled, false if not found
+     */
+    public CompletableFuture<Boolean> cancelBooking(String bookingId) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        Command command = claim(future);
+        if (command != null) {
+            command.type = CANCEL;
+            command.bookingId = bookingId;
+            publish(command);
+        }
+        return future;
+    }
+    
+    /**
+     * Submits a room status change, applied in command order through
+     * {@link BookingService#setRoomStatus} so it reaches the write-ahead log.
+     *
+     * @param room the room to change (non-null, in the service's hotel)
+     * @param status the new status (non-null)
+     * @return future completed once the status is set, or exceptionally with
+     *         {@link IllegalArgumentException} if the hotel has no such room
+     */
+    public CompletableFuture<Void> setRoomStatus(Room room, RoomStatus status) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Command command = claim(future);
+        if (command != null) {
+            command.type = SET_STATUS;
+            command.room = room;
+            command.status = status;
+            publish(command);
+        }
+        return future;
+    }
+    
+    /**
+     * Gets the latest published snapshot. Never blocks.
+     *
+     * @return the current snapshot
+     */
+    public BookingSnapshot getSnapshot() {
+        return snapshot;
+    }
+    
+    /**
+     * Stops accepting commands, applies those already submitted and stops the writer.
+     * Callers should stop submitting first; a command racing with close may be lost.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private Command claim(CompletableFuture<?> future) {
+        if (!running) {
+            future.completeExceptionally(new RejectedExecutionException("Pipeline is closed"));
+            return null;
+        }
+        long sequence = claimed.incrementAndGet();
+        while (sequence - ring.length > consumed) {
+            // Ring is full: wait for the writer to free the slot
+            LockSupport.parkNanos(1_000);
+        }
+        Command command = ring[(int) (sequence & mask)];
+        command.sequence = sequence;
+        command.future = future;
+        return command;
+    }
+    
+    private void publish(Command command) {
+        published.set((int) (command.sequence & mask), command.sequence);
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+    
+    private void runWriter() {
+        long next = 0;
+        while (true) {
+            long last = next - 1;
+            while (published.get((int) ((last + 1) & mask)) == last + 1) {
+                apply(ring[(int) ((last + 1) & mask)]);
+                last++;
+            }
+            if (last >= next) {
+                snapshot = new BookingSnapshot(last, chunks.clone(), size, positionsById);
+                for (long sequence = next; sequence <= last; sequence++) {
+                    ring[(int) (sequence & mask)].complete();
+                }
+                consumed = last;
+                next = last + 1;
+            } else if (!running && claimed.get() < next) {
+                return;
+            } else {
+                writerParked = true;
+                if (published.get((int) (next & mask)) != next && running) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                writerParked = false;
+            }
+        }
+    }
+    
+    private void apply(Command command) {
+        try {
+            switch (command.type) {
+                case CREATE:
+                    Booking booking = bookingService.createBooking(command.bookingId, command.guestName,
+                            command.roomNumber, command.checkInDate, command.checkOutDate);
+                    append(booking);
+                    command.result = booking;
+                    break;
+                case CANCEL:
+                    boolean cancelled = bookingService.cancelBooking(command.bookingId);
+                    if (cancelled) {
+                        Booking cancelledBooking = bookingService.getBookingById(command.bookingId);
+                        Integer position = positionsById.get(cancelledBooking.getBookingId());
+                        // Only a booking added to the service behind the pipeline's back has no position
+                        if (position == null) {
+                            append(cancelledBooking);
+                        } else {
+                            replace(position, cancelledBooking);
+                        }
+                    }
+                    command.result = cancelled;
+                    break;
+                default:
+                    if (command.room == null) {
+                        throw new IllegalArgumentException("Room cannot be null");
+                    }
+                    if (!bookingService.setRoomStatus(command.room.getRoomNumber(), command.status)) {
+                        throw new IllegalArgumentException("Room " + command.room.getRoomNumber()
+                                + " is not in the hotel");
+                    }
+                    command.result = null;
+            }
+        } catch (Throwable e) {
+            // Errors included: the writer must survive to complete every other future
+            command.failure = e;
+        }
+    }
+    
+    private void append(Booking booking) {
+        int chunk = size / BookingSnapshot.CHUNK_SIZE;
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new Booking[BookingSnapshot.CHUNK_SIZE];
+        }
+        // Slots at or past a snapshot's size are never read through it, so no copy is needed
+        chunks[chunk][size % BookingSnapshot.CHUNK_SIZE] = booking;
+        positionsById.put(booking.getBookingId(), size);
+        size++;
+    }
+    
+    private void replace(int position, Booking booking) {
+        int chunk = position / BookingSnapshot.CHUNK_SIZE;
+        // Copy on the first change since the last publish; older snapshots hold older copies
+        if (snapshot.sharesChunk(chunk, chunks[chunk])) {
+            chunks[chunk] = chunks[chunk].clone();
+        }
+        chunks[chunk][position % BookingSnapshot.CHUNK_SIZE] = booking;
+    }
+    
+    /** Pre-allocated ring slot; fields are written by one producer, then read by the writer. */
+    private static final class Command {
+        private long sequence;
+        private int type;
+        private String bookingId;
+        private String guestName;
+        private String roomNumber;
+        private LocalDate checkInDate;
+        private LocalDate checkOutDate;
+        private Room room;
+        private RoomStatus status;
+        private CompletableFuture<?> future;
+        private Object result;
+        private Throwable failure;
+        
+        @SuppressWarnings("unchecked")
+        private void complete() {
+            CompletableFuture<Object> target = (CompletableFuture<Object>) future;
+            Object value = result;
+            Throwable error = failure;
+            bookingId = guestName = roomNumber = null;
+            checkInDate = checkOutDate = null;
+            room = null;
+            status = null;
+            future = null;
+            result = null;
+            failure = null;
+            if (error == null) {
+                target.complete(value);
+            } else {
+                target.completeExceptionally(error);
+            }
+        }
+    }
+}
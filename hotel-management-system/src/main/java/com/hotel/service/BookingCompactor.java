@@ -0,0 +1,90 @@
+package com.hotel.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Background job that keeps a {@link BookingService}'s working set small by
+ * periodically {@link BookingService#compact compacting} it: cancelled
+ * bookings and stays that checked out more than the retention period ago
+ * move to the archive tier.
+ */
+public final class BookingCompactor implements AutoCloseable {
+    
+    private static final Logger LOGGER = Logger.getLogger(BookingCompactor.class.getName());
+    
+    private final BookingService bookingService;
+    private final int retentionDays;
+    private final ScheduledExecutorService scheduler;
+    
+    /**
+     * Creates a compactor; it does not run until scheduled or called.
+     *
+     * @param bookingService the service to compact (non-null)
+     * @param retentionDays days a finished stay stays in the working set after check-out (non-negative)
+     * @throws IllegalArgumentException if bookingService is null or retentionDays is negative
+     */
+    public BookingCompactor(BookingService bookingService, int retentionDays) {
+        if (bookingService == null) {
+            throw new IllegalArgumentException("Booking service cannot be null");
+        }
+        if (retentionDays < 0) {
+            throw new IllegalArgumentException("Retention days cannot be negative");
+        }
+        this.bookingService = bookingService;
+        this.retentionDays = retentionDays;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "booking-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Compacts now on the calling thread.
+     *
+     * @return the number of bookings archived
+     */
+    public int compactNow() {
+        return bookingService.compact(LocalDate.now().minusDays(retentionDays));
+    }
+    
+    /**
+     * Compacts on the background thread at a fixed interval. A failed pass
+     * is logged and the next one runs on schedule.
+     *
+     * @param period time between compactions (positive)
+     * @param unit unit of the period (non-null)
+     * @throws IllegalArgumentException if period is not positive
+     */
+    public void schedule(long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Compaction period must be positive");
+        }
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                compactNow();
+            } catch (RuntimeException e) {
+                // Keep the schedule alive; uncompacted bookings are only slower, not wrong
+                LOGGER.log(Level.WARNING, "Scheduled compaction failed", e);
+            }
+        }, period, period, unit);
+    }
+    
+    /**
+     * Stops background compaction, letting a running pass finish.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.hotel.service;
+
+import com.hotel.model.Booking;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated booking query.
+ * Pass {@link #getNextCursor()} back to the same query to get the page that
+ * follows; it is null after the last page. Cursors are opaque and stay valid
+ * while bookings are added or archived, so a paged read sees each booking at
+ * most once, and every booking that existed when it started unless it was
+ * archived before its page was read.
+ */
+public final class BookingPage {
+    
+    private final List<Booking> bookings;
+    private final String nextCursor;
+    
+    BookingPage(List<Booking> bookings, String nextCursor) {
+        this.bookings = bookings;
+        this.nextCursor = nextCursor;
+    }
+    
+    /**
+     * Gets the bookings on this page, in booking order.
+     * A page may hold fewer bookings than requested, or none, before the last page.
+     *
+     * @return unmodifiable list of bookings
+     */
+    public List<Booking> getBookings() {
+        return bookings;
+    }
+    
+    /**
+     * Gets the cursor of the next page.
+     *
+     * @return the cursor, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+    
+    @Override
+    public String toString() {
+        return "BookingPage{bookings=" + bookings.size() + ", nextCursor=" + nextCursor + "}";
+    }
+}
@@ -0,0 +1,169 @@
+package com.hotel.service;
+
+import com.hotel.model.Booking;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Storage engine for bookings.
+ * <p>
+ * Engines keep bookings in the order they were added, reject duplicate
+ * IDs, match guest names ignoring case and trim booking IDs and guest
+ * names given to lookups. Bookings come back equal to the ones added,
+ * except that an engine may round prices to whole cents. Engines are not
+ * required to be thread-safe; callers such as {@link BookingService}
+ * synchronize access. Shipped engines are {@link InMemoryBookingRepository}
+ * (indexed, on-heap), {@link CompactBookingStore} (columnar, on-heap) and
+ * {@link MappedBookingStore} (memory-mapped file).
+ */
+public interface BookingRepository extends AutoCloseable {
+    
+    /**
+     * Appends a booking.
+     *
+     * @param booking the booking to store (non-null)
+     * @throws IllegalArgumentException if booking is null or its ID is already stored
+     */
+    void add(Booking booking);
+    
+    /**
+     * Marks a booking as cancelled.
+     *
+     * @param bookingId booking ID (non-null, non-empty)
+     * @return true if booking was cancelled, false if not found or already cancelled
+     * @throws IllegalArgumentException if bookingId is invalid
+     */
+    boolean cancelBooking(String bookingId);
+    
+    /**
+     * Checks if a room is free of confirmed bookings for the date range.
+     * Boundaries are inclusive, as in {@link BookingService#isRoomAvailableForDates}.
+     * Engines should read only the room's own bookings rather than scan every
+     * booking; the service relies on this for ranges that start in the past.
+     *
+     * @param roomNumber room number (non-null, non-empty)
+     * @param checkInDate check-in date (non-null)
+     * @param checkOutDate check-out date (non-null)
+     * @return true if room is available, false otherwise
+     */
+    boolean isRoomAvailableForDates(String roomNumber, LocalDate checkInDate, LocalDate checkOutDate);
+    
+    /**
+     * Gets a booking by its ID.
+     *
+     * @param bookingId booking ID (non-null, non-empty)
+     * @return the booking if found, null otherwise
+     */
+    Booking getBookingById(String bookingId);
+    
+    /**
+     * Checks whether a booking ID is stored, without materializing the booking.
+     *
+     * @param bookingId booking ID (non-null, non-empty)
+     * @return true if the ID is stored
+     */
+    default boolean containsBookingId(String bookingId) {
+        return getBookingById(bookingId) != null;
+    }
+    
+    /**
+     * Gets all bookings for a specific guest, ignoring case, in the order they were added.
+     *
+     * @param guestName guest name (non-null, non-empty)
+     * @return list of bookings for the guest
+     */
+    List<Booking> getBookingsByGuest(String guestName);
+    
+    /**
+     * Gets the positions in {@link #getAllBookings()} of a guest's bookings,
+     * ignoring case, in ascending order. The default scans every booking.
+     *
+     * @param guestName guest name (non-null, non-empty)
+     * @return positions of the guest's bookings
+     */
+    default List<Integer> getGuestPositions(String guestName) {
+        if (guestName == null || guestName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name cannot be null or empty");
+        }
+        String key = GuestNameIndex.normalize(guestName);
+        List<Booking> all = getAllBookings();
+        List<Integer> positions = new ArrayList<>();
+        for (int position = 0; position < all.size(); position++) {
+            if (GuestNameIndex.normalize(all.get(position).getGuestName()).equals(key)) {
+                positions.add(position);
+            }
+        }
+        return positions;
+    }
+    
+    /**
+     * Gets the positions in {@link #getAllBookings()} of the bookings of every
+     * guest whose name starts with a prefix, ignoring case, grouped by guest
+     * name in alphabetical order and ascending within a guest. The default
+     * scans every booking.
+     *
+     * @param prefix guest name prefix (non-null, non-empty)
+     * @return positions of the matching guests' bookings
+     */
+    default List<Integer> getGuestPositionsByPrefix(String prefix) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name prefix cannot be null or empty");
+        }
+        String from = GuestNameIndex.normalize(prefix);
+        List<Booking> all = getAllBookings();
+        NavigableMap<String, List<Integer>> byGuest = new TreeMap<>();
+        for (int position = 0; position < all.size(); position++) {
+            String key = GuestNameIndex.normalize(all.get(position).getGuestName());
+            if (key.startsWith(from)) {
+                byGuest.computeIfAbsent(key, guest -> new ArrayList<>()).add(position);
+            }
+        }
+        List<Integer> positions = new ArrayList<>();
+        byGuest.values().forEach(positions::addAll);
+        return positions;
+    }
+    
+    /**
+     * Gets all active bookings (confirmed and not cancelled), in the order they were added.
+     *
+     * @return list of active bookings
+     */
+    List<Booking> getActiveBookings();
+    
+    /**
+     * Counts active bookings without materializing them.
+     * The default counts {@link #getActiveBookings()}.
+     *
+     * @return number of confirmed bookings
+     */
+    default int getActiveBookingCount() {
+        return getActiveBookings().size();
+    }
+    
+    /**
+     * Gets all bookings in the order they were added.
+     * The list is a live read-only view: later additions and cancellations show
+     * through it, and it may materialize bookings on access.
+     *
+     * @return unmodifiable list of all bookings
+     */
+    List<Booking> getAllBookings();
+    
+    /**
+     * Gets the total number of bookings.
+     *
+     * @return booking count
+     */
+    int getTotalBookings();
+    
+    /**
+     * Releases the engine's resources. The default does nothing.
+     */
+    @Override
+    default void close() {
+    }
+}
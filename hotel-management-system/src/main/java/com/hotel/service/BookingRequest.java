@@ -0,0 +1,61 @@
+package com.hotel.service;
+
+import java.time.LocalDate;
+
+/**
+ * One booking in a batch passed to {@link BookingService#createBookings}.
+ * Immutable holder of the same arguments {@link BookingService#createBooking} takes;
+ * the values are validated when the batch is processed.
+ */
+public final class BookingRequest {
+    
+    private final String bookingId;
+    private final String guestName;
+    private final String roomNumber;
+    private final LocalDate checkInDate;
+    private final LocalDate checkOutDate;
+    
+    /**
+     * Creates a booking request.
+     *
+     * @param bookingId unique booking identifier
+     * @param guestName guest name
+     * @param roomNumber room number
+     * @param checkInDate check-in date
+     * @param checkOutDate check-out date
+     */
+    public BookingRequest(String bookingId, String guestName, String roomNumber,
+                          LocalDate checkInDate, LocalDate checkOutDate) {
+        this.bookingId = bookingId;
+        this.guestName = guestName;
+        this.roomNumber = roomNumber;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+    }
+    
+    public String getBookingId() {
+        return bookingId;
+    }
+    
+    public String getGuestName() {
+        return guestName;
+    }
+    
+    public String getRoomNumber() {
+        return roomNumber;
+    }
+    
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+    
+    public LocalDate getCheckOutDate() {
+        return checkOutDate;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("BookingRequest{id=%s, guest=%s, room=%s, checkIn=%s, checkOut=%s}",
+                bookingId, guestName, roomNumber, checkInDate, checkOutDate);
+    }
+}
@@ -0,0 +1,63 @@
+package com.hotel.service;
+
+import com.hotel.exception.HotelException;
+import com.hotel.model.Booking;
+
+/**
+ * Outcome of one request in a batch created by {@link BookingService#createBookings}.
+ * Holds either the created booking or the exception a single
+ * {@link BookingService#createBooking} call would have thrown.
+ */
+public final class BookingResult {
+    
+    private final BookingRequest request;
+    private final Booking booking;
+    private final HotelException failure;
+    
+    private BookingResult(BookingRequest request, Booking booking, HotelException failure) {
+        this.request = request;
+        this.booking = booking;
+        this.failure = failure;
+    }
+    
+    static BookingResult success(BookingRequest request, Booking booking) {
+        return new BookingResult(request, booking, null);
+    }
+    
+    static BookingResult failure(BookingRequest request, HotelException failure) {
+        return new BookingResult(request, null, failure);
+    }
+    
+    public BookingRequest getRequest() {
+        return request;
+    }
+    
+    /**
+     * Gets the created booking.
+     *
+     * @return the booking, or null if the request failed
+     */
+    public Booking getBooking() {
+        return booking;
+    }
+    
+    /**
+     * Gets the reason the request failed.
+     *
+     * @return an InvalidBookingException or RoomNotAvailableException, or null on success
+     */
+    public HotelException getFailure() {
+        return failure;
+    }
+    
+    public boolean isSuccess() {
+        return failure == null;
+    }
+    
+    @Override
+    public String toString() {
+        return isSuccess()
+                ? "BookingResult{success=" + booking.getBookingId() + "}"
+                : "BookingResult{failure=" + failure.getMessage() + "}";
+    }
+}
@@ -1,23 +1,73 @@
 package com.hotel.service;
 
+import com.hotel.exception.HotelException;
 import com.hotel.exception.InvalidBookingException;
 import com.hotel.exception.RoomNotAvailableException;
 import com.hotel.model.*;
+import com.hotel.persistence.WriteAheadLog;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Service class for managing hotel bookings.
  * Handles booking creation, cancellation, and retrieval operations.
+ * <p>
+ * Safe for concurrent use. The room is taken with a compare-and-set
+ * {@link Room#transition} and the nights of the stay are claimed in one
+ * atomic step in the hotel's lock-free {@link OccupancyCalendar}, the same
+ * bitmap availability searches read, so no lock is held while checking or
+ * reserving a room. The booking registry (the working set's
+ * {@link BookingRepository} engine, by default an
+ * {@link InMemoryBookingRepository}, plus the service's sequence numbers)
+ * is guarded by a read-write lock that is only held for
+ * the short append or lookup.
+ * <p>
+ * With a {@link WriteAheadLog}, every creation, cancellation,
+ * {@link #addRoom room addition} and {@link #setRoomStatus room status
+ * change} is appended to the log under the registry lock, so the log order
+ * matches the registry order, and the call then waits outside the lock for
+ * the log's durability policy. If the log
+ * fails before the record is synced, the call throws
+ * {@link java.io.UncheckedIOException}; the change stays in memory but may
+ * not survive a restart.
+ * <p>
+ * {@link #compact} moves finished bookings into an archive tier, out of the
+ * working set that active-booking, guest, page and stream queries walk.
  */
 public class BookingService {
     
-    private final List<Booking> bookings;
+    /** Maximum number of bookings examined by one filtered page query. */
+    public static final int PAGE_SCAN_LIMIT = 65_536;
+    private static final int STREAM_PAGE_SIZE = 1024;
+    
+    private final OccupancyCalendar inventory;
+    private final ReadWriteLock registryLock;
+    private final Supplier<BookingRepository> workingSets;
+    private BookingRepository workingSet;
+    private List<Booking> bookings;
+    private int[] sequences;
+    private int nextSequence;
+    private final BookingRepository archive;
     private final Hotel hotel;
+    private final WriteAheadLog log;
     
     /**
      * Creates a BookingService for the given hotel.
@@ -26,11 +76,70 @@ public class BookingService {
      * @throws IllegalArgumentException if hotel is null
      */
     public BookingService(Hotel hotel) {
+        this(hotel, null);
+    }
+    
+    /**
+     * Creates a BookingService that records every change in a write-ahead log.
+     *
+     * @param hotel the hotel to manage bookings for (non-null)
+     * @param log the log to append changes to, or null for none
+     * @throws IllegalArgumentException if hotel is null
+     */
+    public BookingService(Hotel hotel, WriteAheadLog log) {
+        this(hotel, log, new CompactBookingStore());
+    }
+    
+    /**
+     * Creates a BookingService with a write-ahead log and the storage engine of its archive tier.
+     * Bookings already in the archive are not registered again by {@link #restoreBookings}.
+     * The service does not close the archive.
+     *
+     * @param hotel the hotel to manage bookings for (non-null)
+     * @param log the log to append changes to, or null for none
+     * @param archive the engine archived bookings are moved to by {@link #compact} (non-null)
+     * @throws IllegalArgumentException if hotel or archive is null
+     */
+    public BookingService(Hotel hotel, WriteAheadLog log, BookingRepository archive) {
+        this(hotel, log, archive, InMemoryBookingRepository::new);
+    }
+    
+    /**
+     * Creates a BookingService with a write-ahead log and the storage engines of both tiers.
+     * The working set is held in an engine from workingSets, which is asked
+     * for a new empty engine at construction and on every {@link #compact}
+     * that archives something; the service closes the engines it replaces.
+     * Lookups by ID, guest and status are answered by the engine's own
+     * indexes; the service only keeps sequence numbers over the engine's
+     * insertion order, for pages and cursors.
+     *
+     * @param hotel the hotel to manage bookings for (non-null)
+     * @param log the log to append changes to, or null for none
+     * @param archive the engine archived bookings are moved to by {@link #compact} (non-null)
+     * @param workingSets supplies empty engines for the working set (non-null)
+     * @throws IllegalArgumentException if any argument but log is null, or workingSets supplies
+     *         null or an engine that is not empty
+     */
+    public BookingService(Hotel hotel, WriteAheadLog log, BookingRepository archive,
+                          Supplier<BookingRepository> workingSets) {
         if (hotel == null) {
             throw new IllegalArgumentException("Hotel cannot be null");
         }
+        if (archive == null) {
+            throw new IllegalArgumentException("Archive cannot be null");
+        }
+        if (workingSets == null) {
+            throw new IllegalArgumentException("Working set engines cannot be null");
+        }
         this.hotel = hotel;
-        this.bookings = new ArrayList<>();
+        this.log = log;
+        this.workingSets = workingSets;
+        this.workingSet = newWorkingSet();
+        this.bookings = workingSet.getAllBookings();
+        this.sequences = new int[16];
+        this.archive = archive;
+        this.inventory = hotel.getOccupancyCalendar();
+        this.registryLock = new ReentrantReadWriteLock();
     }
     
     /**
@@ -42,26 +151,27 @@ public class BookingService {
      * @param checkInDate check-in date (non-null)
      * @param checkOutDate check-out date (non-null)
      * @return the created booking
-     * @throws InvalidBookingException if booking details are invalid
+     * @throws InvalidBookingException if booking details are invalid or the ID is already used
      * @throws RoomNotAvailableException if room is not available
+     * @throws java.io.UncheckedIOException if the write-ahead log failed before the booking was synced
      */
     public Booking createBooking(String bookingId, String guestName, String roomNumber,
                                  LocalDate checkInDate, LocalDate checkOutDate)
             throws InvalidBookingException, RoomNotAvailableException {
         
-        validateBookingInput(bookingId, guestName, roomNumber, checkInDate, checkOutDate);
+        validateBookingInput(bookingId, guestName, roomNumber, checkInDate, checkOutDate, LocalDate.now());
+        
+        if (containsBookingId(bookingId.trim())) {
+            throw new InvalidBookingException("Booking ID already exists: " + bookingId.trim());
+        }
         
         Room room = hotel.getRoomByNumber(roomNumber);
         if (room == null) {
             throw new InvalidBookingException("Room not found: " + roomNumber);
         }
         
-        if (!room.isAvailable()) {
-            throw new RoomNotAvailableException("Room " + roomNumber + " is not available");
-        }
-        
-        if (!isRoomAvailableForDates(roomNumber, checkInDate, checkOutDate)) {
-            throw new RoomNotAvailableException("Room " + roomNumber + " is not available for the specified dates");
+        if (checkOutDate.isAfter(inventory.getLastDay())) {
+            throw new InvalidBookingException("Check-out date cannot be after " + inventory.getLastDay());
         }
         
         double totalPrice = calculateTotalPrice(room, checkInDate, checkOutDate);
@@ -69,14 +179,320 @@ public class BookingService {
         Booking booking = new Booking(bookingId, guestName, room, checkInDate, checkOutDate,
                 totalPrice, BookingStatus.CONFIRMED);
         
-        bookings.add(booking);
-        room.setStatus(RoomStatus.OCCUPIED);
+        if (!room.transition(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED)) {
+            throw new RoomNotAvailableException("Room " + roomNumber + " is not available");
+        }
+        if (!inventory.tryReserve(room.getRoomNumber(), checkInDate, checkOutDate)) {
+            room.transition(RoomStatus.OCCUPIED, RoomStatus.AVAILABLE);
+            throw new RoomNotAvailableException("Room " + roomNumber + " is not available for the specified dates");
+        }
+        long sequence;
+        try {
+            sequence = register(booking);
+        } catch (InvalidBookingException | RuntimeException e) {
+            inventory.markFree(room.getRoomNumber(), checkInDate, checkOutDate);
+            room.transition(RoomStatus.OCCUPIED, RoomStatus.AVAILABLE);
+            throw e;
+        }
+        awaitDurable(sequence);
         
         return booking;
     }
     
+    /**
+     * Creates a batch of bookings, keeping each one that succeeds.
+     * Requests are processed in room and check-in order, and the outcome is
+     * the same as calling {@link #createBooking} once per request in that
+     * order. Each room is looked up and claimed once per batch, existing
+     * IDs are checked under one read lock and all bookings are registered
+     * under one write lock.
+     *
+     * @param requests the booking requests (non-null, no null elements)
+     * @return one result per request, in request order
+     * @throws IllegalArgumentException if requests or any element is null
+     */
+    public List<BookingResult> createBookings(List<BookingRequest> requests) {
+        HotelException[] failures = new HotelException[validateBatch(requests)];
+        Booking[] created = claimBatch(requests, failures, false);
+        awaitDurable(registerBatch(created, failures, false));
+        
+        List<BookingResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(failures[i] == null
+                    ? BookingResult.success(requests.get(i), created[i])
+                    : BookingResult.failure(requests.get(i), failures[i]));
+        }
+        return results;
+    }
+    
+    /**
+     * Creates a batch of bookings all-or-nothing.
+     * Either every request is booked or none is; the checks are the same as
+     * for {@link #createBookings}.
+     *
+     * @param requests the booking requests (non-null, no null elements)
+     * @return the created bookings, in request order
+     * @throws InvalidBookingException if any request is invalid; nothing is booked
+     * @throws RoomNotAvailableException if any room is not available; nothing is booked
+     * @throws IllegalArgumentException if requests or any element is null
+     */
+    public List<Booking> createBookingsAtomically(List<BookingRequest> requests)
+            throws InvalidBookingException, RoomNotAvailableException {
+        HotelException[] failures = new HotelException[validateBatch(requests)];
+        Booking[] created = claimBatch(requests, failures, true);
+        if (created != null) {
+            awaitDurable(registerBatch(created, failures, true));
+        }
+        // Report the first recorded failure in request order
+        for (HotelException failure : failures) {
+            if (failure instanceof RoomNotAvailableException) {
+                throw (RoomNotAvailableException) failure;
+            }
+            if (failure != null) {
+                throw (InvalidBookingException) failure;
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(created));
+    }
+    
+    private int validateBatch(List<BookingRequest> requests) {
+        if (requests == null) {
+            throw new IllegalArgumentException("Booking requests cannot be null");
+        }
+        for (BookingRequest request : requests) {
+            if (request == null) {
+                throw new IllegalArgumentException("Booking request cannot be null");
+            }
+        }
+        return requests.size();
+    }
+    
+    /**
+     * Validates the batch and claims rooms and nights in room and date order.
+     * Returns the claimed bookings, or null in atomic mode when anything failed
+     * (every claim is then rolled back).
+     */
+    private Booking[] claimBatch(List<BookingRequest> requests, HotelException[] failures, boolean atomic) {
+        LocalDate today = LocalDate.now();
+        Set<String> batchIds = new HashSet<>();
+        String[] roomNumbers = new String[requests.size()];
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BookingRequest request = requests.get(i);
+            try {
+                validateBookingInput(request.getBookingId(), request.getGuestName(), request.getRoomNumber(),
+                        request.getCheckInDate(), request.getCheckOutDate(), today);
+                if (request.getCheckOutDate().isAfter(inventory.getLastDay())) {
+                    throw new InvalidBookingException("Check-out date cannot be after " + inventory.getLastDay());
+                }
+                if (!batchIds.add(request.getBookingId().trim())) {
+                    throw new InvalidBookingException("Booking ID already exists: " + request.getBookingId().trim());
+                }
+                roomNumbers[i] = request.getRoomNumber().trim();
+                pending.add(i);
+            } catch (InvalidBookingException e) {
+                failures[i] = e;
+            }
+        }
+        registryLock.readLock().lock();
+        try {
+            pending.removeIf(i -> {
+                String bookingId = requests.get(i).getBookingId().trim();
+                if (isRegistered(bookingId)) {
+                    failures[i] = new InvalidBookingException("Booking ID already exists: " + bookingId);
+                    return true;
+                }
+                return false;
+            });
+        } finally {
+            registryLock.readLock().unlock();
+        }
+        
+        Booking[] created = new Booking[requests.size()];
+        if (atomic && pending.size() < requests.size()) {
+            return null;
+        }
+        pending.sort(Comparator.comparing((Integer i) -> roomNumbers[i])
+                .thenComparing(i -> requests.get(i).getCheckInDate()));
+        
+        for (int start = 0; start < pending.size(); ) {
+            String roomNumber = roomNumbers[pending.get(start)];
+            int end = start;
+            while (end < pending.size() && roomNumbers[pending.get(end)].equals(roomNumber)) {
+                end++;
+            }
+            boolean claimed = claimRoom(requests, pending.subList(start, end), created, failures);
+            start = end;
+            if (atomic && !claimed) {
+                rollBack(created);
+                return null;
+            }
+        }
+        return created;
+    }
+    
+    /**
+     * Claims one room for its group of requests, recording a failure for
+     * each request that cannot be booked. Returns true if none failed.
+     */
+    private boolean claimRoom(List<BookingRequest> requests, List<Integer> group,
+                              Booking[] created, HotelException[] failures) {
+        Room room = hotel.getRoomByNumber(requests.get(group.get(0)).getRoomNumber());
+        boolean claimed = room != null && room.transition(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED);
+        boolean booked = false;
+        for (int i : group) {
+            BookingRequest request = requests.get(i);
+            if (room == null) {
+                failures[i] = new InvalidBookingException("Room not found: " + request.getRoomNumber());
+            } else if (!claimed || booked) {
+                failures[i] = new RoomNotAvailableException("Room " + request.getRoomNumber() + " is not available");
+            } else {
+                try {
+                    // Check-in was validated against the batch's date, so skip the per-booking clock read
+                    Booking booking = Booking.restore(request.getBookingId(), request.getGuestName(), room,
+                            request.getCheckInDate(), request.getCheckOutDate(),
+                            calculateTotalPrice(room, request.getCheckInDate(), request.getCheckOutDate()),
+                            BookingStatus.CONFIRMED);
+                    if (inventory.tryReserve(room.getRoomNumber(), request.getCheckInDate(),
+                            request.getCheckOutDate())) {
+                        created[i] = booking;
+                        booked = true;
+                    } else {
+                        failures[i] = new RoomNotAvailableException("Room " + request.getRoomNumber()
+                                + " is not available for the specified dates");
+                    }
+                } catch (IllegalArgumentException e) {
+                    failures[i] = new InvalidBookingException(e.getMessage());
+                }
+            }
+        }
+        if (claimed && !booked) {
+            room.transition(RoomStatus.OCCUPIED, RoomStatus.AVAILABLE);
+        }
+        for (int i : group) {
+            if (failures[i] != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Registers claimed bookings under one write lock. In atomic mode a
+     * booking ID taken since the claim fails and rolls back the whole batch.
+     * Returns the log sequence of the last registered booking, or 0.
+     */
+    private long registerBatch(Booking[] created, HotelException[] failures, boolean atomic) {
+        long sequence = 0;
+        registryLock.writeLock().lock();
+        try {
+            for (int i = 0; i < created.length; i++) {
+                if (created[i] != null && isRegistered(created[i].getBookingId())) {
+                    failures[i] = new InvalidBookingException("Booking ID already exists: "
+                            + created[i].getBookingId());
+                    if (atomic) {
+                        rollBack(created);
+                        return 0;
+                    }
+                    rollBack(created[i]);
+                    created[i] = null;
+                }
+            }
+            if (log != null) {
+                List<Booking> registered = new ArrayList<>();
+                for (Booking booking : created) {
+                    if (booking != null) {
+                        registered.add(booking);
+                    }
+                }
+                try {
+                    sequence = registered.isEmpty() ? 0 : log.appendBookingsCreated(registered);
+                } catch (RuntimeException e) {
+                    rollBack(created);
+                    throw e;
+                }
+            }
+            for (Booking booking : created) {
+                if (booking != null) {
+                    append(booking);
+                }
+            }
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+        return sequence;
+    }
+    
+    private void rollBack(Booking[] created) {
+        for (Booking booking : created) {
+            if (booking != null) {
+                rollBack(booking);
+            }
+        }
+    }
+    
+    private void rollBack(Booking booking) {
+        inventory.markFree(booking.getRoom().getRoomNumber(), booking.getCheckInDate(), booking.getCheckOutDate());
+        booking.getRoom().transition(RoomStatus.OCCUPIED, RoomStatus.AVAILABLE);
+    }
+    
+    private boolean containsBookingId(String bookingId) {
+        registryLock.readLock().lock();
+        try {
+            return isRegistered(bookingId);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    private boolean isRegistered(String bookingId) {
+        return workingSet.containsBookingId(bookingId) || archive.containsBookingId(bookingId);
+    }
+    
+    /**
+     * Appends a booking to the working set with the next sequence number.
+     * Sequence numbers order bookings like positions do, but unlike
+     * positions they survive {@link #compact}. Call with the write lock held.
+     */
+    private void append(Booking booking) {
+        if (bookings.size() == sequences.length) {
+            sequences = Arrays.copyOf(sequences, sequences.length * 2);
+        }
+        sequences[bookings.size()] = nextSequence++;
+        workingSet.add(booking);
+    }
+    
+    private BookingRepository newWorkingSet() {
+        BookingRepository engine = workingSets.get();
+        if (engine == null || engine.getTotalBookings() != 0) {
+            throw new IllegalArgumentException("Working set engine must be supplied empty");
+        }
+        return engine;
+    }
+    
+    private long register(Booking booking) throws InvalidBookingException {
+        registryLock.writeLock().lock();
+        try {
+            // Re-checked here because another room's booking may have taken the ID meanwhile
+            if (isRegistered(booking.getBookingId())) {
+                throw new InvalidBookingException("Booking ID already exists: " + booking.getBookingId());
+            }
+            long sequence = log == null ? 0 : log.appendBookingCreated(booking);
+            append(booking);
+            return sequence;
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+    }
+    
+    private void awaitDurable(long sequence) {
+        if (log != null && sequence > 0) {
+            log.awaitDurable(sequence);
+        }
+    }
+    
     private void validateBookingInput(String bookingId, String guestName, String roomNumber,
-                                     LocalDate checkInDate, LocalDate checkOutDate)
+                                     LocalDate checkInDate, LocalDate checkOutDate, LocalDate today)
             throws InvalidBookingException {
         if (bookingId == null || bookingId.trim().isEmpty()) {
             throw new InvalidBookingException("Booking ID cannot be null or empty");
@@ -93,13 +509,20 @@ public class BookingService {
         if (checkOutDate == null) {
             throw new InvalidBookingException("Check-out date cannot be null");
         }
-        if (checkInDate.isBefore(LocalDate.now())) {
+        if (checkInDate.isBefore(today)) {
             throw new InvalidBookingException("Check-in date cannot be in the past");
         }
+        if (!checkOutDate.isAfter(checkInDate)) {
+            throw new InvalidBookingException("Check-out date must be after check-in date");
+        }
     }
     
     /**
      * Checks if a room is available for the specified date range.
+     * From today on, reads the room's reserved-day bits without locking; the
+     * calendar does not track past days, so a range that starts earlier is
+     * checked against the room's own bookings in the working set and the
+     * archive engines.
      *
      * @param roomNumber room number (non-null, non-empty)
      * @param checkInDate check-in date (non-null)
@@ -113,17 +536,17 @@ public class BookingService {
         Objects.requireNonNull(checkInDate, "Check-in date cannot be null");
         Objects.requireNonNull(checkOutDate, "Check-out date cannot be null");
         
-        return bookings.stream()
-                .filter(b -> b.getRoom().getRoomNumber().equals(roomNumber.trim()))
-                .filter(b -> b.getStatus() == BookingStatus.CONFIRMED)
-                .noneMatch(b -> hasDateConflict(b, checkInDate, checkOutDate));
-    }
-    
-    private boolean hasDateConflict(Booking existingBooking, LocalDate checkInDate, LocalDate checkOutDate) {
-        LocalDate existingCheckIn = existingBooking.getCheckInDate();
-        LocalDate existingCheckOut = existingBooking.getCheckOutDate();
-        
-        return !checkOutDate.isBefore(existingCheckIn) && !checkInDate.isAfter(existingCheckOut);
+        String number = roomNumber.trim();
+        if (!checkInDate.isBefore(LocalDate.now())) {
+            return inventory.isFree(number, checkInDate, checkOutDate);
+        }
+        registryLock.readLock().lock();
+        try {
+            return workingSet.isRoomAvailableForDates(number, checkInDate, checkOutDate)
+                    && archive.isRoomAvailableForDates(number, checkInDate, checkOutDate);
+        } finally {
+            registryLock.readLock().unlock();
+        }
     }
     
     /**
@@ -145,30 +568,481 @@ public class BookingService {
     
     /**
      * Cancels a booking by its ID.
+     * The booking is replaced by a cancelled copy and its dates are released.
+     * The room returns to available only if it is still occupied, so a
+     * concurrent change such as maintenance is not overwritten.
      *
      * @param bookingId booking ID (non-null, non-empty)
      * @return true if booking was cancelled, false if booking not found
      * @throws IllegalArgumentException if bookingId is invalid
+     * @throws java.io.UncheckedIOException if the write-ahead log failed before the cancellation was synced
      */
     public boolean cancelBooking(String bookingId) {
         if (bookingId == null || bookingId.trim().isEmpty()) {
             throw new IllegalArgumentException("Booking ID cannot be null or empty");
         }
         
-        for (Booking booking : bookings) {
-            if (booking.getBookingId().equals(bookingId.trim())) {
-                if (booking.getStatus() != BookingStatus.CANCELLED) {
-                    booking.getRoom().setStatus(RoomStatus.AVAILABLE);
-                    return true;
-                }
+        long[] sequence = new long[1];
+        Booking booking = markCancelled(bookingId.trim(), sequence, true);
+        if (booking == null) {
+            return false;
+        }
+        release(booking);
+        awaitDurable(sequence[0]);
+        return true;
+    }
+    
+    private void release(Booking booking) {
+        // Release the nights last so a new booking of them cannot be undone by this cancellation
+        Room room = booking.getRoom();
+        room.transition(RoomStatus.OCCUPIED, RoomStatus.AVAILABLE);
+        inventory.markFree(room.getRoomNumber(), booking.getCheckInDate(), booking.getCheckOutDate());
+    }
+    
+    private Booking markCancelled(String bookingId, long[] sequence, boolean logged) {
+        registryLock.writeLock().lock();
+        try {
+            Booking booking = workingSet.getBookingById(bookingId);
+            if (booking == null || booking.getStatus() == BookingStatus.CANCELLED) {
+                return null;
+            }
+            if (log != null && logged) {
+                sequence[0] = log.appendBookingCancelled(bookingId);
+            }
+            workingSet.cancelBooking(bookingId);
+            return booking;
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Changes a room's status and records the change in the write-ahead log.
+     * Status changes made directly through {@link Room#setStatus} are not logged.
+     *
+     * @param roomNumber room number (non-null, non-empty)
+     * @param status the new status (non-null)
+     * @return true if the room was found, false otherwise
+     * @throws IllegalArgumentException if roomNumber or status is invalid
+     * @throws java.io.UncheckedIOException if the write-ahead log failed before the change was synced
+     */
+    public boolean setRoomStatus(String roomNumber, RoomStatus status) {
+        if (roomNumber == null || roomNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Room number cannot be null or empty");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Room status cannot be null");
+        }
+        Room room = hotel.getRoomByNumber(roomNumber);
+        if (room == null) {
+            return false;
+        }
+        long sequence = 0;
+        registryLock.writeLock().lock();
+        try {
+            if (log != null) {
+                sequence = log.appendRoomStatus(room.getRoomNumber(), status);
+            }
+            room.setStatus(status);
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+        awaitDurable(sequence);
+        return true;
+    }
+    
+    /**
+     * Adds a room to the hotel and records the addition in the write-ahead
+     * log, so bookings for the room can be replayed before the next
+     * checkpoint. Rooms added directly through {@link Hotel#addRoom} are not logged.
+     *
+     * @param room the room to add (non-null)
+     * @return true if the room was added, false if its number is already taken
+     * @throws IllegalArgumentException if room is null
+     * @throws java.io.UncheckedIOException if the write-ahead log failed before the addition was synced
+     */
+    public boolean addRoom(Room room) {
+        if (room == null) {
+            throw new IllegalArgumentException("Room cannot be null");
+        }
+        long sequence = 0;
+        registryLock.writeLock().lock();
+        try {
+            if (hotel.getRoomByNumber(room.getRoomNumber()) != null) {
                 return false;
             }
+            if (log != null) {
+                sequence = log.appendRoomAdded(room);
+            }
+            hotel.addRoom(room);
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+        awaitDurable(sequence);
+        return true;
+    }
+    
+    /**
+     * Copies every booking, archived ones first, together with the number
+     * of archived bookings and the current write-ahead log offset, so a
+     * restore can put each booking back into its tier.
+     * The registry is read-locked only while its list and archive are copied.
+     *
+     * @return the copied state
+     */
+    public BookingServiceState captureState() {
+        registryLock.readLock().lock();
+        try {
+            List<Booking> archived = archive.getAllBookings();
+            Booking[] copy = new Booking[archived.size() + bookings.size()];
+            for (int row = 0; row < archived.size(); row++) {
+                copy[row] = archived.get(row);
+            }
+            for (int position = 0; position < bookings.size(); position++) {
+                copy[archived.size() + position] = bookings.get(position);
+            }
+            return new BookingServiceState(Collections.unmodifiableList(Arrays.asList(copy)), archived.size(),
+                    log == null ? -1 : log.getEndOffset());
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Re-registers bookings read back from storage, without logging them
+     * and without the past-date check. Confirmed bookings reserve the nights
+     * that are still ahead and take their room; a confirmed stay that is
+     * already over is registered without taking its room. Bookings whose ID is
+     * already registered are skipped, so replaying a record twice is harmless.
+     *
+     * @param restored the bookings to register, in creation order (non-null)
+     * @return the number of bookings registered
+     * @throws IllegalArgumentException if restored is null
+     */
+    public int restoreBookings(List<Booking> restored) {
+        if (restored == null) {
+            throw new IllegalArgumentException("Bookings cannot be null");
+        }
+        List<Booking> confirmed = new ArrayList<>();
+        int count = 0;
+        registryLock.writeLock().lock();
+        try {
+            for (Booking booking : restored) {
+                if (isRegistered(booking.getBookingId())) {
+                    continue;
+                }
+                append(booking);
+                if (booking.getStatus() == BookingStatus.CONFIRMED) {
+                    confirmed.add(booking);
+                }
+                count++;
+            }
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate lastDay = inventory.getLastDay();
+        for (Booking booking : confirmed) {
+            String roomNumber = booking.getRoom().getRoomNumber();
+            LocalDate from = booking.getCheckInDate().isBefore(today) ? today : booking.getCheckInDate();
+            LocalDate to = booking.getCheckOutDate().isAfter(lastDay) ? lastDay : booking.getCheckOutDate();
+            if (!to.isBefore(from)) {
+                inventory.markOccupied(roomNumber, from, to);
+                booking.getRoom().transition(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED);
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Re-registers bookings read back from storage that {@link #compact} had
+     * archived, directly into the archive tier, without logging them.
+     * Archived bookings are finished, so they reserve no nights and take no
+     * rooms. Bookings whose ID is already registered are skipped, so a
+     * durable archive that still holds them is not filled twice.
+     *
+     * @param archived the archived bookings, in the order they were archived (non-null)
+     * @return the number of bookings registered
+     * @throws IllegalArgumentException if archived is null
+     */
+    public int restoreArchivedBookings(List<Booking> archived) {
+        if (archived == null) {
+            throw new IllegalArgumentException("Bookings cannot be null");
+        }
+        int count = 0;
+        registryLock.writeLock().lock();
+        try {
+            for (Booking booking : archived) {
+                if (!isRegistered(booking.getBookingId())) {
+                    archive.add(booking);
+                    count++;
+                }
+            }
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+        return count;
+    }
+    
+    /**
+     * Registers a chunk of imported bookings, without logging them and
+     * without the past-date check. Unlike {@link #restoreBookings}, bookings
+     * are checked: a duplicate ID, a room the hotel does not have or a
+     * confirmed stay whose nights from today on are already reserved is
+     * rejected.
+     * Confirmed bookings reserve their nights under the registry write lock,
+     * so the whole chunk is checked and registered in one locked pass. As
+     * with {@link #restoreBookings}, only a confirmed stay with nights from
+     * today on takes its room.
+     * Take a checkpoint afterwards to make an import durable.
+     *
+     * @param imported the bookings to register, in import order (non-null, no null elements)
+     * @return one entry per booking, null if it was registered, otherwise
+     *         an InvalidBookingException or RoomNotAvailableException
+     * @throws IllegalArgumentException if imported or any element is null
+     */
+    public HotelException[] importBookings(List<Booking> imported) {
+        if (imported == null) {
+            throw new IllegalArgumentException("Bookings cannot be null");
+        }
+        for (Booking booking : imported) {
+            if (booking == null) {
+                throw new IllegalArgumentException("Booking cannot be null");
+            }
+        }
+        HotelException[] failures = new HotelException[imported.size()];
+        List<Booking> confirmed = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        LocalDate lastDay = inventory.getLastDay();
+        registryLock.writeLock().lock();
+        try {
+            for (int i = 0; i < failures.length; i++) {
+                Booking booking = imported.get(i);
+                Room room = booking.getRoom();
+                if (hotel.getRoomByNumber(room.getRoomNumber()) != room) {
+                    failures[i] = new InvalidBookingException("Room not found: " + room.getRoomNumber());
+                    continue;
+                }
+                if (isRegistered(booking.getBookingId())) {
+                    failures[i] = new InvalidBookingException("Booking ID already exists: " + booking.getBookingId());
+                    continue;
+                }
+                if (booking.getStatus() == BookingStatus.CONFIRMED) {
+                    LocalDate from = booking.getCheckInDate().isBefore(today) ? today : booking.getCheckInDate();
+                    LocalDate to = booking.getCheckOutDate().isAfter(lastDay) ? lastDay : booking.getCheckOutDate();
+                    if (!to.isBefore(from)) {
+                        if (!inventory.tryReserve(room.getRoomNumber(), from, to)) {
+                            failures[i] = new RoomNotAvailableException("Room " + room.getRoomNumber()
+                                    + " is not available for the specified dates");
+                            continue;
+                        }
+                        confirmed.add(booking);
+                    }
+                }
+                append(booking);
+            }
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+        for (Booking booking : confirmed) {
+            booking.getRoom().transition(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED);
+        }
+        return failures;
+    }
+    
+    /**
+     * Cancels a booking read back from storage, without logging it.
+     *
+     * @param bookingId booking ID (non-null, non-empty)
+     * @return true if the booking was cancelled, false if not found or already cancelled
+     * @throws IllegalArgumentException if bookingId is invalid
+     */
+    public boolean restoreCancellation(String bookingId) {
+        if (bookingId == null || bookingId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Booking ID cannot be null or empty");
+        }
+        Booking booking = markCancelled(bookingId.trim(), new long[1], false);
+        if (booking == null) {
+            return false;
+        }
+        release(booking);
+        return true;
+    }
+    
+    /**
+     * Moves finished bookings out of the working set into the archive tier:
+     * cancelled bookings, and other bookings that checked out before the
+     * cutoff. Archived bookings no longer cost anything in active-booking
+     * scans, guest lookups, pages or streams; they stay reachable through
+     * {@link #getBookingById}, {@link #getArchivedBookingsByGuest},
+     * {@link #getAllBookings}, the streams and checkpoints, and their IDs
+     * stay taken. An archived booking can no longer be cancelled, so a
+     * confirmed stay that is archived returns its room to available, unless
+     * another confirmed booking in the working set holds the room or the
+     * room has meanwhile changed to another status such as maintenance.
+     * If the archive engine fails part way, the bookings it took are
+     * dropped from the working set and the rest stay, then the failure is
+     * rethrown.
+     * <p>
+     * The archive is the {@link BookingRepository} given at construction, by
+     * default a {@link CompactBookingStore}, where an archived booking costs
+     * a few dozen bytes instead of a {@link Booking} object; a
+     * {@link MappedBookingStore} moves the history off the heap. Compaction holds the registry write
+     * lock while it copies the remaining bookings into a new working set
+     * engine and archives the rest. Nothing is logged: the bookings
+     * themselves do not change.
+     *
+     * @param cutoff bookings checking out before this date are archived (non-null, not after today)
+     * @return the number of bookings archived
+     * @throws IllegalArgumentException if cutoff is null or in the future
+     */
+    public int compact(LocalDate cutoff) {
+        if (cutoff == null) {
+            throw new IllegalArgumentException("Cutoff date cannot be null");
+        }
+        if (cutoff.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Cutoff date cannot be in the future");
+        }
+        
+        List<Booking> finished = new ArrayList<>();
+        registryLock.writeLock().lock();
+        try {
+            int[] leaving = new int[bookings.size()];
+            int count = 0;
+            for (int position = 0; position < bookings.size(); position++) {
+                Booking booking = bookings.get(position);
+                if (booking.getStatus() == BookingStatus.CANCELLED || booking.getCheckOutDate().isBefore(cutoff)) {
+                    leaving[count++] = position;
+                }
+            }
+            if (count == 0) {
+                return 0;
+            }
+            // Built before archiving, so a failing working set engine leaves both tiers untouched
+            WorkingSet survivors = rebuild(leaving, count);
+            int archived = 0;
+            try {
+                while (archived < count) {
+                    archive.add(bookings.get(leaving[archived]));
+                    archived++;
+                }
+            } finally {
+                // Drop only what the archive took, so a failing archive neither loses a booking nor keeps it twice
+                if (archived < count) {
+                    survivors.engine.close();
+                    survivors = archived > 0 ? rebuild(leaving, archived) : null;
+                }
+                if (survivors != null) {
+                    collectFinishedStays(leaving, archived, survivors, finished);
+                    swap(survivors);
+                }
+            }
+            return archived;
+        } finally {
+            registryLock.writeLock().unlock();
+            releaseFinishedStays(finished);
+        }
+    }
+    
+    /**
+     * Copies the working set into a new engine, leaving out the first
+     * count positions in leaving, and carries over the sequence numbers.
+     */
+    private WorkingSet rebuild(int[] leaving, int count) {
+        WorkingSet rebuilt = new WorkingSet(newWorkingSet(), bookings.size() - count);
+        int next = 0;
+        for (int position = 0; position < bookings.size(); position++) {
+            if (next < count && leaving[next] == position) {
+                next++;
+                continue;
+            }
+            Booking booking = bookings.get(position);
+            int survivor = rebuilt.engine.getTotalBookings();
+            rebuilt.engine.add(booking);
+            rebuilt.sequences[survivor] = sequences[position];
+        }
+        return rebuilt;
+    }
+    
+    private void swap(WorkingSet survivors) {
+        BookingRepository replaced = workingSet;
+        // Positions have shifted, so everything is swapped in together
+        workingSet = survivors.engine;
+        bookings = survivors.engine.getAllBookings();
+        sequences = survivors.sequences;
+        replaced.close();
+    }
+    
+    private void collectFinishedStays(int[] leaving, int archived, WorkingSet survivors, List<Booking> finished) {
+        Set<Room> held = new HashSet<>();
+        for (Booking booking : survivors.engine.getActiveBookings()) {
+            held.add(booking.getRoom());
+        }
+        for (int i = 0; i < archived; i++) {
+            Booking booking = bookings.get(leaving[i]);
+            if (booking.getStatus() == BookingStatus.CONFIRMED && !held.contains(booking.getRoom())) {
+                finished.add(booking);
+            }
+        }
+    }
+    
+    private void releaseFinishedStays(List<Booking> finished) {
+        for (Booking booking : finished) {
+            booking.getRoom().transition(RoomStatus.OCCUPIED, RoomStatus.AVAILABLE);
+        }
+    }
+    
+    /**
+     * Gets the archived bookings of a guest, in the order they were archived.
+     * The guest name is matched ignoring case. The default archive engine scans all of its bookings.
+     *
+     * @param guestName guest name (non-null, non-empty)
+     * @return list of the guest's archived bookings
+     */
+    public List<Booking> getArchivedBookingsByGuest(String guestName) {
+        if (guestName == null || guestName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name cannot be null or empty");
+        }
+        
+        registryLock.readLock().lock();
+        try {
+            return archive.getBookingsByGuest(guestName);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Gets the number of archived bookings.
+     *
+     * @return archive size
+     */
+    public int getArchivedBookingCount() {
+        registryLock.readLock().lock();
+        try {
+            return archive.getTotalBookings();
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Gets the number of bookings in the working set, that is, not archived.
+     *
+     * @return working set size
+     */
+    public int getWorkingSetSize() {
+        registryLock.readLock().lock();
+        try {
+            return bookings.size();
+        } finally {
+            registryLock.readLock().unlock();
         }
-        return false;
     }
     
     /**
      * Gets a booking by its ID.
+     * Archived bookings are found too, after a miss in the working set.
      *
      * @param bookingId booking ID (non-null, non-empty)
      * @return the booking if found, null otherwise
@@ -178,14 +1052,18 @@ public class BookingService {
             throw new IllegalArgumentException("Booking ID cannot be null or empty");
         }
         
-        return bookings.stream()
-                .filter(b -> b.getBookingId().equals(bookingId.trim()))
-                .findFirst()
-                .orElse(null);
+        registryLock.readLock().lock();
+        try {
+            Booking booking = workingSet.getBookingById(bookingId.trim());
+            return booking != null ? booking : archive.getBookingById(bookingId.trim());
+        } finally {
+            registryLock.readLock().unlock();
+        }
     }
     
     /**
      * Gets all bookings for a specific guest.
+     * The guest name is matched ignoring case.
      *
      * @param guestName guest name (non-null, non-empty)
      * @return list of bookings for the guest
@@ -195,11 +1073,38 @@ public class BookingService {
             throw new IllegalArgumentException("Guest name cannot be null or empty");
         }
         
-        List<Booking> result = new ArrayList<>();
-        for (Booking booking : bookings) {
-            if (booking.getGuestName().equalsIgnoreCase(guestName.trim())) {
-                result.add(booking);
-            }
+        registryLock.readLock().lock();
+        try {
+            return workingSet.getBookingsByGuest(guestName);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Gets all bookings for guests whose name starts with a prefix.
+     * The prefix is matched ignoring case.
+     *
+     * @param prefix guest name prefix (non-null, non-empty)
+     * @return list of bookings grouped by guest name in alphabetical order
+     */
+    public List<Booking> getBookingsByGuestPrefix(String prefix) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name prefix cannot be null or empty");
+        }
+        
+        registryLock.readLock().lock();
+        try {
+            return resolve(workingSet.getGuestPositionsByPrefix(prefix));
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    private List<Booking> resolve(List<Integer> positions) {
+        List<Booking> result = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            result.add(bookings.get(position));
         }
         return result;
     }
@@ -210,30 +1115,279 @@ public class BookingService {
      * @return list of active bookings
      */
     public List<Booking> getActiveBookings() {
-        List<Booking> result = new ArrayList<>();
-        for (Booking booking : bookings) {
-            if (booking.getStatus() == BookingStatus.CONFIRMED) {
-                result.add(booking);
-            }
+        registryLock.readLock().lock();
+        try {
+            return workingSet.getActiveBookings();
+        } finally {
+            registryLock.readLock().unlock();
         }
-        return result;
     }
     
     /**
-     * Gets all bookings (unmodifiable list).
+     * Gets all bookings (unmodifiable snapshot), archived ones first.
      *
      * @return all bookings
      */
     public List<Booking> getAllBookings() {
-        return Collections.unmodifiableList(bookings);
+        registryLock.readLock().lock();
+        try {
+            if (archive.getTotalBookings() == 0) {
+                return Collections.unmodifiableList(new ArrayList<>(bookings));
+            }
+            List<Booking> result = new ArrayList<>(archive.getAllBookings());
+            result.addAll(bookings);
+            return Collections.unmodifiableList(result);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Gets one page of all bookings, in booking order.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param pageSize maximum number of bookings on the page (positive)
+     * @return the page
+     * @throws IllegalArgumentException if the cursor is not valid or pageSize is not positive
+     */
+    public BookingPage getAllBookings(String cursor, int pageSize) {
+        return scanPage(cursor, pageSize, false);
+    }
+    
+    /**
+     * Gets one page of active bookings, in booking order.
+     * At most {@value #PAGE_SCAN_LIMIT} bookings are examined per call, so a
+     * page may come back short, or empty, with a non-null next cursor.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param pageSize maximum number of bookings on the page (positive)
+     * @return the page
+     * @throws IllegalArgumentException if the cursor is not valid or pageSize is not positive
+     */
+    public BookingPage getActiveBookings(String cursor, int pageSize) {
+        return scanPage(cursor, pageSize, true);
     }
     
     /**
-     * Gets the total number of bookings.
+     * Gets one page of a guest's bookings, in booking order.
+     * The guest name is matched ignoring case.
+     *
+     * @param guestName guest name (non-null, non-empty)
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param pageSize maximum number of bookings on the page (positive)
+     * @return the page
+     * @throws IllegalArgumentException if the guest name or cursor is not valid or pageSize is not positive
+     */
+    public BookingPage getBookingsByGuest(String guestName, String cursor, int pageSize) {
+        if (guestName == null || guestName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name cannot be null or empty");
+        }
+        validatePageSize(pageSize);
+        
+        registryLock.readLock().lock();
+        try {
+            int from = decodeCursor(cursor);
+            List<Integer> positions = workingSet.getGuestPositions(guestName);
+            int index = 0;
+            int high = positions.size();
+            while (index < high) {
+                int middle = (index + high) >>> 1;
+                if (sequences[positions.get(middle)] < from) {
+                    index = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            int end = Math.min(positions.size(), index + pageSize);
+            List<Booking> page = new ArrayList<>(end - index);
+            for (int i = index; i < end; i++) {
+                page.add(bookings.get(positions.get(i)));
+            }
+            String next = end < positions.size() ? encodeCursor(sequences[positions.get(end)]) : null;
+            return new BookingPage(Collections.unmodifiableList(page), next);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    private BookingPage scanPage(String cursor, int pageSize, boolean activeOnly) {
+        validatePageSize(pageSize);
+        
+        registryLock.readLock().lock();
+        try {
+            int position = Arrays.binarySearch(sequences, 0, bookings.size(), decodeCursor(cursor));
+            if (position < 0) {
+                position = -position - 1;
+            }
+            int scanEnd = (int) Math.min(bookings.size(), (long) position + PAGE_SCAN_LIMIT);
+            List<Booking> page = new ArrayList<>(Math.min(pageSize, scanEnd - position));
+            while (position < scanEnd && page.size() < pageSize) {
+                Booking booking = bookings.get(position++);
+                if (!activeOnly || booking.getStatus() == BookingStatus.CONFIRMED) {
+                    page.add(booking);
+                }
+            }
+            String next = position < bookings.size() ? encodeCursor(sequences[position]) : null;
+            return new BookingPage(Collections.unmodifiableList(page), next);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    private static void validatePageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+    }
+    
+    /**
+     * Cursors are the sequence number of the next booking in base 36.
+     * Sequence numbers never change, so a cursor stays valid while bookings
+     * are added, cancelled or archived.
+     */
+    private static String encodeCursor(int sequence) {
+        return Integer.toString(sequence, Character.MAX_RADIX);
+    }
+    
+    private int decodeCursor(String cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        try {
+            int sequence = Integer.parseInt(cursor, Character.MAX_RADIX);
+            if (sequence >= 0 && sequence <= nextSequence) {
+                return sequence;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+    
+    /**
+     * Streams all bookings in booking order without copying them into a list.
+     * The stream reads the working set one page at a time and is weakly
+     * consistent: it sees bookings added while it runs, and a cancellation
+     * only if it happens before its page is read. Archived bookings come
+     * first, as in {@link #getAllBookings()}; a booking archived while the
+     * stream is past the archive is not streamed.
+     *
+     * @return lazy stream of bookings
+     */
+    public Stream<Booking> streamAllBookings() {
+        return Stream.concat(streamPages(this::getArchivedPage),
+                streamPages(cursor -> getAllBookings(cursor, STREAM_PAGE_SIZE)));
+    }
+    
+    private BookingPage getArchivedPage(String cursor) {
+        int row = cursor == null ? 0 : Integer.parseInt(cursor, Character.MAX_RADIX);
+        registryLock.readLock().lock();
+        try {
+            List<Booking> archived = archive.getAllBookings();
+            int end = Math.min(archived.size(), row + STREAM_PAGE_SIZE);
+            return new BookingPage(new ArrayList<>(archived.subList(row, end)),
+                    end < archived.size() ? Integer.toString(end, Character.MAX_RADIX) : null);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Streams active bookings in booking order without copying them into a list.
+     * Weakly consistent, like {@link #streamAllBookings()}. Archived bookings
+     * are finished, so they are not streamed.
+     *
+     * @return lazy stream of active bookings
+     */
+    public Stream<Booking> streamActiveBookings() {
+        return streamPages(cursor -> getActiveBookings(cursor, STREAM_PAGE_SIZE));
+    }
+    
+    /**
+     * Streams a guest's bookings in booking order without copying them into a list.
+     * Weakly consistent, like {@link #streamAllBookings()}; the guest's
+     * archived bookings come first and are read in one lookup.
+     *
+     * @param guestName guest name (non-null, non-empty)
+     * @return lazy stream of the guest's bookings
+     */
+    public Stream<Booking> streamBookingsByGuest(String guestName) {
+        if (guestName == null || guestName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name cannot be null or empty");
+        }
+        return Stream.concat(streamPages(cursor -> new BookingPage(getArchivedBookingsByGuest(guestName), null)),
+                streamPages(cursor -> getBookingsByGuest(guestName, cursor, STREAM_PAGE_SIZE)));
+    }
+    
+    private static Stream<Booking> streamPages(Function<String, BookingPage> query) {
+        Iterator<Booking> iterator = new Iterator<Booking>() {
+            private Iterator<Booking> page = Collections.emptyIterator();
+            private String cursor;
+            private boolean last;
+            
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && !last) {
+                    BookingPage next = query.apply(cursor);
+                    page = next.getBookings().iterator();
+                    cursor = next.getNextCursor();
+                    last = cursor == null;
+                }
+                return page.hasNext();
+            }
+            
+            @Override
+            public Booking next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+    
+    /**
+     * Counts active bookings without copying them into a list.
+     *
+     * @return number of confirmed bookings
+     */
+    public int getActiveBookingCount() {
+        registryLock.readLock().lock();
+        try {
+            return workingSet.getActiveBookingCount();
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Gets the total number of bookings, archived ones included.
      *
      * @return booking count
      */
     public int getTotalBookings() {
-        return bookings.size();
+        registryLock.readLock().lock();
+        try {
+            return bookings.size() + archive.getTotalBookings();
+        } finally {
+            registryLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * A rebuilt working set: its engine with the sequence numbers over the
+     * engine's positions.
+     */
+    private static final class WorkingSet {
+        
+        private final BookingRepository engine;
+        private final int[] sequences;
+        
+        WorkingSet(BookingRepository engine, int size) {
+            this.engine = engine;
+            this.sequences = new int[Math.max(16, size + (size >> 1))];
+        }
     }
 }
@@ -0,0 +1,51 @@
+package com.hotel.service;
+
+import com.hotel.model.Booking;
+
+import java.util.List;
+
+/**
+ * Point-in-time copy of a {@link BookingService}'s bookings, taken together
+ * with the position of its write-ahead log.
+ * Every change made after the copy is in the log from that position onwards.
+ */
+public final class BookingServiceState {
+    
+    private final List<Booking> bookings;
+    private final int archivedCount;
+    private final long logOffset;
+    
+    BookingServiceState(List<Booking> bookings, int archivedCount, long logOffset) {
+        this.bookings = bookings;
+        this.archivedCount = archivedCount;
+        this.logOffset = logOffset;
+    }
+    
+    /**
+     * Gets every booking: the archived ones first, in the order they were
+     * archived, then the working set in creation order.
+     *
+     * @return unmodifiable list of bookings
+     */
+    public List<Booking> getBookings() {
+        return bookings;
+    }
+    
+    /**
+     * Gets the number of archived bookings at the start of {@link #getBookings()}.
+     *
+     * @return archived booking count
+     */
+    public int getArchivedCount() {
+        return archivedCount;
+    }
+    
+    /**
+     * Gets the write-ahead log offset at the time of the copy.
+     *
+     * @return log end offset, or -1 if the service has no log
+     */
+    public long getLogOffset() {
+        return logOffset;
+    }
+}
@@ -0,0 +1,112 @@
+package com.hotel.service;
+
+import com.hotel.model.Booking;
+import com.hotel.model.BookingStatus;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable view of the bookings applied by a {@link BookingCommandPipeline}
+ * up to a given command sequence.
+ * Bookings are held in fixed-size chunks. The writer copies a chunk before
+ * changing a booking that a published snapshot can see and appends only past
+ * a snapshot's size, so publishing costs a copy of the chunk table rather
+ * than of every booking.
+ */
+public final class BookingSnapshot {
+    
+    static final int CHUNK_SIZE = 1024;
+    
+    private final long sequence;
+    private final Booking[][] chunks;
+    private final int size;
+    private final Map<String, Integer> positionsById;
+    
+    BookingSnapshot(long sequence, Booking[][] chunks, int size, Map<String, Integer> positionsById) {
+        this.sequence = sequence;
+        this.chunks = chunks;
+        this.size = size;
+        this.positionsById = positionsById;
+    }
+    
+    /**
+     * Gets the sequence of the last command reflected in this snapshot.
+     *
+     * @return command sequence, or -1 if no command has been applied
+     */
+    public long getSequence() {
+        return sequence;
+    }
+    
+    /**
+     * Gets a booking by its ID.
+     *
+     * @param bookingId booking ID (non-null, non-empty)
+     * @return the booking as of this snapshot, or null if not found
+     */
+    public Booking getBookingById(String bookingId) {
+        if (bookingId == null || bookingId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Booking ID cannot be null or empty");
+        }
+        // The ID map is shared with later snapshots; positions past this size did not exist yet
+        Integer position = positionsById.get(bookingId.trim());
+        return position == null || position >= size ? null : get(position);
+    }
+    
+    /**
+     * Gets all active bookings (confirmed and not cancelled).
+     *
+     * @return list of active bookings
+     */
+    public List<Booking> getActiveBookings() {
+        List<Booking> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Booking booking = get(i);
+            if (booking.getStatus() == BookingStatus.CONFIRMED) {
+                result.add(booking);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Gets all bookings as an unmodifiable list view.
+     *
+     * @return all bookings as of this snapshot
+     */
+    public List<Booking> getAllBookings() {
+        return new AbstractList<Booking>() {
+            @Override
+            public Booking get(int index) {
+                Objects.checkIndex(index, size);
+                return BookingSnapshot.this.get(index);
+            }
+            
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+    
+    /**
+     * Gets the total number of bookings.
+     *
+     * @return booking count
+     */
+    public int getTotalBookings() {
+        return size;
+    }
+    
+    boolean sharesChunk(int index, Booking[] chunk) {
+        return index < chunks.length && chunks[index] == chunk;
+    }
+    
+    private Booking get(int position) {
+        return chunks[position / CHUNK_SIZE][position % CHUNK_SIZE];
+    }
+}
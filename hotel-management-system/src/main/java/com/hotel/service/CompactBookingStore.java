@@ -0,0 +1,404 @@
+package com.hotel.service;
+
+import com.hotel.model.Booking;
+import com.hotel.model.BookingStatus;
+import com.hotel.model.Room;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Column-oriented booking store for large booking histories.
+ * Each booking is a row spread over parallel primitive arrays: epoch-day
+ * check-in and check-out, room ordinal, price in cents, status ordinal and
+ * a dictionary-coded guest id. Rooms and guest names are stored once in
+ * dictionaries, so a scan touches only dense primitive arrays.
+ * Booking IDs are looked up through an open-addressing table of row numbers
+ * rather than a boxed map, and each row links to the previous row of the
+ * same room, so an availability check reads only that room's rows. Bookings are materialized as {@link Booking}
+ * objects only when returned. Prices are kept in whole cents.
+ */
+public class CompactBookingStore implements BookingRepository {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+    
+    private String[] bookingIds;
+    private int[] checkInDays;
+    private int[] checkOutDays;
+    private int[] roomOrdinals;
+    private long[] priceCents;
+    private byte[] statuses;
+    private int[] guestIds;
+    private int[] previousRoomRows;
+    private int size;
+    private int[] idSlots;
+    private int[] lastRowsByRoom;
+    
+    private final List<Room> rooms;
+    private final Map<String, Integer> roomOrdinalsByNumber;
+    private final List<String> guestNames;
+    private final Map<String, Integer> guestIdsByName;
+    private final Map<String, int[]> guestIdsByKey;
+    
+    /**
+     * Creates an empty store.
+     */
+    public CompactBookingStore() {
+        this.bookingIds = new String[INITIAL_CAPACITY];
+        this.checkInDays = new int[INITIAL_CAPACITY];
+        this.checkOutDays = new int[INITIAL_CAPACITY];
+        this.roomOrdinals = new int[INITIAL_CAPACITY];
+        this.priceCents = new long[INITIAL_CAPACITY];
+        this.statuses = new byte[INITIAL_CAPACITY];
+        this.guestIds = new int[INITIAL_CAPACITY];
+        this.previousRoomRows = new int[INITIAL_CAPACITY];
+        this.idSlots = new int[INITIAL_CAPACITY * 2];
+        this.lastRowsByRoom = new int[INITIAL_CAPACITY];
+        this.rooms = new ArrayList<>();
+        this.roomOrdinalsByNumber = new HashMap<>();
+        this.guestNames = new ArrayList<>();
+        this.guestIdsByName = new HashMap<>();
+        this.guestIdsByKey = new HashMap<>();
+    }
+    
+    /**
+     * Appends a booking to the store.
+     *
+     * @param booking the booking to store (non-null)
+     * @throws IllegalArgumentException if booking is null or its ID is already stored
+     */
+    @Override
+    public void add(Booking booking) {
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+        if (findRow(booking.getBookingId()) >= 0) {
+            throw new IllegalArgumentException("Booking ID already exists: " + booking.getBookingId());
+        }
+        ensureCapacity(size + 1);
+        bookingIds[size] = booking.getBookingId();
+        insertSlot(idSlots, booking.getBookingId(), size);
+        checkInDays[size] = Math.toIntExact(booking.getCheckInDate().toEpochDay());
+        checkOutDays[size] = Math.toIntExact(booking.getCheckOutDate().toEpochDay());
+        int room = roomOrdinal(booking.getRoom());
+        roomOrdinals[size] = room;
+        // Room chains hold row + 1 like the ID table, so zero ends a chain
+        previousRoomRows[size] = lastRowsByRoom[room];
+        lastRowsByRoom[room] = size + 1;
+        priceCents[size] = Math.round(booking.getTotalPrice() * 100);
+        statuses[size] = (byte) booking.getStatus().ordinal();
+        guestIds[size] = guestId(booking.getGuestName());
+        size++;
+    }
+    
+    /**
+     * Marks a booking as cancelled in place.
+     *
+     * @param bookingId booking ID (non-null, non-empty)
+     * @return true if booking was cancelled, false if not found or already cancelled
+     * @throws IllegalArgumentException if bookingId is invalid
+     */
+    @Override
+    public boolean cancelBooking(String bookingId) {
+        int row = findRow(validateBookingId(bookingId));
+        if (row < 0 || statuses[row] == BookingStatus.CANCELLED.ordinal()) {
+            return false;
+        }
+        statuses[row] = (byte) BookingStatus.CANCELLED.ordinal();
+        return true;
+    }
+    
+    /**
+     * Checks if a room is free of confirmed bookings for the date range.
+     * Boundaries are inclusive, as in {@link BookingService#isRoomAvailableForDates}.
+     *
+     * @param roomNumber room number (non-null, non-empty)
+     * @param checkInDate check-in date (non-null)
+     * @param checkOutDate check-out date (non-null)
+     * @return true if room is available, false otherwise
+     */
+    @Override
+    public boolean isRoomAvailableForDates(String roomNumber, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (roomNumber == null || roomNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Room number cannot be null or empty");
+        }
+        Objects.requireNonNull(checkInDate, "Check-in date cannot be null");
+        Objects.requireNonNull(checkOutDate, "Check-out date cannot be null");
+        
+        Integer ordinal = roomOrdinalsByNumber.get(roomNumber.trim());
+        if (ordinal == null) {
+            return true;
+        }
+        long from = checkInDate.toEpochDay();
+        long to = checkOutDate.toEpochDay();
+        byte confirmed = (byte) BookingStatus.CONFIRMED.ordinal();
+        for (int row = lastRowsByRoom[ordinal] - 1; row >= 0; row = previousRoomRows[row] - 1) {
+            if (statuses[row] == confirmed && to >= checkInDays[row] && from <= checkOutDays[row]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Gets a booking by its ID.
+     *
+     * @param bookingId booking ID (non-null, non-empty)
+     * @return the booking if found, null otherwise
+     */
+    @Override
+    public Booking getBookingById(String bookingId) {
+        int row = findRow(validateBookingId(bookingId));
+        return row < 0 ? null : materialize(row);
+    }
+    
+    @Override
+    public boolean containsBookingId(String bookingId) {
+        return findRow(validateBookingId(bookingId)) >= 0;
+    }
+    
+    /**
+     * Gets all bookings for a specific guest, ignoring case.
+     *
+     * @param guestName guest name (non-null, non-empty)
+     * @return list of bookings for the guest
+     */
+    @Override
+    public List<Booking> getBookingsByGuest(String guestName) {
+        if (guestName == null || guestName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name cannot be null or empty");
+        }
+        
+        List<Booking> result = new ArrayList<>();
+        for (int row : getGuestPositions(guestName)) {
+            result.add(materialize(row));
+        }
+        return result;
+    }
+    
+    /**
+     * Gets the rows of a guest's bookings, ignoring case, scanning only the guest id column.
+     *
+     * @param guestName guest name (non-null, non-empty)
+     * @return rows of the guest's bookings
+     */
+    @Override
+    public List<Integer> getGuestPositions(String guestName) {
+        if (guestName == null || guestName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name cannot be null or empty");
+        }
+        
+        List<Integer> rows = new ArrayList<>();
+        int[] spellings = guestIdsByKey.get(GuestNameIndex.normalize(guestName));
+        if (spellings == null) {
+            return rows;
+        }
+        for (int row = 0; row < size; row++) {
+            for (int guestId : spellings) {
+                if (guestIds[row] == guestId) {
+                    rows.add(row);
+                    break;
+                }
+            }
+        }
+        return rows;
+    }
+    
+    /**
+     * Gets the rows of the bookings of every guest whose name starts with a
+     * prefix, grouped by guest name in alphabetical order. The prefix is
+     * matched against the guest dictionary, then the guest id column is
+     * scanned once.
+     *
+     * @param prefix guest name prefix (non-null, non-empty)
+     * @return rows of the matching guests' bookings
+     */
+    @Override
+    public List<Integer> getGuestPositionsByPrefix(String prefix) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name prefix cannot be null or empty");
+        }
+        
+        String from = GuestNameIndex.normalize(prefix);
+        TreeMap<String, List<Integer>> rowsByKey = new TreeMap<>();
+        Map<Integer, List<Integer>> rowsByGuestId = new HashMap<>();
+        for (Map.Entry<String, int[]> entry : guestIdsByKey.entrySet()) {
+            if (entry.getKey().startsWith(from)) {
+                List<Integer> rows = new ArrayList<>();
+                rowsByKey.put(entry.getKey(), rows);
+                for (int guestId : entry.getValue()) {
+                    rowsByGuestId.put(guestId, rows);
+                }
+            }
+        }
+        List<Integer> result = new ArrayList<>();
+        if (rowsByGuestId.isEmpty()) {
+            return result;
+        }
+        for (int row = 0; row < size; row++) {
+            List<Integer> rows = rowsByGuestId.get(guestIds[row]);
+            if (rows != null) {
+                rows.add(row);
+            }
+        }
+        rowsByKey.values().forEach(result::addAll);
+        return result;
+    }
+    
+    /**
+     * Gets all active bookings (confirmed and not cancelled).
+     *
+     * @return list of active bookings
+     */
+    @Override
+    public List<Booking> getActiveBookings() {
+        List<Booking> result = new ArrayList<>();
+        byte confirmed = (byte) BookingStatus.CONFIRMED.ordinal();
+        for (int row = 0; row < size; row++) {
+            if (statuses[row] == confirmed) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Counts active bookings over the status column.
+     *
+     * @return number of confirmed bookings
+     */
+    @Override
+    public int getActiveBookingCount() {
+        int count = 0;
+        byte confirmed = (byte) BookingStatus.CONFIRMED.ordinal();
+        for (int row = 0; row < size; row++) {
+            if (statuses[row] == confirmed) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Gets all bookings as an unmodifiable list view.
+     * Elements are materialized on access.
+     *
+     * @return all bookings
+     */
+    @Override
+    public List<Booking> getAllBookings() {
+        return new AbstractList<Booking>() {
+            @Override
+            public Booking get(int index) {
+                Objects.checkIndex(index, size);
+                return materialize(index);
+            }
+            
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+    
+    /**
+     * Gets the total number of bookings.
+     *
+     * @return booking count
+     */
+    @Override
+    public int getTotalBookings() {
+        return size;
+    }
+    
+    private Booking materialize(int row) {
+        return Booking.restore(bookingIds[row], guestNames.get(guestIds[row]), rooms.get(roomOrdinals[row]),
+                LocalDate.ofEpochDay(checkInDays[row]), LocalDate.ofEpochDay(checkOutDays[row]),
+                priceCents[row] / 100.0, STATUSES[statuses[row]]);
+    }
+    
+    private String validateBookingId(String bookingId) {
+        if (bookingId == null || bookingId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Booking ID cannot be null or empty");
+        }
+        return bookingId.trim();
+    }
+    
+    private int findRow(String bookingId) {
+        int mask = idSlots.length - 1;
+        for (int slot = bookingId.hashCode() & mask; idSlots[slot] != 0; slot = (slot + 1) & mask) {
+            int row = idSlots[slot] - 1;
+            if (bookingIds[row].equals(bookingId)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+    
+    private void insertSlot(int[] slots, String bookingId, int row) {
+        int mask = slots.length - 1;
+        int slot = bookingId.hashCode() & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = row + 1;
+    }
+    
+    private int roomOrdinal(Room room) {
+        Integer ordinal = roomOrdinalsByNumber.get(room.getRoomNumber());
+        if (ordinal == null) {
+            ordinal = rooms.size();
+            rooms.add(room);
+            roomOrdinalsByNumber.put(room.getRoomNumber(), ordinal);
+            if (ordinal == lastRowsByRoom.length) {
+                lastRowsByRoom = Arrays.copyOf(lastRowsByRoom, ordinal * 2);
+            }
+        }
+        return ordinal;
+    }
+    
+    private int guestId(String guestName) {
+        Integer id = guestIdsByName.get(guestName);
+        if (id == null) {
+            id = guestNames.size();
+            guestNames.add(guestName);
+            guestIdsByName.put(guestName, id);
+            // Spellings that differ only in case share a lookup key
+            int[] spellings = guestIdsByKey.get(GuestNameIndex.normalize(guestName));
+            int[] extended = spellings == null ? new int[1] : Arrays.copyOf(spellings, spellings.length + 1);
+            extended[extended.length - 1] = id;
+            guestIdsByKey.put(GuestNameIndex.normalize(guestName), extended);
+        }
+        return id;
+    }
+    
+    private void ensureCapacity(int required) {
+        if (required <= bookingIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, bookingIds.length + (bookingIds.length >> 1));
+        bookingIds = Arrays.copyOf(bookingIds, capacity);
+        checkInDays = Arrays.copyOf(checkInDays, capacity);
+        checkOutDays = Arrays.copyOf(checkOutDays, capacity);
+        roomOrdinals = Arrays.copyOf(roomOrdinals, capacity);
+        priceCents = Arrays.copyOf(priceCents, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        guestIds = Arrays.copyOf(guestIds, capacity);
+        previousRoomRows = Arrays.copyOf(previousRoomRows, capacity);
+        
+        // Keep the ID table at most half full; slots hold row + 1 so zero means empty
+        int[] slots = new int[Integer.highestOneBit(capacity - 1) << 2];
+        for (int row = 0; row < size; row++) {
+            insertSlot(slots, bookingIds[row], row);
+        }
+        idSlots = slots;
+    }
+}
@@ -0,0 +1,85 @@
+package com.hotel.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Secondary index from case-folded guest names to booking positions.
+ * Exact lookups go through a hash map; prefix lookups walk a sorted set
+ * of the normalized names.
+ */
+final class GuestNameIndex {
+    
+    private final Map<String, List<Integer>> positionsByGuest;
+    private final NavigableSet<String> sortedGuests;
+    
+    GuestNameIndex() {
+        this.positionsByGuest = new HashMap<>();
+        this.sortedGuests = new TreeSet<>();
+    }
+    
+    /**
+     * Normalizes a guest name so that lookups ignore case and surrounding whitespace.
+     *
+     * @param guestName the guest name (non-null)
+     * @return the normalized key
+     */
+    static String normalize(String guestName) {
+        return guestName.trim().toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Records the position of a guest's booking.
+     *
+     * @param guestName the guest name (non-null)
+     * @param position the booking's position in the booking list
+     */
+    void add(String guestName, int position) {
+        addNormalized(normalize(guestName), position);
+    }
+    
+    void addNormalized(String key, Integer position) {
+        List<Integer> positions = positionsByGuest.get(key);
+        if (positions == null) {
+            positions = new ArrayList<>();
+            positionsByGuest.put(key, positions);
+            sortedGuests.add(key);
+        }
+        positions.add(position);
+    }
+    
+    /**
+     * Gets the booking positions of a guest, in booking order.
+     *
+     * @param guestName the guest name (non-null)
+     * @return unmodifiable list of positions, empty if the guest is unknown
+     */
+    List<Integer> find(String guestName) {
+        List<Integer> positions = positionsByGuest.get(normalize(guestName));
+        return positions == null ? Collections.emptyList() : Collections.unmodifiableList(positions);
+    }
+    
+    /**
+     * Gets the booking positions of every guest whose name starts with the prefix.
+     *
+     * @param prefix the name prefix (non-null)
+     * @return positions grouped by guest name in alphabetical order
+     */
+    List<Integer> findByPrefix(String prefix) {
+        String from = normalize(prefix);
+        List<Integer> result = new ArrayList<>();
+        for (String guest : sortedGuests.tailSet(from, true)) {
+            if (!guest.startsWith(from)) {
+                break;
+            }
+            result.addAll(positionsByGuest.get(guest));
+        }
+        return result;
+    }
+}
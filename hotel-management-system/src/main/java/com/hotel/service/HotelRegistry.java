@@ -0,0 +1,291 @@
+package com.hotel.service;
+
+import com.hotel.model.Hotel;
+import com.hotel.model.HotelSnapshot;
+import com.hotel.model.Room;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Registry of many hotels, each with its own {@link HotelService} and
+ * {@link BookingService}.
+ * Hotels are sharded by ID across a fixed number of partitions. Every
+ * partition owns a single worker thread, so the hotels of one partition are
+ * always searched by the same thread and stay warm in its core's cache.
+ * Location-wide queries fan out one task per partition, each task searches
+ * its own hotels, and the partial results are merged on the calling thread.
+ * Registration is synchronized; lookups by hotel ID are lock-free.
+ */
+public class HotelRegistry implements AutoCloseable {
+    
+    private final Map<String, Entry> entriesById;
+    private final List<List<Entry>> partitions;
+    private final List<ExecutorService> workers;
+    
+    /**
+     * Creates a registry with one partition per available processor.
+     */
+    public HotelRegistry() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Creates a registry with the given number of partitions.
+     *
+     * @param partitionCount number of partitions and worker threads (positive)
+     * @throws IllegalArgumentException if partitionCount is not positive
+     */
+    public HotelRegistry(int partitionCount) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("Partition count must be positive");
+        }
+        this.entriesById = new ConcurrentHashMap<>();
+        this.partitions = new ArrayList<>(partitionCount);
+        this.workers = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            String name = "hotel-partition-" + i;
+            partitions.add(new CopyOnWriteArrayList<>());
+            workers.add(Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, name);
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
+    }
+    
+    /**
+     * Registers a hotel and creates its services.
+     *
+     * @param hotel the hotel to register (non-null)
+     * @return true if the hotel was registered, false if its ID is already taken
+     * @throws IllegalArgumentException if hotel is null
+     */
+    public synchronized boolean registerHotel(Hotel hotel) {
+        if (hotel == null) {
+            throw new IllegalArgumentException("Hotel cannot be null");
+        }
+        Entry entry = new Entry(hotel);
+        if (entriesById.putIfAbsent(hotel.getHotelId(), entry) != null) {
+            return false;
+        }
+        partitions.get(partitionOf(hotel.getHotelId())).add(entry);
+        return true;
+    }
+    
+    /**
+     * Removes a hotel from the registry.
+     *
+     * @param hotelId the hotel ID (non-null, non-empty)
+     * @return true if the hotel was removed, false if it was not registered
+     */
+    public synchronized boolean removeHotel(String hotelId) {
+        Entry entry = entriesById.remove(validateHotelId(hotelId));
+        if (entry == null) {
+            return false;
+        }
+        partitions.get(partitionOf(entry.hotel.getHotelId())).remove(entry);
+        return true;
+    }
+    
+    /**
+     * Gets a registered hotel.
+     *
+     * @param hotelId the hotel ID (non-null, non-empty)
+     * @return the hotel, or null if not registered
+     */
+    public Hotel getHotel(String hotelId) {
+        Entry entry = entriesById.get(validateHotelId(hotelId));
+        return entry == null ? null : entry.hotel;
+    }
+    
+    /**
+     * Gets the hotel service of a registered hotel.
+     *
+     * @param hotelId the hotel ID (non-null, non-empty)
+     * @return the hotel service, or null if not registered
+     */
+    public HotelService getHotelService(String hotelId) {
+        Entry entry = entriesById.get(validateHotelId(hotelId));
+        return entry == null ? null : entry.hotelService;
+    }
+    
+    /**
+     * Gets the booking service of a registered hotel.
+     *
+     * @param hotelId the hotel ID (non-null, non-empty)
+     * @return the booking service, or null if not registered
+     */
+    public BookingService getBookingService(String hotelId) {
+        Entry entry = entriesById.get(validateHotelId(hotelId));
+        return entry == null ? null : entry.bookingService;
+    }
+    
+    public int getHotelCount() {
+        return entriesById.size();
+    }
+    
+    public int getPartitionCount() {
+        return partitions.size();
+    }
+    
+    /**
+     * Gets the hotels in a location, compared case-insensitively.
+     *
+     * @param location the location (non-null, non-empty)
+     * @return the matching hotels
+     */
+    public List<Hotel> getHotelsInLocation(String location) {
+        String key = validateLocation(location);
+        List<Hotel> hotels = new ArrayList<>();
+        for (Entry entry : entriesById.values()) {
+            if (entry.location.equals(key)) {
+                hotels.add(entry.hotel);
+            }
+        }
+        return hotels;
+    }
+    
+    /**
+     * Finds the cheapest available rooms across every hotel in a location.
+     * Each partition selects its own cheapest candidates from the hotels'
+     * snapshots, then the candidates are merged.
+     *
+     * @param location the location (non-null, non-empty)
+     * @param count maximum number of rooms to return (non-negative)
+     * @return up to count offers in ascending price order
+     * @throws IllegalArgumentException if location or count is invalid
+     */
+    public List<RoomOffer> findCheapestAvailableRooms(String location, int count) {
+        String key = validateLocation(location);
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+        List<RoomOffer> offers = fanOut(partition -> {
+            List<RoomOffer> candidates = new ArrayList<>();
+            for (Entry entry : partition) {
+                if (entry.location.equals(key)) {
+                    HotelSnapshot snapshot = entry.hotel.getSnapshot();
+                    for (Room room : snapshot.getCheapestAvailableRooms(count)) {
+                        candidates.add(new RoomOffer(entry.hotel, room));
+                    }
+                }
+            }
+            return cheapest(candidates, count);
+        });
+        return cheapest(offers, count);
+    }
+    
+    /**
+     * Finds every room free for a stay across every hotel in a location.
+     *
+     * @param location the location (non-null, non-empty)
+     * @param checkInDate check-in date (non-null)
+     * @param checkOutDate check-out date (non-null, after check-in)
+     * @return offers for every free room, in ascending price order
+     * @throws IllegalArgumentException if location or dates are invalid
+     */
+    public List<RoomOffer> checkAvailability(String location, LocalDate checkInDate, LocalDate checkOutDate) {
+        String key = validateLocation(location);
+        if (checkInDate == null || checkOutDate == null) {
+            throw new IllegalArgumentException("Dates cannot be null");
+        }
+        if (!checkOutDate.isAfter(checkInDate)) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+        List<RoomOffer> offers = fanOut(partition -> {
+            List<RoomOffer> found = new ArrayList<>();
+            for (Entry entry : partition) {
+                if (entry.location.equals(key)) {
+                    for (Room room : entry.hotelService.checkAvailability(checkInDate, checkOutDate)) {
+                        found.add(new RoomOffer(entry.hotel, room));
+                    }
+                }
+            }
+            return found;
+        });
+        offers.sort(RoomOffer.BY_PRICE);
+        return offers;
+    }
+    
+    /**
+     * Stops the partition workers. Queries issued afterwards fail with
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    @Override
+    public void close() {
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+    }
+    
+    private List<RoomOffer> fanOut(Function<List<Entry>, List<RoomOffer>> search) {
+        List<CompletableFuture<List<RoomOffer>>> futures = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            List<Entry> partition = partitions.get(i);
+            futures.add(partition.isEmpty()
+                    ? CompletableFuture.completedFuture(Collections.emptyList())
+                    : CompletableFuture.supplyAsync(() -> search.apply(partition), workers.get(i)));
+        }
+        List<RoomOffer> merged = new ArrayList<>();
+        for (CompletableFuture<List<RoomOffer>> future : futures) {
+            try {
+                merged.addAll(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return merged;
+    }
+    
+    private static List<RoomOffer> cheapest(List<RoomOffer> offers, int count) {
+        offers.sort(RoomOffer.BY_PRICE);
+        return offers.size() <= count ? offers : new ArrayList<>(offers.subList(0, count));
+    }
+    
+    private int partitionOf(String hotelId) {
+        return Math.floorMod(hotelId.hashCode(), partitions.size());
+    }
+    
+    private static String validateHotelId(String hotelId) {
+        if (hotelId == null || hotelId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Hotel ID cannot be null or empty");
+        }
+        return hotelId.trim();
+    }
+    
+    private static String validateLocation(String location) {
+        if (location == null || location.trim().isEmpty()) {
+            throw new IllegalArgumentException("Location cannot be null or empty");
+        }
+        return location.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    private static final class Entry {
+        private final Hotel hotel;
+        private final HotelService hotelService;
+        private final BookingService bookingService;
+        private final String location;
+        
+        private Entry(Hotel hotel) {
+            this.hotel = hotel;
+            this.hotelService = new HotelService(hotel);
+            this.bookingService = new BookingService(hotel);
+            this.location = hotel.getLocation().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.hotel.service;
 import com.hotel.model.*;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -40,10 +39,15 @@ public class HotelService {
     
     /**
      * Checks room availability for a specific date range.
+     * A room qualifies when no booking holds it on any day of the stay
+     * and its status is available, the same gate
+     * {@link BookingService#createBooking} applies, so every room returned
+     * can be booked for the stay unless another request takes it first.
+     * Occupied rooms and rooms under maintenance are left out.
      *
      * @param checkInDate check-in date (non-null)
      * @param checkOutDate check-out date (non-null)
-     * @return list of available rooms
+     * @return list of rooms that can be booked for the whole stay
      * @throws IllegalArgumentException if dates are invalid
      */
     public List<Room> checkAvailability(LocalDate checkInDate, LocalDate checkOutDate) {
@@ -54,12 +58,9 @@ public class HotelService {
             throw new IllegalArgumentException("Check-out date must be after check-in date");
         }
         
-        List<Room> availableRooms = new ArrayList<>();
-        for (Room room : hotel.getAvailableRooms()) {
-            if (room.isAvailable()) {
-                availableRooms.add(room);
-            }
-        }
+        List<Room> availableRooms = hotel.getOccupancyCalendar()
+                .findFreeRooms(hotel.getAllRooms(), checkInDate, checkOutDate);
+        availableRooms.removeIf(room -> room.getStatus() != RoomStatus.AVAILABLE);
         return availableRooms;
     }
     
@@ -72,13 +73,7 @@ public class HotelService {
     public List<Room> getAvailableRoomsByType(RoomType roomType) {
         Objects.requireNonNull(roomType, "Room type cannot be null");
         
-        List<Room> result = new ArrayList<>();
-        for (Room room : hotel.getAvailableRooms()) {
-            if (room.getType() == roomType) {
-                result.add(room);
-            }
-        }
-        return result;
+        return hotel.getRoomsByTypeAndStatus(roomType, RoomStatus.AVAILABLE);
     }
     
     /**
@@ -90,31 +85,22 @@ public class HotelService {
     public List<Room> getRoomsByStatus(RoomStatus status) {
         Objects.requireNonNull(status, "Room status cannot be null");
         
-        List<Room> result = new ArrayList<>();
-        for (Room room : hotel.getAllRooms()) {
-            if (room.getStatus() == status) {
-                result.add(room);
-            }
-        }
-        return result;
+        return hotel.getRoomsByStatus(status);
     }
     
     /**
      * Gets the average price of available rooms.
+     * Reads the hotel's maintained count and price total, so it is a
+     * constant-time read even right after a booking.
      *
      * @return average price or 0.0 if no available rooms
      */
     public double getAveragePriceOfAvailableRooms() {
-        List<Room> availableRooms = hotel.getAvailableRooms();
-        if (availableRooms.isEmpty()) {
+        int availableCount = hotel.getAvailableRoomCount();
+        if (availableCount == 0) {
             return 0.0;
         }
-        
-        double totalPrice = 0.0;
-        for (Room room : availableRooms) {
-            totalPrice += room.getPricePerNight();
-        }
-        return totalPrice / availableRooms.size();
+        return hotel.getAvailablePriceTotal() / availableCount;
     }
     
     /**
@@ -123,18 +109,7 @@ public class HotelService {
      * @return the cheapest room or null if no available rooms
      */
     public Room findCheapestAvailableRoom() {
-        List<Room> availableRooms = hotel.getAvailableRooms();
-        if (availableRooms.isEmpty()) {
-            return null;
-        }
-        
-        Room cheapest = availableRooms.get(0);
-        for (Room room : availableRooms) {
-            if (room.getPricePerNight() < cheapest.getPricePerNight()) {
-                cheapest = room;
-            }
-        }
-        return cheapest;
+        return hotel.getCheapestAvailableRoom();
     }
     
     /**
@@ -143,22 +118,33 @@ public class HotelService {
      * @return the most expensive room or null if no available rooms
      */
     public Room findMostExpensiveAvailableRoom() {
-        List<Room> availableRooms = hotel.getAvailableRooms();
-        if (availableRooms.isEmpty()) {
-            return null;
-        }
-        
-        Room mostExpensive = availableRooms.get(0);
-        for (Room room : availableRooms) {
-            if (room.getPricePerNight() > mostExpensive.getPricePerNight()) {
-                mostExpensive = room;
-            }
-        }
-        return mostExpensive;
+        return hotel.getMostExpensiveAvailableRoom();
+    }
+    
+    /**
+     * Finds the cheapest available rooms.
+     *
+     * @param count maximum number of rooms to return (non-negative)
+     * @return up to count available rooms in ascending price order
+     */
+    public List<Room> findCheapestAvailableRooms(int count) {
+        return hotel.getCheapestAvailableRooms(count);
+    }
+    
+    /**
+     * Finds available rooms within a price band.
+     *
+     * @param minPrice lowest price per night, inclusive
+     * @param maxPrice highest price per night, inclusive
+     * @return available rooms in ascending price order
+     */
+    public List<Room> findAvailableRoomsInPriceRange(double minPrice, double maxPrice) {
+        return hotel.getAvailableRoomsInPriceRange(minPrice, maxPrice);
     }
     
     /**
      * Gets occupancy rate of the hotel.
+     * Reads the hotel's maintained counts rather than a snapshot.
      *
      * @return occupancy rate as percentage (0-100)
      */
@@ -168,10 +154,6 @@ public class HotelService {
             return 0.0;
         }
         
-        long occupiedCount = hotel.getAllRooms().stream()
-                .filter(r -> r.getStatus() == RoomStatus.OCCUPIED)
-                .count();
-        
-        return (occupiedCount * 100.0) / totalRooms;
+        return (hotel.getRoomCount(RoomStatus.OCCUPIED) * 100.0) / totalRooms;
     }
 }
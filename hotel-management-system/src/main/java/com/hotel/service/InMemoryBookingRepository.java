@@ -0,0 +1,159 @@
+package com.hotel.service;
+
+import com.hotel.model.Booking;
+import com.hotel.model.BookingStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Indexed on-heap booking engine.
+ * Bookings are kept as objects in a list; an ID map, a guest name index,
+ * per-room position lists and a bit set of confirmed positions answer every
+ * lookup without scanning unrelated bookings. Fastest engine to query, at
+ * the cost of a full {@link Booking} object and index entries per booking.
+ */
+public class InMemoryBookingRepository implements BookingRepository {
+    
+    private final List<Booking> bookings;
+    private final Map<String, Integer> positionsById;
+    private final GuestNameIndex guestIndex;
+    private final Map<String, List<Integer>> positionsByRoom;
+    private final BitSet confirmed;
+    
+    /**
+     * Creates an empty repository.
+     */
+    public InMemoryBookingRepository() {
+        this.bookings = new ArrayList<>();
+        this.positionsById = new HashMap<>();
+        this.guestIndex = new GuestNameIndex();
+        this.positionsByRoom = new HashMap<>();
+        this.confirmed = new BitSet();
+    }
+    
+    @Override
+    public void add(Booking booking) {
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+        int position = bookings.size();
+        if (positionsById.putIfAbsent(booking.getBookingId(), position) != null) {
+            throw new IllegalArgumentException("Booking ID already exists: " + booking.getBookingId());
+        }
+        bookings.add(booking);
+        guestIndex.add(booking.getGuestName(), position);
+        positionsByRoom.computeIfAbsent(booking.getRoom().getRoomNumber(), number -> new ArrayList<>())
+                .add(position);
+        if (booking.getStatus() == BookingStatus.CONFIRMED) {
+            confirmed.set(position);
+        }
+    }
+    
+    @Override
+    public boolean cancelBooking(String bookingId) {
+        Integer position = positionsById.get(validateBookingId(bookingId));
+        if (position == null || bookings.get(position).getStatus() == BookingStatus.CANCELLED) {
+            return false;
+        }
+        bookings.set(position, bookings.get(position).withStatus(BookingStatus.CANCELLED));
+        confirmed.clear(position);
+        return true;
+    }
+    
+    @Override
+    public boolean isRoomAvailableForDates(String roomNumber, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (roomNumber == null || roomNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Room number cannot be null or empty");
+        }
+        Objects.requireNonNull(checkInDate, "Check-in date cannot be null");
+        Objects.requireNonNull(checkOutDate, "Check-out date cannot be null");
+        
+        for (int position : positionsByRoom.getOrDefault(roomNumber.trim(), Collections.emptyList())) {
+            Booking booking = bookings.get(position);
+            if (confirmed.get(position) && !checkOutDate.isBefore(booking.getCheckInDate())
+                    && !checkInDate.isAfter(booking.getCheckOutDate())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public Booking getBookingById(String bookingId) {
+        Integer position = positionsById.get(validateBookingId(bookingId));
+        return position == null ? null : bookings.get(position);
+    }
+    
+    @Override
+    public boolean containsBookingId(String bookingId) {
+        return positionsById.containsKey(validateBookingId(bookingId));
+    }
+    
+    @Override
+    public List<Booking> getBookingsByGuest(String guestName) {
+        if (guestName == null || guestName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name cannot be null or empty");
+        }
+        
+        List<Integer> positions = guestIndex.find(guestName);
+        List<Booking> result = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            result.add(bookings.get(position));
+        }
+        return result;
+    }
+    
+    @Override
+    public List<Integer> getGuestPositions(String guestName) {
+        if (guestName == null || guestName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name cannot be null or empty");
+        }
+        return guestIndex.find(guestName);
+    }
+    
+    @Override
+    public List<Integer> getGuestPositionsByPrefix(String prefix) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name prefix cannot be null or empty");
+        }
+        return guestIndex.findByPrefix(prefix);
+    }
+    
+    @Override
+    public List<Booking> getActiveBookings() {
+        List<Booking> result = new ArrayList<>(confirmed.cardinality());
+        for (int position = confirmed.nextSetBit(0); position >= 0; position = confirmed.nextSetBit(position + 1)) {
+            result.add(bookings.get(position));
+        }
+        return result;
+    }
+    
+    @Override
+    public int getActiveBookingCount() {
+        return confirmed.cardinality();
+    }
+    
+    @Override
+    public List<Booking> getAllBookings() {
+        return Collections.unmodifiableList(bookings);
+    }
+    
+    @Override
+    public int getTotalBookings() {
+        return bookings.size();
+    }
+    
+    private String validateBookingId(String bookingId) {
+        if (bookingId == null || bookingId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Booking ID cannot be null or empty");
+        }
+        return bookingId.trim();
+    }
+}
@@ -0,0 +1,645 @@
+package com.hotel.service;
+
+import com.hotel.model.Booking;
+import com.hotel.model.BookingStatus;
+import com.hotel.model.Hotel;
+import com.hotel.model.Room;
+import com.hotel.model.RoomType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Booking store kept in a memory-mapped file, for booking archives too
+ * large to hold on the Java heap.
+ * <p>
+ * Each booking is a fixed 32-byte record: epoch-day check-in and check-out,
+ * room ordinal, status ordinal, hash of the booking ID, price in cents and
+ * the offsets of the booking ID and guest name in a string heap. Records are
+ * read and updated directly in the mapped pages, so scans decode nothing and
+ * cancelling a booking rewrites a single byte. Bookings are materialized as
+ * {@link Booking} objects only when returned.
+ * <p>
+ * The records live in the given file, which also holds a header and a table
+ * of up to {@value #MAX_ROOMS} rooms; booking IDs, guest names and room
+ * numbers live in a sibling file with a {@code .strings} suffix. Only row
+ * numbers are kept on the heap: an open-addressing table for ID lookups and
+ * a chain linking each row to the previous row of the same room, so an
+ * availability check reads only that room's records. Both are rebuilt when
+ * the store is opened.
+ * A record is counted in the header only after it is written, and changes
+ * reach the storage device on {@link #force} or {@link #close}. Each file is
+ * mapped as one region, which limits a store to about 67 million bookings.
+ * Instances are not thread-safe.
+ */
+public class MappedBookingStore implements BookingRepository {
+
+    /** Maximum number of distinct rooms in one store. */
+    public static final int MAX_ROOMS = 4096;
+
+    private static final int MAGIC = 0x484D4231;
+    private static final int RECORD_SIZE = 32;
+    private static final int HEADER_SIZE = 64;
+    private static final int ROOM_ENTRY_SIZE = 16;
+    private static final long RECORDS_START = HEADER_SIZE + (long) MAX_ROOMS * ROOM_ENTRY_SIZE;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int INITIAL_HEAP_SIZE = 64 * 1024;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+    private static final RoomType[] TYPES = RoomType.values();
+
+    // Header fields
+    private static final int COUNT_OFFSET = 8;
+    private static final int ROOM_COUNT_OFFSET = 12;
+    private static final int HEAP_END_OFFSET = 16;
+
+    // Record fields
+    private static final int CHECK_IN = 0;
+    private static final int CHECK_OUT = 4;
+    private static final int ROOM = 8;
+    private static final int STATUS = 10;
+    private static final int ID_HASH = 12;
+    private static final int PRICE = 16;
+    private static final int GUEST = 24;
+    private static final int ID = 28;
+
+    private final Path path;
+    private final FileChannel records;
+    private final FileChannel strings;
+    private MappedByteBuffer recordPages;
+    private MappedByteBuffer stringPages;
+    private int capacity;
+    private int size;
+    private int heapEnd;
+    private int[] idSlots;
+    private int[] previousRoomRows;
+    private final int[] lastRowsByRoom;
+    private boolean open;
+
+    private final List<Room> rooms;
+    private final Map<String, Integer> roomOrdinalsByNumber;
+    private final Map<String, Integer> guestOffsetsByName;
+
+    /**
+     * Opens or creates a store whose rooms are materialized from the file.
+     *
+     * @param path the record file (non-null)
+     * @throws IOException if the files cannot be opened or are corrupt
+     */
+    public MappedBookingStore(Path path) throws IOException {
+        this(path, null);
+    }
+
+    /**
+     * Opens or creates a store. Stored rooms that the hotel has are
+     * materialized as the hotel's own {@link Room} objects.
+     *
+     * @param path the record file (non-null)
+     * @param hotel hotel whose rooms are reused, or null
+     * @throws IOException if the files cannot be opened or are corrupt
+     * @throws IllegalArgumentException if path is null
+     */
+    public MappedBookingStore(Path path, Hotel hotel) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null");
+        }
+        this.path = path;
+        this.rooms = new ArrayList<>();
+        this.roomOrdinalsByNumber = new HashMap<>();
+        this.guestOffsetsByName = new HashMap<>();
+        this.lastRowsByRoom = new int[MAX_ROOMS];
+        this.records = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        FileChannel stringChannel = null;
+        try {
+            stringChannel = FileChannel.open(path.resolveSibling(path.getFileName() + ".strings"),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.strings = stringChannel;
+            load(hotel);
+        } catch (IOException | RuntimeException e) {
+            records.close();
+            if (stringChannel != null) {
+                stringChannel.close();
+            }
+            throw e;
+        }
+        this.open = true;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Appends a booking to the store.
+     *
+     * @param booking the booking to store (non-null)
+     * @throws IllegalArgumentException if booking is null or its ID is already stored
+     * @throws IllegalStateException if the store is closed, full, or has no room left in its room table
+     * @throws UncheckedIOException if the files cannot be extended
+     */
+    @Override
+    public void add(Booking booking) {
+        ensureOpen();
+        if (booking == null) {
+            throw new IllegalArgumentException("Booking cannot be null");
+        }
+        byte[] id = booking.getBookingId().getBytes(StandardCharsets.UTF_8);
+        int hash = booking.getBookingId().hashCode();
+        if (findRow(id, hash) >= 0) {
+            throw new IllegalArgumentException("Booking ID already exists: " + booking.getBookingId());
+        }
+        int room = roomOrdinal(booking.getRoom());
+        int guest = guestOffset(booking.getGuestName());
+        int idOffset = appendString(id);
+        ensureCapacity(size + 1);
+
+        int at = recordAt(size);
+        recordPages.putInt(at + CHECK_IN, Math.toIntExact(booking.getCheckInDate().toEpochDay()));
+        recordPages.putInt(at + CHECK_OUT, Math.toIntExact(booking.getCheckOutDate().toEpochDay()));
+        recordPages.putShort(at + ROOM, (short) room);
+        recordPages.put(at + STATUS, (byte) booking.getStatus().ordinal());
+        recordPages.putInt(at + ID_HASH, hash);
+        recordPages.putLong(at + PRICE, Math.round(booking.getTotalPrice() * 100));
+        recordPages.putInt(at + GUEST, guest);
+        recordPages.putInt(at + ID, idOffset);
+        if ((size + 1) * 2 > idSlots.length) {
+            rehash(idSlots.length * 2);
+        }
+        insertSlot(idSlots, hash, size);
+        linkRoomRow(room, size);
+        size++;
+        // Publish the record only after its strings and fields are in place
+        recordPages.putInt(HEAP_END_OFFSET, heapEnd);
+        recordPages.putInt(COUNT_OFFSET, size);
+    }
+
+    /**
+     * Marks a booking as cancelled in place.
+     *
+     * @param bookingId booking ID (non-null, non-empty)
+     * @return true if booking was cancelled, false if not found or already cancelled
+     * @throws IllegalArgumentException if bookingId is invalid
+     * @throws IllegalStateException if the store is closed
+     */
+    @Override
+    public boolean cancelBooking(String bookingId) {
+        ensureOpen();
+        int row = findRow(validateBookingId(bookingId));
+        byte cancelled = (byte) BookingStatus.CANCELLED.ordinal();
+        if (row < 0 || recordPages.get(recordAt(row) + STATUS) == cancelled) {
+            return false;
+        }
+        recordPages.put(recordAt(row) + STATUS, cancelled);
+        return true;
+    }
+
+    /**
+     * Checks if a room is free of confirmed bookings for the date range.
+     * Boundaries are inclusive, as in {@link BookingService#isRoomAvailableForDates}.
+     *
+     * @param roomNumber room number (non-null, non-empty)
+     * @param checkInDate check-in date (non-null)
+     * @param checkOutDate check-out date (non-null)
+     * @return true if room is available, false otherwise
+     * @throws IllegalStateException if the store is closed
+     */
+    @Override
+    public boolean isRoomAvailableForDates(String roomNumber, LocalDate checkInDate, LocalDate checkOutDate) {
+        ensureOpen();
+        if (roomNumber == null || roomNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Room number cannot be null or empty");
+        }
+        Objects.requireNonNull(checkInDate, "Check-in date cannot be null");
+        Objects.requireNonNull(checkOutDate, "Check-out date cannot be null");
+
+        Integer ordinal = roomOrdinalsByNumber.get(roomNumber.trim());
+        if (ordinal == null) {
+            return true;
+        }
+        long from = checkInDate.toEpochDay();
+        long to = checkOutDate.toEpochDay();
+        byte confirmed = (byte) BookingStatus.CONFIRMED.ordinal();
+        MappedByteBuffer pages = recordPages;
+        for (int row = lastRowsByRoom[ordinal] - 1; row >= 0; row = previousRoomRows[row] - 1) {
+            int at = recordAt(row);
+            if (pages.get(at + STATUS) == confirmed
+                    && to >= pages.getInt(at + CHECK_IN) && from <= pages.getInt(at + CHECK_OUT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets a booking by its ID.
+     *
+     * @param bookingId booking ID (non-null, non-empty)
+     * @return the booking if found, null otherwise
+     * @throws IllegalStateException if the store is closed
+     */
+    @Override
+    public Booking getBookingById(String bookingId) {
+        ensureOpen();
+        int row = findRow(validateBookingId(bookingId));
+        return row < 0 ? null : materialize(row);
+    }
+
+    @Override
+    public boolean containsBookingId(String bookingId) {
+        ensureOpen();
+        return findRow(validateBookingId(bookingId)) >= 0;
+    }
+
+    /**
+     * Gets all bookings for a specific guest, ignoring case.
+     * Only the rows found by {@link #getGuestPositions} are materialized.
+     *
+     * @param guestName guest name (non-null, non-empty)
+     * @return list of bookings for the guest
+     * @throws IllegalStateException if the store is closed
+     */
+    @Override
+    public List<Booking> getBookingsByGuest(String guestName) {
+        ensureOpen();
+        if (guestName == null || guestName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name cannot be null or empty");
+        }
+
+        List<Booking> result = new ArrayList<>();
+        for (int row : getGuestPositions(guestName)) {
+            result.add(materialize(row));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the rows of a guest's bookings, ignoring case.
+     * Each distinct guest name in the scanned records is decoded once.
+     *
+     * @param guestName guest name (non-null, non-empty)
+     * @return rows of the guest's bookings
+     * @throws IllegalStateException if the store is closed
+     */
+    @Override
+    public List<Integer> getGuestPositions(String guestName) {
+        ensureOpen();
+        if (guestName == null || guestName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Guest name cannot be null or empty");
+        }
+
+        String key = GuestNameIndex.normalize(guestName);
+        Map<Integer, Boolean> matches = new HashMap<>();
+        List<Integer> rows = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            int offset = recordPages.getInt(recordAt(row) + GUEST);
+            Boolean match = matches.get(offset);
+            if (match == null) {
+                match = GuestNameIndex.normalize(readString(offset)).equals(key);
+                matches.put(offset, match);
+            }
+            if (match) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Gets all active bookings (confirmed and not cancelled).
+     *
+     * @return list of active bookings
+     * @throws IllegalStateException if the store is closed
+     */
+    @Override
+    public List<Booking> getActiveBookings() {
+        ensureOpen();
+        List<Booking> result = new ArrayList<>();
+        byte confirmed = (byte) BookingStatus.CONFIRMED.ordinal();
+        for (int row = 0; row < size; row++) {
+            if (recordPages.get(recordAt(row) + STATUS) == confirmed) {
+                result.add(materialize(row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts active bookings by reading the status byte of each record.
+     *
+     * @return number of confirmed bookings
+     * @throws IllegalStateException if the store is closed
+     */
+    @Override
+    public int getActiveBookingCount() {
+        ensureOpen();
+        int count = 0;
+        byte confirmed = (byte) BookingStatus.CONFIRMED.ordinal();
+        for (int row = 0; row < size; row++) {
+            if (recordPages.get(recordAt(row) + STATUS) == confirmed) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets all bookings as an unmodifiable list view.
+     * Elements are materialized on access.
+     *
+     * @return all bookings
+     */
+    @Override
+    public List<Booking> getAllBookings() {
+        return new AbstractList<Booking>() {
+            @Override
+            public Booking get(int index) {
+                ensureOpen();
+                Objects.checkIndex(index, size);
+                return materialize(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Gets the total number of bookings.
+     *
+     * @return booking count
+     */
+    @Override
+    public int getTotalBookings() {
+        return size;
+    }
+
+    /**
+     * Writes all changes in the mapped pages to the storage device.
+     *
+     * @throws IllegalStateException if the store is closed
+     */
+    public void force() {
+        ensureOpen();
+        stringPages.force();
+        recordPages.force();
+    }
+
+    /**
+     * Forces pending changes and closes the files. The pages stay mapped
+     * until the buffers are garbage collected.
+     */
+    @Override
+    public void close() {
+        if (!open) {
+            return;
+        }
+        force();
+        open = false;
+        try {
+            records.close();
+            strings.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void load(Hotel hotel) throws IOException {
+        long fileSize = records.size();
+        if (fileSize == 0) {
+            recordPages = map(records, RECORDS_START + (long) INITIAL_CAPACITY * RECORD_SIZE);
+            stringPages = map(strings, INITIAL_HEAP_SIZE);
+            recordPages.putInt(0, MAGIC);
+            recordPages.putInt(4, RECORD_SIZE);
+            capacity = INITIAL_CAPACITY;
+            idSlots = new int[slotCount(0)];
+            previousRoomRows = new int[INITIAL_CAPACITY];
+            return;
+        }
+        if (fileSize < RECORDS_START) {
+            throw new IOException("Booking file is truncated: " + path);
+        }
+        recordPages = map(records, fileSize);
+        if (recordPages.getInt(0) != MAGIC || recordPages.getInt(4) != RECORD_SIZE) {
+            throw new IOException("Not a booking file: " + path);
+        }
+        capacity = (int) ((fileSize - RECORDS_START) / RECORD_SIZE);
+        size = recordPages.getInt(COUNT_OFFSET);
+        int roomCount = recordPages.getInt(ROOM_COUNT_OFFSET);
+        heapEnd = recordPages.getInt(HEAP_END_OFFSET);
+        if (size < 0 || size > capacity || roomCount < 0 || roomCount > MAX_ROOMS
+                || heapEnd < 0 || heapEnd > strings.size()) {
+            throw new IOException("Corrupt booking file header: " + path);
+        }
+        stringPages = map(strings, Math.max(strings.size(), INITIAL_HEAP_SIZE));
+
+        for (int ordinal = 0; ordinal < roomCount; ordinal++) {
+            int at = HEADER_SIZE + ordinal * ROOM_ENTRY_SIZE;
+            String roomNumber = readString(recordPages.getInt(at));
+            Room room = hotel == null ? null : hotel.getRoomByNumber(roomNumber);
+            if (room == null) {
+                room = new Room(roomNumber, TYPES[recordPages.get(at + 4)], recordPages.getLong(at + 8) / 100.0);
+            }
+            rooms.add(room);
+            roomOrdinalsByNumber.put(roomNumber, ordinal);
+        }
+        rehash(slotCount(size));
+        previousRoomRows = new int[Math.max(INITIAL_CAPACITY, size)];
+        for (int row = 0; row < size; row++) {
+            int room = Short.toUnsignedInt(recordPages.getShort(recordAt(row) + ROOM));
+            if (room >= roomCount) {
+                throw new IOException("Corrupt booking record " + row + ": " + path);
+            }
+            linkRoomRow(room, row);
+        }
+    }
+
+    private Booking materialize(int row) {
+        int at = recordAt(row);
+        return Booking.restore(readString(recordPages.getInt(at + ID)), readString(recordPages.getInt(at + GUEST)),
+                rooms.get(Short.toUnsignedInt(recordPages.getShort(at + ROOM))),
+                LocalDate.ofEpochDay(recordPages.getInt(at + CHECK_IN)),
+                LocalDate.ofEpochDay(recordPages.getInt(at + CHECK_OUT)),
+                recordPages.getLong(at + PRICE) / 100.0, STATUSES[recordPages.get(at + STATUS)]);
+    }
+
+    private String validateBookingId(String bookingId) {
+        if (bookingId == null || bookingId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Booking ID cannot be null or empty");
+        }
+        return bookingId.trim();
+    }
+
+    private void ensureOpen() {
+        if (!open) {
+            throw new IllegalStateException("Booking store is closed: " + path);
+        }
+    }
+
+    private int findRow(String bookingId) {
+        return findRow(bookingId.getBytes(StandardCharsets.UTF_8), bookingId.hashCode());
+    }
+
+    private int findRow(byte[] bookingId, int hash) {
+        int mask = idSlots.length - 1;
+        for (int slot = hash & mask; idSlots[slot] != 0; slot = (slot + 1) & mask) {
+            int row = idSlots[slot] - 1;
+            int at = recordAt(row);
+            if (recordPages.getInt(at + ID_HASH) == hash && stringEquals(recordPages.getInt(at + ID), bookingId)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private void insertSlot(int[] slots, int hash, int row) {
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = row + 1;
+    }
+
+    private void linkRoomRow(int room, int row) {
+        if (row == previousRoomRows.length) {
+            previousRoomRows = Arrays.copyOf(previousRoomRows, row * 2);
+        }
+        // Chains hold row + 1 like the ID table, so zero ends a chain
+        previousRoomRows[row] = lastRowsByRoom[room];
+        lastRowsByRoom[room] = row + 1;
+    }
+
+    private int roomOrdinal(Room room) {
+        Integer ordinal = roomOrdinalsByNumber.get(room.getRoomNumber());
+        if (ordinal == null) {
+            if (rooms.size() == MAX_ROOMS) {
+                throw new IllegalStateException("Room table is full: " + path);
+            }
+            ordinal = rooms.size();
+            int at = HEADER_SIZE + ordinal * ROOM_ENTRY_SIZE;
+            recordPages.putInt(at, appendString(room.getRoomNumber().getBytes(StandardCharsets.UTF_8)));
+            recordPages.put(at + 4, (byte) room.getType().ordinal());
+            recordPages.putLong(at + 8, Math.round(room.getPricePerNight() * 100));
+            rooms.add(room);
+            roomOrdinalsByNumber.put(room.getRoomNumber(), ordinal);
+            recordPages.putInt(HEAP_END_OFFSET, heapEnd);
+            recordPages.putInt(ROOM_COUNT_OFFSET, rooms.size());
+        }
+        return ordinal;
+    }
+
+    private int guestOffset(String guestName) {
+        // Names are shared within one session; reopening starts a fresh dictionary
+        Integer offset = guestOffsetsByName.get(guestName);
+        if (offset == null) {
+            offset = appendString(guestName.getBytes(StandardCharsets.UTF_8));
+            guestOffsetsByName.put(guestName, offset);
+        }
+        return offset;
+    }
+
+    private int appendString(byte[] bytes) {
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("String too long for booking file: " + bytes.length + " bytes");
+        }
+        int required = heapEnd + Short.BYTES + bytes.length;
+        if (required < 0) {
+            throw new IllegalStateException("String heap is full: " + path);
+        }
+        if (required > stringPages.capacity()) {
+            long grown = Math.min(Integer.MAX_VALUE, Math.max(required, 2L * stringPages.capacity()));
+            stringPages = remap(strings, grown);
+        }
+        int offset = heapEnd;
+        stringPages.putShort(offset, (short) bytes.length);
+        ByteBuffer target = stringPages.duplicate();
+        target.position(offset + Short.BYTES);
+        target.put(bytes);
+        heapEnd = required;
+        return offset;
+    }
+
+    private String readString(int offset) {
+        int length = Short.toUnsignedInt(stringPages.getShort(offset));
+        byte[] bytes = new byte[length];
+        ByteBuffer source = stringPages.duplicate();
+        source.position(offset + Short.BYTES);
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean stringEquals(int offset, byte[] bytes) {
+        if (Short.toUnsignedInt(stringPages.getShort(offset)) != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (stringPages.get(offset + Short.BYTES + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= capacity) {
+            return;
+        }
+        long maxCapacity = (Integer.MAX_VALUE - RECORDS_START) / RECORD_SIZE;
+        if (required > maxCapacity) {
+            throw new IllegalStateException("Booking file is full: " + path);
+        }
+        int grown = (int) Math.min(maxCapacity, Math.max(required, 2L * capacity));
+        recordPages = remap(records, RECORDS_START + (long) grown * RECORD_SIZE);
+        capacity = grown;
+    }
+
+    private void rehash(int slotCount) {
+        int[] slots = new int[slotCount];
+        for (int row = 0; row < size; row++) {
+            insertSlot(slots, recordPages.getInt(recordAt(row) + ID_HASH), row);
+        }
+        idSlots = slots;
+    }
+
+    private MappedByteBuffer remap(FileChannel channel, long newSize) {
+        try {
+            return map(channel, newSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long size) throws IOException {
+        // Mapping past the end of a read-write file extends it
+        MappedByteBuffer pages = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        pages.order(ByteOrder.LITTLE_ENDIAN);
+        return pages;
+    }
+
+    private static int recordAt(int row) {
+        return (int) RECORDS_START + row * RECORD_SIZE;
+    }
+
+    private static int slotCount(int rows) {
+        // Keep the ID table at most half full; slots hold row + 1 so zero means empty
+        return Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(rows, 1)) << 2);
+    }
+}
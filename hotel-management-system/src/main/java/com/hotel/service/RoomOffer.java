@@ -0,0 +1,42 @@
+package com.hotel.service;
+
+import com.hotel.model.Hotel;
+import com.hotel.model.Room;
+
+import java.util.Comparator;
+
+/**
+ * A room together with the hotel it belongs to, as returned by searches
+ * that span several hotels.
+ */
+public final class RoomOffer {
+    
+    /** Orders offers by ascending price per night. */
+    public static final Comparator<RoomOffer> BY_PRICE = Comparator.comparingDouble(RoomOffer::getPricePerNight);
+    
+    private final Hotel hotel;
+    private final Room room;
+    
+    RoomOffer(Hotel hotel, Room room) {
+        this.hotel = hotel;
+        this.room = room;
+    }
+    
+    public Hotel getHotel() {
+        return hotel;
+    }
+    
+    public Room getRoom() {
+        return room;
+    }
+    
+    public double getPricePerNight() {
+        return room.getPricePerNight();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("RoomOffer{hotel=%s, room=%s, price=%.2f}",
+                hotel.getHotelId(), room.getRoomNumber(), room.getPricePerNight());
+    }
+}
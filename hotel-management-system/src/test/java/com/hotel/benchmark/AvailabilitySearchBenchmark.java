@@ -0,0 +1,55 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.*;
+import com.hotel.service.HotelService;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Measures date-range availability search over a large hotel.
+ * Not part of the unit test run; start it from the IDE or with
+ * {@code java -cp target/classes:target/test-classes com.hotel.benchmark.AvailabilitySearchBenchmark}.
+ */
+public class AvailabilitySearchBenchmark {
+
+    private static final int ROOMS = 2_000;
+    private static final int HORIZON_DAYS = 365;
+    private static final int QUERIES = 20_000;
+
+    public static void main(String[] args) {
+        Hotel hotel = new Hotel("BENCH", "Benchmark Hotel", "Bench City", 4);
+        LocalDate today = LocalDate.now();
+        Random random = new Random(1);
+
+        for (int i = 0; i < ROOMS; i++) {
+            String roomNumber = String.valueOf(1000 + i);
+            hotel.addRoom(new Room(roomNumber, RoomType.values()[i % 4], 50.0 + i % 200));
+            for (int day = random.nextInt(5); day < HORIZON_DAYS; day += 4 + random.nextInt(10)) {
+                int nights = 1 + random.nextInt(3);
+                hotel.getOccupancyCalendar().markOccupied(roomNumber,
+                        today.plusDays(day), today.plusDays(day + nights));
+                day += nights;
+            }
+        }
+        HotelService hotelService = new HotelService(hotel);
+
+        long checksum = 0;
+        for (int i = 0; i < QUERIES / 4; i++) {
+            checksum += search(hotelService, today, random);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            checksum += search(hotelService, today, random);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("rooms=%d horizon=%dd queries=%d avg=%.1f us/query (checksum %d)%n",
+                ROOMS, HORIZON_DAYS, QUERIES, elapsed / 1_000.0 / QUERIES, checksum);
+    }
+
+    private static int search(HotelService hotelService, LocalDate today, Random random) {
+        LocalDate checkIn = today.plusDays(random.nextInt(HORIZON_DAYS - 14));
+        return hotelService.checkAvailability(checkIn, checkIn.plusDays(1 + random.nextInt(14))).size();
+    }
+}
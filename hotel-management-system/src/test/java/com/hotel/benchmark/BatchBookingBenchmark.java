@@ -0,0 +1,110 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingRequest;
+import com.hotel.service.BookingService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compares {@link BookingService#createBookings} with one
+ * {@link BookingService#createBooking} call per request.
+ * Each run books groups of {@code BATCH_SIZE} shuffled requests, about one
+ * in ten of which collides with another request for the same room.
+ * The requests are split between the given number of threads (default 4),
+ * so single calls also pay for contention on the booking registry lock.
+ * Not part of the unit test run; start it with
+ * {@code java -cp target/classes:target/test-classes com.hotel.benchmark.BatchBookingBenchmark [threads]}.
+ */
+public class BatchBookingBenchmark {
+
+    private static final int ROOMS = 200_000;
+    private static final int BATCH_SIZE = 500;
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        List<BookingRequest> requests = requests();
+        for (int warmup = 0; warmup < 3; warmup++) {
+            run(requests, threads, false);
+            run(requests, threads, true);
+        }
+        double single = run(requests, threads, false);
+        double batched = run(requests, threads, true);
+        System.out.printf("%-10s %,14.0f bookings/s%n", "single", single);
+        System.out.printf("%-10s %,14.0f bookings/s (%.2fx)%n", "batched", batched, batched / single);
+    }
+
+    private static List<BookingRequest> requests() {
+        Random random = new Random(42);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        List<BookingRequest> requests = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            int room = random.nextInt(10) == 0 ? random.nextInt(ROOMS) : i;
+            LocalDate from = checkIn.plusDays(random.nextInt(300));
+            requests.add(new BookingRequest("B" + i, "Guest " + i, "R" + room, from, from.plusDays(2)));
+        }
+        Collections.shuffle(requests, random);
+        return requests;
+    }
+
+    private static BookingService newService() {
+        Hotel hotel = new Hotel("BENCH", "Benchmark Hotel", "Bench City", 4);
+        for (int i = 0; i < ROOMS; i++) {
+            hotel.addRoom(new Room("R" + i, RoomType.DOUBLE, 100.0));
+        }
+        return new BookingService(hotel);
+    }
+
+    private static double run(List<BookingRequest> requests, int threads, boolean batched) throws Exception {
+        BookingService bookingService = newService();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        int perThread = requests.size() / threads;
+        for (int t = 0; t < threads; t++) {
+            List<BookingRequest> slice = requests.subList(t * perThread, (t + 1) * perThread);
+            futures.add(executor.submit(() -> {
+                start.await();
+                if (batched) {
+                    bookBatched(bookingService, slice);
+                } else {
+                    bookSingly(bookingService, slice);
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return perThread * threads / (elapsed / 1e9);
+    }
+
+    private static void bookSingly(BookingService bookingService, List<BookingRequest> requests) {
+        for (BookingRequest request : requests) {
+            try {
+                bookingService.createBooking(request.getBookingId(), request.getGuestName(),
+                        request.getRoomNumber(), request.getCheckInDate(), request.getCheckOutDate());
+            } catch (Exception e) {
+                // Conflicting request, counted like a batch failure
+            }
+        }
+    }
+
+    private static void bookBatched(BookingService bookingService, List<BookingRequest> requests) {
+        for (int start = 0; start < requests.size(); start += BATCH_SIZE) {
+            bookingService.createBookings(requests.subList(start, Math.min(requests.size(), start + BATCH_SIZE)));
+        }
+    }
+}
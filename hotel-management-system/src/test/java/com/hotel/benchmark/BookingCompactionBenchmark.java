@@ -0,0 +1,103 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures what {@link BookingService#compact} saves: a long booking
+ * history, mostly finished stays and cancellations, with a small live set
+ * of upcoming stays. Reports the working-set size, the retained heap and
+ * the time per query before and after compaction, and the pause of a first
+ * and of an incremental compaction.
+ * Not part of the unit test run; start it with
+ * {@code java -Xmx4g -cp target/classes:target/test-classes com.hotel.benchmark.BookingCompactionBenchmark [history] [live]}.
+ */
+public class BookingCompactionBenchmark {
+
+    private static final int ROOMS = 2_000;
+    private static final int GUESTS = 100_000;
+
+    public static void main(String[] args) {
+        int history = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int live = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        Hotel hotel = new Hotel("H001", "Benchmark Hotel", "Benchmark City", 4);
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            rooms.add(new Room("R" + i, RoomType.values()[i % 4], 80.0 + i % 120));
+        }
+        hotel.addRooms(rooms);
+        BookingService bookingService = new BookingService(hotel);
+        LocalDate today = LocalDate.now();
+        LocalDate start = today.minusYears(10);
+        List<Booking> bookings = new ArrayList<>(history + live);
+        for (int i = 0; i < history + live; i++) {
+            boolean upcoming = i >= history;
+            LocalDate checkIn = upcoming ? today.plusDays(1 + (i - history) / ROOMS * 6)
+                    : start.plusDays(i % 3600);
+            BookingStatus status = upcoming ? BookingStatus.CONFIRMED
+                    : i % 10 == 0 ? BookingStatus.CANCELLED : BookingStatus.COMPLETED;
+            bookings.add(Booking.restore("BK" + i, "Guest " + i % GUESTS, rooms.get(i % ROOMS), checkIn,
+                    checkIn.plusDays(1 + i % 5), 100.0 * (1 + i % 5), status));
+        }
+        bookingService.importBookings(bookings);
+        bookings = null;
+
+        report("before", bookingService);
+        long retainedBefore = usedHeap();
+        long begin = System.nanoTime();
+        int archived = bookingService.compact(today.minusDays(30));
+        long pause = System.nanoTime() - begin;
+        long retainedAfter = usedHeap();
+        System.out.printf("compaction archived %,d bookings in %,.0f ms; retained heap %,d MB -> %,d MB%n",
+                archived, pause / 1e6, retainedBefore >> 20, retainedAfter >> 20);
+        report("after ", bookingService);
+
+        // Scheduled runs only move what finished since the previous run
+        for (int i = history; i < history + live; i += 100) {
+            bookingService.cancelBooking("BK" + i);
+        }
+        begin = System.nanoTime();
+        archived = bookingService.compact(today.minusDays(30));
+        System.out.printf("incremental compaction archived %,d bookings in %,.1f ms%n", archived,
+                (System.nanoTime() - begin) / 1e6);
+    }
+
+    private static void report(String label, BookingService bookingService) {
+        long[] best = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE};
+        long sink = 0;
+        for (int round = 0; round < 10; round++) {
+            long begin = System.nanoTime();
+            sink += bookingService.getActiveBookingCount();
+            long counted = System.nanoTime();
+            sink += bookingService.streamActiveBookings().count();
+            long streamed = System.nanoTime();
+            for (int guest = 0; guest < 1_000; guest++) {
+                sink += bookingService.getBookingsByGuest("Guest " + guest).size();
+            }
+            long looked = System.nanoTime();
+            best[0] = Math.min(best[0], counted - begin);
+            best[1] = Math.min(best[1], streamed - counted);
+            best[2] = Math.min(best[2], (looked - streamed) / 1_000);
+        }
+        System.out.printf("%s working set %,d, archive %,d: active count %,.2f ms, active stream %,.2f ms,"
+                + " guest lookup %,.1f us (%d)%n", label, bookingService.getWorkingSetSize(),
+                bookingService.getArchivedBookingCount(), best[0] / 1e6, best[1] / 1e6, best[2] / 1e3, sink % 10);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,73 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Measures booking throughput of {@link BookingService} as threads are added.
+ * Every thread books its own slice of rooms, so the night claims never
+ * collide and throughput should grow with the core count.
+ * Not part of the unit test run; start it with
+ * {@code java -cp target/classes:target/test-classes com.hotel.benchmark.BookingConcurrencyBenchmark [maxThreads]}.
+ */
+public class BookingConcurrencyBenchmark {
+
+    private static final int BOOKINGS_PER_RUN = 400_000;
+
+    public static void main(String[] args) throws Exception {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        for (int warmup = 0; warmup < 2; warmup++) {
+            run(maxThreads);
+        }
+        System.out.printf("%8s %14s %8s%n", "threads", "bookings/s", "speedup");
+        double single = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double rate = run(threads);
+            if (threads == 1) {
+                single = rate;
+            }
+            System.out.printf("%8d %,14.0f %7.2fx%n", threads, rate, rate / single);
+        }
+    }
+
+    private static double run(int threads) throws Exception {
+        Hotel hotel = new Hotel("BENCH", "Benchmark Hotel", "Bench City", 4);
+        for (int i = 0; i < BOOKINGS_PER_RUN; i++) {
+            hotel.addRoom(new Room("R" + i, RoomType.DOUBLE, 100.0));
+        }
+        BookingService bookingService = new BookingService(hotel);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        LocalDate checkOut = checkIn.plusDays(2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        int perThread = BOOKINGS_PER_RUN / threads;
+        for (int t = 0; t < threads; t++) {
+            int first = t * perThread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = first; i < first + perThread; i++) {
+                    bookingService.createBooking("B" + i, "Guest " + i, "R" + i, checkIn, checkOut);
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return perThread * threads / (elapsed / 1e9);
+    }
+}
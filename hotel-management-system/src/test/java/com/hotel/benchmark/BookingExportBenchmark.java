@@ -0,0 +1,69 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.*;
+import com.hotel.persistence.BookingExporter;
+import com.hotel.service.BookingService;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares exporting every booking from a materialized
+ * {@link BookingService#getAllBookings()} copy with exporting the lazy
+ * {@link BookingService#streamAllBookings()}, both as CSV to a discarding
+ * output stream: time and bytes allocated by the exporting thread.
+ * Not part of the unit test run; start it with
+ * {@code java -Xmx4g -cp target/classes:target/test-classes com.hotel.benchmark.BookingExportBenchmark [bookings]}.
+ */
+public class BookingExportBenchmark {
+
+    private static final int ROOMS = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Hotel hotel = new Hotel("H001", "Benchmark Hotel", "Benchmark City", 4);
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            rooms.add(new Room("R" + i, RoomType.values()[i % 4], 80.0 + i % 120));
+        }
+        hotel.addRooms(rooms);
+        BookingService bookingService = new BookingService(hotel);
+        LocalDate start = LocalDate.now().minusYears(10);
+        List<Booking> history = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate checkIn = start.plusDays(i % 3600);
+            history.add(Booking.restore("BK" + i, "Guest " + i % 100_000, rooms.get(i % ROOMS), checkIn,
+                    checkIn.plusDays(1 + i % 5), 100.0 * (1 + i % 5), BookingStatus.COMPLETED));
+        }
+        bookingService.importBookings(history);
+        history = null;
+
+        for (int round = 0; round < 3; round++) {
+            measure("materialized", () -> BookingExporter.export(bookingService.getAllBookings().stream(),
+                    BookingExporter.Format.CSV, OutputStream.nullOutputStream()));
+            measure("streamed    ", () -> BookingExporter.export(bookingService.streamAllBookings(),
+                    BookingExporter.Format.CSV, OutputStream.nullOutputStream()));
+        }
+    }
+
+    private static void measure(String label, Export export) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        System.gc();
+        long allocated = threads.getThreadAllocatedBytes(thread);
+        long begin = System.nanoTime();
+        long written = export.run();
+        long elapsed = System.nanoTime() - begin;
+        allocated = threads.getThreadAllocatedBytes(thread) - allocated;
+        System.out.printf("%s %,d bookings in %,.0f ms, %,.1f MB allocated%n", label, written, elapsed / 1e6,
+                allocated / 1e6);
+    }
+
+    @FunctionalInterface
+    private interface Export {
+        long run() throws Exception;
+    }
+}
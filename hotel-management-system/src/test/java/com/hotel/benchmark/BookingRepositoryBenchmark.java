@@ -0,0 +1,116 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingRepository;
+import com.hotel.service.CompactBookingStore;
+import com.hotel.service.InMemoryBookingRepository;
+import com.hotel.service.MappedBookingStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Runs the same workload against every {@link BookingRepository} engine:
+ * bulk insert, lookups by ID, guest lookups, availability checks and an
+ * active-booking scan, and reports the time of each and the heap the engine
+ * retains on top of the source bookings. The mapped engine writes to a
+ * temporary directory that is removed afterwards.
+ * Not part of the unit test run; start it with
+ * {@code java -Xmx4g -cp target/classes:target/test-classes com.hotel.benchmark.BookingRepositoryBenchmark [bookings]}.
+ */
+public class BookingRepositoryBenchmark {
+
+    private static final int ROOMS = 2_000;
+    private static final int GUESTS = 100_000;
+    private static final int QUERIES = 10_000;
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Hotel hotel = new Hotel("H001", "Benchmark Hotel", "Benchmark City", 4);
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            rooms.add(new Room("R" + i, RoomType.values()[i % 4], 80.0 + i % 120));
+        }
+        hotel.addRooms(rooms);
+        LocalDate start = LocalDate.now().minusYears(5);
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate checkIn = start.plusDays(i / ROOMS * 3L);
+            BookingStatus status = i % 10 == 0 ? BookingStatus.CANCELLED
+                    : i % 3 == 0 ? BookingStatus.CONFIRMED : BookingStatus.COMPLETED;
+            bookings.add(Booking.restore("BK" + i, "Guest " + i % GUESTS, rooms.get(i % ROOMS), checkIn,
+                    checkIn.plusDays(1 + i % 2), 100.0 * (1 + i % 5), status));
+        }
+
+        Path directory = Files.createTempDirectory("booking-repository-benchmark");
+        run("in-memory", new InMemoryBookingRepository(), bookings, rooms, start);
+        run("compact  ", new CompactBookingStore(), bookings, rooms, start);
+        run("mapped   ", new MappedBookingStore(directory.resolve("bookings.dat"), hotel), bookings, rooms, start);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private static void run(String label, BookingRepository repository, List<Booking> bookings, List<Room> rooms,
+            LocalDate start) {
+        long heapBefore = usedHeap();
+        long begin = System.nanoTime();
+        for (Booking booking : bookings) {
+            repository.add(booking);
+        }
+        long inserted = System.nanoTime();
+        long heapAfter = usedHeap();
+
+        long sink = 0;
+        long[] best = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE};
+        for (int round = 0; round < 5; round++) {
+            long t0 = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) {
+                sink += repository.getBookingById("BK" + (i * 7919L % bookings.size())).getRoom().getRoomNumber().length();
+            }
+            long t1 = System.nanoTime();
+            for (int i = 0; i < 100; i++) {
+                sink += repository.getBookingsByGuest("Guest " + i * 31).size();
+            }
+            long t2 = System.nanoTime();
+            for (int i = 0; i < 100; i++) {
+                LocalDate from = start.plusDays(i * 11L);
+                sink += repository.isRoomAvailableForDates(rooms.get(i * 13 % ROOMS).getRoomNumber(), from,
+                        from.plusDays(2)) ? 1 : 0;
+            }
+            long t3 = System.nanoTime();
+            sink += repository.getActiveBookings().size();
+            long t4 = System.nanoTime();
+            best[0] = Math.min(best[0], (t1 - t0) / QUERIES);
+            best[1] = Math.min(best[1], (t2 - t1) / 100);
+            best[2] = Math.min(best[2], (t3 - t2) / 100);
+            best[3] = Math.min(best[3], t4 - t3);
+        }
+        System.out.printf("%s insert %,d in %,.0f ms, retained %,d MB; by ID %,.2f us, by guest %,.1f us,"
+                + " availability %,.1f us, active scan %,.1f ms (%d)%n", label, bookings.size(),
+                (inserted - begin) / 1e6, (heapAfter - heapBefore) >> 20, best[0] / 1e3, best[1] / 1e3,
+                best[2] / 1e3, best[3] / 1e6, sink % 10);
+        repository.close();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,88 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.*;
+import com.hotel.service.CompactBookingStore;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the retained heap of an {@code ArrayList<Booking>} with a
+ * {@link CompactBookingStore} holding the same bookings, and the time to
+ * scan each for active bookings of one room.
+ * Not part of the unit test run; start it with
+ * {@code java -Xmx4g -cp target/classes:target/test-classes com.hotel.benchmark.BookingStoreMemoryBenchmark [bookings]}.
+ */
+public class BookingStoreMemoryBenchmark {
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            rooms.add(new Room(String.valueOf(1000 + i), RoomType.values()[i % 4], 80.0 + i % 120));
+        }
+        LocalDate today = LocalDate.now();
+
+        long baseline = usedHeap();
+        List<Booking> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(newBooking(i, rooms, today));
+        }
+        long listBytes = usedHeap() - baseline;
+        long listScan = timeListScan(list, rooms.get(7).getRoomNumber(), today);
+        list = null;
+
+        baseline = usedHeap();
+        CompactBookingStore store = new CompactBookingStore();
+        for (int i = 0; i < count; i++) {
+            store.add(newBooking(i, rooms, today));
+        }
+        long storeBytes = usedHeap() - baseline;
+        long storeScan = timeStoreScan(store, rooms.get(7).getRoomNumber(), today);
+
+        System.out.printf("bookings=%d%n", count);
+        System.out.printf("ArrayList<Booking>:  %,d bytes (%.1f bytes/booking), room scan %.1f ms%n",
+                listBytes, (double) listBytes / count, listScan / 1e6);
+        System.out.printf("CompactBookingStore: %,d bytes (%.1f bytes/booking), room scan %.1f ms%n",
+                storeBytes, (double) storeBytes / count, storeScan / 1e6);
+    }
+
+    private static Booking newBooking(int i, List<Room> rooms, LocalDate today) {
+        LocalDate checkIn = today.plusDays(1 + i % 3000);
+        return new Booking("BK" + i, "Guest " + (i % 50_000), rooms.get(i % rooms.size()),
+                checkIn, checkIn.plusDays(1 + i % 5), 100.0 * (1 + i % 5), BookingStatus.CONFIRMED);
+    }
+
+    private static long timeListScan(List<Booking> list, String roomNumber, LocalDate today) {
+        LocalDate checkIn = today.minusDays(10);
+        LocalDate checkOut = today.minusDays(5);
+        long start = System.nanoTime();
+        boolean free = list.stream()
+                .filter(b -> b.getRoom().getRoomNumber().equals(roomNumber))
+                .filter(b -> b.getStatus() == BookingStatus.CONFIRMED)
+                .noneMatch(b -> !checkOut.isBefore(b.getCheckInDate()) && !checkIn.isAfter(b.getCheckOutDate()));
+        long elapsed = System.nanoTime() - start;
+        return free ? elapsed : -1;
+    }
+
+    private static long timeStoreScan(CompactBookingStore store, String roomNumber, LocalDate today) {
+        long start = System.nanoTime();
+        boolean free = store.isRoomAvailableForDates(roomNumber, today.minusDays(10), today.minusDays(5));
+        long elapsed = System.nanoTime() - start;
+        return free ? elapsed : -1;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
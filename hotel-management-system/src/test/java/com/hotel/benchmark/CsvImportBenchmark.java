@@ -0,0 +1,84 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.Hotel;
+import com.hotel.persistence.CsvImporter;
+import com.hotel.persistence.ImportReport;
+import com.hotel.service.BookingService;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Measures how long {@link CsvImporter} takes to onboard a property from
+ * CSV files: thousands of rooms and millions of historical bookings, most of
+ * them completed or cancelled stays in the past, plus one confirmed future
+ * stay per room. Writing the files is not timed.
+ * Needs a large heap for millions of bookings, e.g. {@code -Xmx4g}.
+ * Not part of the unit test run; start it with
+ * {@code java -Xmx4g -cp target/classes:target/test-classes com.hotel.benchmark.CsvImportBenchmark [bookings] [chunkSize]}.
+ */
+public class CsvImportBenchmark {
+
+    private static final int ROOMS = 5_000;
+    private static final int GUESTS = 200_000;
+
+    public static void main(String[] args) throws Exception {
+        int bookings = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int chunkSize = args.length > 1 ? Integer.parseInt(args[1]) : CsvImporter.DEFAULT_CHUNK_SIZE;
+        Path directory = Files.createTempDirectory("csv-import-benchmark");
+        Path roomsFile = directory.resolve("rooms.csv");
+        Path bookingsFile = directory.resolve("bookings.csv");
+        try {
+            writeRooms(roomsFile);
+            writeBookings(bookingsFile, bookings);
+
+            Hotel hotel = new Hotel("H001", "Benchmark Hotel", "Benchmark City", 4);
+            BookingService bookingService = new BookingService(hotel);
+            CsvImporter importer = new CsvImporter(hotel, bookingService, chunkSize);
+            long begin = System.nanoTime();
+            ImportReport rooms = importer.importRooms(roomsFile);
+            long roomsDone = System.nanoTime();
+            ImportReport imported = importer.importBookings(bookingsFile);
+            long end = System.nanoTime();
+
+            System.out.printf("rooms: %s in %.1f ms%n", rooms, (roomsDone - begin) / 1e6);
+            System.out.printf("bookings: %s in %.2f s (%,.0f rows/s, file %,d bytes, chunk %d)%n", imported,
+                    (end - roomsDone) / 1e9, imported.getImported() / ((end - roomsDone) / 1e9),
+                    Files.size(bookingsFile), chunkSize);
+            System.out.println(bookingService.getTotalBookings() + " registered, " + hotel.getAvailableRoomCount()
+                    + " rooms still available");
+        } finally {
+            Files.deleteIfExists(roomsFile);
+            Files.deleteIfExists(bookingsFile);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void writeRooms(Path file) throws Exception {
+        String[] types = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("roomNumber,type,pricePerNight\n");
+            for (int i = 0; i < ROOMS; i++) {
+                out.write("R" + i + "," + types[i % types.length] + "," + (80 + i % 200) + ".0\n");
+            }
+        }
+    }
+
+    private static void writeBookings(Path file, int count) throws Exception {
+        LocalDate today = LocalDate.now();
+        LocalDate start = today.minusYears(10);
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("bookingId,guestName,roomNumber,checkInDate,checkOutDate,totalPrice,status\n");
+            for (int i = 0; i < count; i++) {
+                boolean future = i < ROOMS;
+                LocalDate checkIn = future ? today.plusDays(1 + i % 300) : start.plusDays(i % 3600);
+                String status = future ? "CONFIRMED" : i % 10 == 0 ? "CANCELLED" : "COMPLETED";
+                out.write("BK" + i + ",Guest " + (i % GUESTS) + ",R" + (i % ROOMS) + "," + checkIn + ","
+                        + checkIn.plusDays(1 + i % 5) + "," + (100 * (1 + i % 5)) + ".0," + status + "\n");
+            }
+        }
+    }
+}
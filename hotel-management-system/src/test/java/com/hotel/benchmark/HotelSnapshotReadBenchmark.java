@@ -0,0 +1,107 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.Hotel;
+import com.hotel.model.HotelSnapshot;
+import com.hotel.model.Room;
+import com.hotel.model.RoomStatus;
+import com.hotel.model.RoomType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures a read-mostly search mix against {@link Hotel}: 99% of operations
+ * run a three-step query (rooms of a type, cheapest room, available count)
+ * and 1% flip a room between available and maintenance.
+ * The snapshot mode reads one {@link HotelSnapshot} per query; the locked mode
+ * reproduces the previous behaviour of copying each result under one monitor.
+ * Thread counts run 1, 2, 4, ... up to the given maximum.
+ * Not part of the unit test run; start it with
+ * {@code java -cp target/classes:target/test-classes com.hotel.benchmark.HotelSnapshotReadBenchmark [maxThreads]}.
+ */
+public class HotelSnapshotReadBenchmark {
+
+    private static final int ROOMS = 500;
+    private static final int OPERATIONS_PER_RUN = 2_000_000;
+    private static final int WRITE_PERCENT = 1;
+
+    private static volatile long sink;
+
+    public static void main(String[] args) throws Exception {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        for (int warmup = 0; warmup < 2; warmup++) {
+            run(false, 4);
+            run(true, 4);
+        }
+        System.out.printf("%8s %16s %16s %8s%n", "threads", "snapshot ops/s", "locked ops/s", "ratio");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double snapshot = run(false, threads);
+            double locked = run(true, threads);
+            System.out.printf("%8d %,16.0f %,16.0f %7.2fx%n", threads, snapshot, locked, snapshot / locked);
+        }
+    }
+
+    private static double run(boolean locked, int threads) throws Exception {
+        Hotel hotel = new Hotel("H001", "Benchmark Hotel", "Benchmark City", 4);
+        RoomType[] types = RoomType.values();
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            Room room = new Room("R" + i, types[i % types.length], 50.0 + i % 200);
+            rooms.add(room);
+            hotel.addRoom(room);
+        }
+        Object monitor = new Object();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        int perThread = OPERATIONS_PER_RUN / threads;
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                start.await();
+                long local = 0;
+                for (int i = 0; i < perThread; i++) {
+                    if (random.nextInt(100) < WRITE_PERCENT) {
+                        Room room = rooms.get(random.nextInt(ROOMS));
+                        room.setStatus(room.isAvailable() ? RoomStatus.MAINTENANCE : RoomStatus.AVAILABLE);
+                        continue;
+                    }
+                    RoomType type = types[random.nextInt(types.length)];
+                    if (locked) {
+                        synchronized (monitor) {
+                            HotelSnapshot snapshot = hotel.getSnapshot();
+                            local += new ArrayList<>(snapshot.getRoomsByTypeAndStatus(type, RoomStatus.AVAILABLE)).size();
+                        }
+                        synchronized (monitor) {
+                            Room cheapest = hotel.getSnapshot().getCheapestAvailableRoom();
+                            local += cheapest == null ? 0 : 1;
+                        }
+                        synchronized (monitor) {
+                            local += hotel.getSnapshot().getAvailableRoomCount();
+                        }
+                    } else {
+                        HotelSnapshot snapshot = hotel.getSnapshot();
+                        local += snapshot.getRoomsByTypeAndStatus(type, RoomStatus.AVAILABLE).size();
+                        local += snapshot.getCheapestAvailableRoom() == null ? 0 : 1;
+                        local += snapshot.getAvailableRoomCount();
+                    }
+                }
+                sink += local;
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return perThread * threads / (elapsed / 1e9);
+    }
+}
@@ -0,0 +1,104 @@
+package com.hotel.benchmark;
+
+import com.hotel.http.HotelHttpServer;
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+import com.hotel.service.HotelService;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local load benchmark for {@link HotelHttpServer}.
+ * Keeps a fixed number of requests in flight over keep-alive connections,
+ * mixing availability searches with booking creation (about one in ten),
+ * and reports throughput with p50/p99/max latency.
+ * Not part of the unit test run; start it with
+ * {@code java -Dsun.net.httpserver.nodelay=true -cp target/classes:target/test-classes com.hotel.benchmark.HttpLoadBenchmark [concurrency] [requests]}.
+ */
+public class HttpLoadBenchmark {
+
+    private static final int ROOMS = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+
+        Hotel hotel = new Hotel("LOAD", "Load Hotel", "Load City", 4);
+        for (int i = 0; i < ROOMS; i++) {
+            hotel.addRoom(new Room("R" + i, RoomType.values()[i % RoomType.values().length], 50.0 + i % 300));
+        }
+        HotelHttpServer server = new HotelHttpServer(new HotelService(hotel), new BookingService(hotel), 0);
+        server.start();
+        try {
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10)).build();
+            String base = "http://localhost:" + server.getPort();
+            run(client, base, concurrency, Math.min(requests, 1_000), 0);
+            long[] latencies = new long[requests];
+            long begin = System.nanoTime();
+            int errors = run(client, base, concurrency, requests, 1, latencies);
+            long elapsed = System.nanoTime() - begin;
+
+            Arrays.sort(latencies);
+            System.out.printf("concurrency=%d requests=%,d errors=%d%n", concurrency, requests, errors);
+            System.out.printf("throughput %,.0f req/s%n", requests / (elapsed / 1e9));
+            System.out.printf("p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                    latencies[requests / 2] / 1e6, latencies[(int) (requests * 0.99)] / 1e6,
+                    latencies[requests - 1] / 1e6);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static int run(HttpClient client, String base, int concurrency, int requests, int round)
+            throws Exception {
+        return run(client, base, concurrency, requests, round, new long[requests]);
+    }
+
+    private static int run(HttpClient client, String base, int concurrency, int requests, int round,
+                           long[] latencies) throws Exception {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicInteger errors = new AtomicInteger();
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < requests; i++) {
+            HttpRequest request;
+            LocalDate checkIn = today.plusDays(1 + i % 300);
+            if (i % 10 == 0) {
+                request = HttpRequest.newBuilder(URI.create(base + "/bookings"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString("bookingId=L" + round + "-" + i
+                                + "&guestName=Guest+" + i + "&roomNumber=R" + (i / 10 % ROOMS)
+                                + "&checkIn=" + checkIn + "&checkOut=" + checkIn.plusDays(2)))
+                        .build();
+            } else {
+                request = HttpRequest.newBuilder(URI.create(base + "/availability?checkIn=" + checkIn
+                        + "&checkOut=" + checkIn.plusDays(3))).GET().build();
+            }
+            inFlight.acquire();
+            int index = i;
+            long start = System.nanoTime();
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        latencies[index] = System.nanoTime() - start;
+                        if (failure != null || response.statusCode() >= 500) {
+                            errors.incrementAndGet();
+                        }
+                        inFlight.release();
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        return errors.get();
+    }
+}
@@ -0,0 +1,104 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.*;
+import com.hotel.service.CompactBookingStore;
+import com.hotel.service.MappedBookingStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the retained heap and room-scan time of a
+ * {@link CompactBookingStore} with a {@link MappedBookingStore} holding the
+ * same multi-year booking history, and times reopening the mapped file.
+ * Scans are repeated so the reported time is for warm code and pages.
+ * Not part of the unit test run; start it with
+ * {@code java -Xmx4g -cp target/classes:target/test-classes com.hotel.benchmark.MappedBookingStoreBenchmark [bookings]}.
+ */
+public class MappedBookingStoreBenchmark {
+
+    private static final int SCANS = 20;
+
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            rooms.add(new Room(String.valueOf(1000 + i), RoomType.values()[i % 4], 80.0 + i % 120));
+        }
+        LocalDate start = LocalDate.now().minusYears(10);
+        String roomNumber = rooms.get(7).getRoomNumber();
+        LocalDate checkIn = LocalDate.now().plusYears(1);
+
+        long baseline = usedHeap();
+        CompactBookingStore compact = new CompactBookingStore();
+        for (int i = 0; i < count; i++) {
+            compact.add(newBooking(i, rooms, start));
+        }
+        long compactBytes = usedHeap() - baseline;
+        long compactScan = Long.MAX_VALUE;
+        for (int i = 0; i < SCANS; i++) {
+            long begin = System.nanoTime();
+            compact.isRoomAvailableForDates(roomNumber, checkIn, checkIn.plusDays(3));
+            compactScan = Math.min(compactScan, System.nanoTime() - begin);
+        }
+        compact = null;
+
+        Path directory = Files.createTempDirectory("mapped-benchmark");
+        Path file = directory.resolve("archive.dat");
+        try {
+            MappedBookingStore mapped = new MappedBookingStore(file);
+            for (int i = 0; i < count; i++) {
+                mapped.add(newBooking(i, rooms, start));
+            }
+            mapped.close();
+            mapped = null;
+
+            baseline = usedHeap();
+            long begin = System.nanoTime();
+            mapped = new MappedBookingStore(file);
+            long openTime = System.nanoTime() - begin;
+            long mappedBytes = usedHeap() - baseline;
+            long mappedScan = Long.MAX_VALUE;
+            for (int i = 0; i < SCANS; i++) {
+                begin = System.nanoTime();
+                mapped.isRoomAvailableForDates(roomNumber, checkIn, checkIn.plusDays(3));
+                mappedScan = Math.min(mappedScan, System.nanoTime() - begin);
+            }
+
+            System.out.printf("bookings=%d, files=%,d bytes%n", count,
+                    Files.size(file) + Files.size(directory.resolve("archive.dat.strings")));
+            System.out.printf("CompactBookingStore: %,d heap bytes (%.1f bytes/booking), room scan %.1f ms%n",
+                    compactBytes, (double) compactBytes / count, compactScan / 1e6);
+            System.out.printf("MappedBookingStore:  %,d heap bytes (%.1f bytes/booking), room scan %.1f ms,"
+                    + " open %.1f ms%n", mappedBytes, (double) mappedBytes / count, mappedScan / 1e6, openTime / 1e6);
+            mapped.close();
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory.resolve("archive.dat.strings"));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static Booking newBooking(int i, List<Room> rooms, LocalDate start) {
+        LocalDate checkIn = start.plusDays(i % 3650);
+        return Booking.restore("BK" + i, "Guest " + (i % 50_000), rooms.get(i % rooms.size()),
+                checkIn, checkIn.plusDays(1 + i % 5), 100.0 * (1 + i % 5), BookingStatus.COMPLETED);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,88 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingCommandPipeline;
+import com.hotel.service.BookingService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compares booking throughput of {@link BookingCommandPipeline} with
+ * calling the lock-based {@link BookingService} directly from the same
+ * number of producer threads. Each producer creates bookings for its own
+ * rooms; pipeline producers keep submitting and wait for their futures at the end.
+ * Not part of the unit test run; start it with
+ * {@code java -cp target/classes:target/test-classes com.hotel.benchmark.PipelineThroughputBenchmark [maxThreads]}.
+ */
+public class PipelineThroughputBenchmark {
+
+    private static final int BOOKINGS_PER_RUN = 200_000;
+    private static final int RING_CAPACITY = 4096;
+
+    public static void main(String[] args) throws Exception {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        for (int warmup = 0; warmup < 2; warmup++) {
+            run(maxThreads, false);
+            run(maxThreads, true);
+        }
+        System.out.printf("%8s %16s %16s %8s%n", "threads", "locked/s", "pipeline/s", "ratio");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double locked = run(threads, false);
+            double pipelined = run(threads, true);
+            System.out.printf("%8d %,16.0f %,16.0f %7.2fx%n", threads, locked, pipelined, pipelined / locked);
+        }
+    }
+
+    private static double run(int threads, boolean pipelined) throws Exception {
+        Hotel hotel = new Hotel("BENCH", "Benchmark Hotel", "Bench City", 4);
+        for (int i = 0; i < BOOKINGS_PER_RUN; i++) {
+            hotel.addRoom(new Room("R" + i, RoomType.DOUBLE, 100.0));
+        }
+        BookingService bookingService = new BookingService(hotel);
+        BookingCommandPipeline pipeline = pipelined ? new BookingCommandPipeline(bookingService, RING_CAPACITY) : null;
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        LocalDate checkOut = checkIn.plusDays(2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        int perThread = BOOKINGS_PER_RUN / threads;
+        for (int t = 0; t < threads; t++) {
+            int first = t * perThread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                CompletableFuture<Booking> last = null;
+                for (int i = first; i < first + perThread; i++) {
+                    if (pipelined) {
+                        last = pipeline.createBooking("B" + i, "Guest " + i, "R" + i, checkIn, checkOut);
+                    } else {
+                        bookingService.createBooking("B" + i, "Guest " + i, "R" + i, checkIn, checkOut);
+                    }
+                }
+                if (last != null) {
+                    // Commands are applied in order, so the last one completes after the rest
+                    last.join();
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        if (pipeline != null) {
+            pipeline.close();
+        }
+        return perThread * threads / (elapsed / 1e9);
+    }
+}
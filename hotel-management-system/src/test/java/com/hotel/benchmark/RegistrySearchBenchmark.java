@@ -0,0 +1,91 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.Hotel;
+import com.hotel.model.Room;
+import com.hotel.model.RoomType;
+import com.hotel.service.HotelRegistry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures location-wide searches on a {@link HotelRegistry} of 400 hotels
+ * spread over 8 cities as the number of partitions grows.
+ * Client threads alternate between a cheapest-rooms query and a
+ * date-range availability query for a random city.
+ * Partition counts run 1, 2, 4, ... up to the given maximum.
+ * Not part of the unit test run; start it with
+ * {@code java -cp target/classes:target/test-classes com.hotel.benchmark.RegistrySearchBenchmark [maxPartitions] [clients]}.
+ */
+public class RegistrySearchBenchmark {
+
+    private static final int HOTELS = 400;
+    private static final int CITIES = 8;
+    private static final int ROOMS_PER_HOTEL = 100;
+    private static final int QUERIES_PER_RUN = 4_000;
+
+    public static void main(String[] args) throws Exception {
+        int maxPartitions = args.length > 0 ? Integer.parseInt(args[0])
+                : Runtime.getRuntime().availableProcessors() * 2;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        System.out.println("available processors: " + Runtime.getRuntime().availableProcessors());
+        run(1, clients);
+        run(maxPartitions, clients);
+        System.out.printf("%10s %14s %10s%n", "partitions", "queries/s", "speedup");
+        double baseline = 0;
+        for (int partitions = 1; partitions <= maxPartitions; partitions *= 2) {
+            double rate = run(partitions, clients);
+            if (baseline == 0) {
+                baseline = rate;
+            }
+            System.out.printf("%10d %,14.0f %9.2fx%n", partitions, rate, rate / baseline);
+        }
+    }
+
+    private static double run(int partitions, int clients) throws Exception {
+        try (HotelRegistry registry = new HotelRegistry(partitions)) {
+            for (int h = 0; h < HOTELS; h++) {
+                Hotel hotel = new Hotel("H" + h, "Hotel " + h, "City" + h % CITIES, 3);
+                for (int r = 0; r < ROOMS_PER_HOTEL; r++) {
+                    hotel.addRoom(new Room("R" + r, RoomType.values()[r % RoomType.values().length],
+                            50.0 + (h * 7 + r * 13) % 400));
+                }
+                registry.registerHotel(hotel);
+            }
+            LocalDate checkIn = LocalDate.now().plusDays(7);
+            ExecutorService executor = Executors.newFixedThreadPool(clients);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            int perClient = QUERIES_PER_RUN / clients;
+            for (int c = 0; c < clients; c++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    start.await();
+                    for (int i = 0; i < perClient; i++) {
+                        String city = "City" + random.nextInt(CITIES);
+                        if ((i & 1) == 0) {
+                            registry.findCheapestAvailableRooms(city, 10);
+                        } else {
+                            registry.checkAvailability(city, checkIn, checkIn.plusDays(3));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - begin;
+            executor.shutdown();
+            return perClient * clients / (elapsed / 1e9);
+        }
+    }
+}
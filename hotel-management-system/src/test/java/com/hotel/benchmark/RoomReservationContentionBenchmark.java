@@ -0,0 +1,140 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.OccupancyCalendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares {@link OccupancyCalendar} with a lock-based equivalent under
+ * contention. Every thread reserves and releases random short stays in a
+ * small set of rooms, so threads keep colliding on the same day words.
+ * The lock-based version guards a plain {@code long[]} per room with the
+ * room's monitor. Thread counts run 1, 2, 4, ... up to the given maximum.
+ * Not part of the unit test run; start it with
+ * {@code java -cp target/classes:target/test-classes com.hotel.benchmark.RoomReservationContentionBenchmark [maxThreads]}.
+ */
+public class RoomReservationContentionBenchmark {
+
+    private static final int ROOMS = 8;
+    private static final int HORIZON_DAYS = 365;
+    private static final int OPERATIONS_PER_RUN = 4_000_000;
+
+    public static void main(String[] args) throws Exception {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        for (int warmup = 0; warmup < 2; warmup++) {
+            run(new AtomicReservations(), 4);
+            run(new LockedReservations(), 4);
+        }
+        System.out.printf("%8s %16s %16s %8s%n", "threads", "lock-free ops/s", "locked ops/s", "ratio");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double atomic = run(new AtomicReservations(), threads);
+            double locked = run(new LockedReservations(), threads);
+            System.out.printf("%8d %,16.0f %,16.0f %7.2fx%n", threads, atomic, locked, atomic / locked);
+        }
+    }
+
+    private static double run(Reservations reservations, int threads) throws Exception {
+        LocalDate today = LocalDate.now();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        int perThread = OPERATIONS_PER_RUN / threads;
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    String room = "R" + random.nextInt(ROOMS);
+                    LocalDate from = today.plusDays(random.nextInt(HORIZON_DAYS - 14));
+                    LocalDate to = from.plusDays(1 + random.nextInt(7));
+                    if (reservations.tryReserve(room, from, to)) {
+                        reservations.release(room, from, to);
+                    }
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return perThread * threads / (elapsed / 1e9);
+    }
+
+    private interface Reservations {
+        boolean tryReserve(String room, LocalDate from, LocalDate to);
+
+        void release(String room, LocalDate from, LocalDate to);
+    }
+
+    private static final class AtomicReservations implements Reservations {
+        private final OccupancyCalendar calendar = new OccupancyCalendar(HORIZON_DAYS);
+
+        @Override
+        public boolean tryReserve(String room, LocalDate from, LocalDate to) {
+            return calendar.tryReserve(room, from, to);
+        }
+
+        @Override
+        public void release(String room, LocalDate from, LocalDate to) {
+            calendar.markFree(room, from, to);
+        }
+    }
+
+    private static final class LockedReservations implements Reservations {
+        private final Map<String, long[]> daysByRoom = new HashMap<>();
+        private final long baseDay = LocalDate.now().toEpochDay();
+
+        LockedReservations() {
+            for (int i = 0; i < ROOMS; i++) {
+                daysByRoom.put("R" + i, new long[HORIZON_DAYS / 64 + 1]);
+            }
+        }
+
+        @Override
+        public boolean tryReserve(String room, LocalDate from, LocalDate to) {
+            long[] days = daysByRoom.get(room);
+            synchronized (days) {
+                for (long day = from.toEpochDay(); day <= to.toEpochDay(); day++) {
+                    if ((days[index(day)] & bit(day)) != 0) {
+                        return false;
+                    }
+                }
+                for (long day = from.toEpochDay(); day <= to.toEpochDay(); day++) {
+                    days[index(day)] |= bit(day);
+                }
+                return true;
+            }
+        }
+
+        @Override
+        public void release(String room, LocalDate from, LocalDate to) {
+            long[] days = daysByRoom.get(room);
+            synchronized (days) {
+                for (long day = from.toEpochDay(); day <= to.toEpochDay(); day++) {
+                    days[index(day)] &= ~bit(day);
+                }
+            }
+        }
+
+        private int index(long day) {
+            return (int) ((day - baseDay) / 64);
+        }
+
+        private long bit(long day) {
+            return 1L << ((day - baseDay) % 64);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.Room;
+import com.hotel.model.RoomStatus;
+import com.hotel.model.RoomType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares {@link Room#transition} with a synchronized check-and-set under
+ * contention. Every thread flips random rooms out of a small set between
+ * available and occupied, so threads keep colliding on the same rooms.
+ * Thread counts run 1, 2, 4, ... up to the given maximum.
+ * Not part of the unit test run; start it with
+ * {@code java -cp target/classes:target/test-classes com.hotel.benchmark.RoomTransitionBenchmark [maxThreads]}.
+ */
+public class RoomTransitionBenchmark {
+
+    private static final int ROOMS = 4;
+    private static final int OPERATIONS_PER_RUN = 20_000_000;
+
+    public static void main(String[] args) throws Exception {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        for (int warmup = 0; warmup < 2; warmup++) {
+            run(false, 4);
+            run(true, 4);
+        }
+        System.out.printf("%8s %16s %16s %8s%n", "threads", "cas ops/s", "locked ops/s", "ratio");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double cas = run(false, threads);
+            double locked = run(true, threads);
+            System.out.printf("%8d %,16.0f %,16.0f %7.2fx%n", threads, cas, locked, cas / locked);
+        }
+    }
+
+    private static double run(boolean locked, int threads) throws Exception {
+        Room[] rooms = new Room[ROOMS];
+        LockedRoom[] lockedRooms = new LockedRoom[ROOMS];
+        for (int i = 0; i < ROOMS; i++) {
+            rooms[i] = new Room("R" + i, RoomType.DOUBLE, 100.0);
+            lockedRooms[i] = new LockedRoom();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        int perThread = OPERATIONS_PER_RUN / threads;
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    int room = random.nextInt(ROOMS);
+                    RoomStatus from = random.nextBoolean() ? RoomStatus.AVAILABLE : RoomStatus.OCCUPIED;
+                    RoomStatus to = from == RoomStatus.AVAILABLE ? RoomStatus.OCCUPIED : RoomStatus.AVAILABLE;
+                    if (locked) {
+                        lockedRooms[room].transition(from, to);
+                    } else {
+                        rooms[room].transition(from, to);
+                    }
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return perThread * threads / (elapsed / 1e9);
+    }
+
+    private static final class LockedRoom {
+        private RoomStatus status = RoomStatus.AVAILABLE;
+        private long version;
+
+        synchronized boolean transition(RoomStatus expectedStatus, RoomStatus newStatus) {
+            if (status != expectedStatus) {
+                return false;
+            }
+            status = newStatus;
+            version++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.Booking;
+import com.hotel.model.BookingStatus;
+import com.hotel.model.Hotel;
+import com.hotel.model.Room;
+import com.hotel.model.RoomType;
+import com.hotel.persistence.DurabilityPolicy;
+import com.hotel.persistence.HotelPersistence;
+import com.hotel.persistence.WriteAheadLog;
+import com.hotel.service.BookingService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Measures how long {@link HotelPersistence#open} takes to restore a hotel
+ * whose whole booking history went through the write-ahead log: first from
+ * the log alone, then from a checkpoint plus a short log tail once the
+ * checkpoint has truncated the log.
+ * Most bookings are cancelled stays in the past; each room also has one
+ * confirmed future stay, and the tail cancels and re-creates some of them.
+ * Needs a large heap for millions of bookings, e.g. {@code -Xmx3g}.
+ * Not part of the unit test run; start it with
+ * {@code java -Xmx3g -cp target/classes:target/test-classes com.hotel.benchmark.StartupRecoveryBenchmark [bookings] [tailRecords]}.
+ */
+public class StartupRecoveryBenchmark {
+
+    private static final int ROOMS = 5_000;
+    private static final int GUESTS = 200_000;
+    private static final int LOG_BATCH = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        int bookings = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int tailRecords = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        Path directory = Files.createTempDirectory("startup-benchmark");
+        Path logPath = directory.resolve(HotelPersistence.LOG_FILE);
+        try {
+            long begin = System.nanoTime();
+            logHistory(directory, bookings);
+            System.out.printf("logged %,d bookings in %.1f s; log %,d bytes%n",
+                    bookings, (System.nanoTime() - begin) / 1e9, Files.size(logPath));
+            open(directory, "log only");
+
+            begin = System.nanoTime();
+            checkpointAndLogTail(directory, tailRecords);
+            System.out.printf("checkpointed and logged %,d tail records in %.1f s; checkpoint %,d bytes, log %,d bytes%n",
+                    tailRecords, (System.nanoTime() - begin) / 1e9,
+                    Files.size(directory.resolve(HotelPersistence.CHECKPOINT_FILE)), Files.size(logPath));
+            for (int run = 0; run < 3; run++) {
+                open(directory, "checkpoint + tail, run " + run);
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static void open(Path directory, String label) throws Exception {
+        System.gc();
+        Hotel hotel = newHotel();
+        long start = System.nanoTime();
+        try (HotelPersistence persistence = HotelPersistence.open(directory, hotel, DurabilityPolicy.ASYNC)) {
+            long elapsed = System.nanoTime() - start;
+            System.out.printf("%s: restored %,d bookings in %,d ms%n", label,
+                    persistence.getBookingService().getTotalBookings(), elapsed / 1_000_000);
+        }
+    }
+
+    private static Hotel newHotel() {
+        Hotel hotel = new Hotel("H001", "Benchmark Hotel", "Benchmark City", 4);
+        RoomType[] types = RoomType.values();
+        for (int i = 0; i < ROOMS; i++) {
+            hotel.addRoom(new Room("R" + i, types[i % types.length], 50.0 + i % 300));
+        }
+        return hotel;
+    }
+
+    /**
+     * Writes the history the way a long-running service would have logged
+     * it: every booking created, and most later cancelled.
+     */
+    private static void logHistory(Path directory, int bookings) throws Exception {
+        Hotel hotel = newHotel();
+        try (HotelPersistence persistence = HotelPersistence.open(directory, hotel, DurabilityPolicy.ASYNC)) {
+            WriteAheadLog log = persistence.getLog();
+            LocalDate today = LocalDate.now();
+            List<Booking> batch = new ArrayList<>(LOG_BATCH);
+            for (int i = 0; i < bookings; i++) {
+                Room room = hotel.getRoomByNumber("R" + i % ROOMS);
+                boolean current = i >= bookings - ROOMS;
+                LocalDate checkIn = current ? today.plusDays(1 + i % 30) : today.minusDays(3_000 - i % 2_900);
+                batch.add(Booking.restore("B" + i, "Guest " + i % GUESTS, room, checkIn, checkIn.plusDays(2),
+                        room.getPricePerNight() * 2, BookingStatus.CONFIRMED));
+                if (batch.size() == LOG_BATCH || i == bookings - 1) {
+                    log.appendBookingsCreated(batch);
+                    for (Booking booking : batch) {
+                        if (booking.getCheckInDate().isBefore(today)) {
+                            log.appendBookingCancelled(booking.getBookingId());
+                        }
+                    }
+                    batch.clear();
+                }
+            }
+            log.sync();
+        }
+    }
+
+    private static void checkpointAndLogTail(Path directory, int tailRecords) throws Exception {
+        Hotel hotel = newHotel();
+        try (HotelPersistence persistence = HotelPersistence.open(directory, hotel, DurabilityPolicy.ASYNC)) {
+            persistence.checkpoint();
+            BookingService bookingService = persistence.getBookingService();
+            LocalDate today = LocalDate.now();
+            int bookings = bookingService.getTotalBookings();
+            for (int i = 0; i < tailRecords / 2; i++) {
+                Booking booking = bookingService.getBookingById("B" + (bookings - ROOMS + i % ROOMS));
+                if (booking != null && booking.getStatus() == BookingStatus.CONFIRMED) {
+                    bookingService.cancelBooking(booking.getBookingId());
+                    bookingService.createBooking("T" + i, "Tail Guest " + i, booking.getRoom().getRoomNumber(),
+                            today.plusDays(40 + i % 30), today.plusDays(42 + i % 30));
+                }
+            }
+        }
+    }
+}
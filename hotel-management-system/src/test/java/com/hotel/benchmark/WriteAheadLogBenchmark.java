@@ -0,0 +1,81 @@
+package com.hotel.benchmark;
+
+import com.hotel.model.RoomStatus;
+import com.hotel.persistence.DurabilityPolicy;
+import com.hotel.persistence.WriteAheadLog;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures committed records per second of a {@link WriteAheadLog} under
+ * each {@link DurabilityPolicy}, for 1, 4, 16 and 64 writer threads.
+ * A commit is one append followed by {@link WriteAheadLog#awaitDurable}.
+ * The log lives in the system temporary directory unless a directory is given.
+ * Not part of the unit test run; start it with
+ * {@code java -cp target/classes:target/test-classes com.hotel.benchmark.WriteAheadLogBenchmark [seconds] [directory]}.
+ */
+public class WriteAheadLogBenchmark {
+
+    private static final int[] THREADS = {1, 4, 16, 64};
+
+    public static void main(String[] args) throws Exception {
+        double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 2.0;
+        Path directory = args.length > 1 ? Path.of(args[1]) : Path.of(System.getProperty("java.io.tmpdir"));
+        System.out.printf("%-14s %8s %16s %12s %14s%n", "policy", "threads", "commits/s", "syncs/s", "commits/sync");
+        for (DurabilityPolicy policy : DurabilityPolicy.values()) {
+            for (int threads : THREADS) {
+                run(policy, threads, seconds, directory);
+            }
+        }
+    }
+
+    private static void run(DurabilityPolicy policy, int threads, double seconds, Path directory) throws Exception {
+        Path path = Files.createTempFile(directory, "wal-benchmark", ".wal");
+        Files.delete(path);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        LongAdder commits = new LongAdder();
+        AtomicBoolean running = new AtomicBoolean(true);
+        long syncs;
+        long elapsed;
+        try (WriteAheadLog log = new WriteAheadLog(path, policy)) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String roomNumber = "R" + t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (running.get()) {
+                        log.awaitDurable(log.appendRoomStatus(roomNumber, RoomStatus.OCCUPIED));
+                        commits.increment();
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            TimeUnit.NANOSECONDS.sleep((long) (seconds * 1e9));
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            elapsed = System.nanoTime() - begin;
+            syncs = log.getSyncCount();
+        } finally {
+            executor.shutdown();
+            Files.deleteIfExists(path);
+        }
+        double secondsElapsed = elapsed / 1e9;
+        System.out.printf("%-14s %8d %,16.0f %,12.0f %14.1f%n", policy, threads,
+                commits.sum() / secondsElapsed, syncs / secondsElapsed, (double) commits.sum() / Math.max(1, syncs));
+    }
+}
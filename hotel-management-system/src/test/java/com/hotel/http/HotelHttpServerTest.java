@@ -0,0 +1,133 @@
+package com.hotel.http;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+import com.hotel.service.HotelService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HotelHttpServer Tests")
+class HotelHttpServerTest {
+
+    private HotelHttpServer server;
+    private HttpClient client;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Hotel hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        hotel.addRoom(new Room("101", RoomType.DOUBLE, 150.0));
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 80.0));
+        server = new HotelHttpServer(new HotelService(hotel), new BookingService(hotel), 0);
+        server.start();
+        client = HttpClient.newHttpClient();
+        checkIn = LocalDate.now().plusDays(1);
+        checkOut = checkIn.plusDays(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should create, get and cancel a booking")
+    void testBookingLifecycle() throws Exception {
+        HttpResponse<String> created = send("POST", "/bookings",
+                "bookingId=B001&guestName=John+Doe&roomNumber=101&checkIn=" + checkIn + "&checkOut=" + checkOut);
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().contains("\"guestName\":\"John Doe\""));
+        assertTrue(created.body().contains("\"totalPrice\":300.00"));
+
+        HttpResponse<String> fetched = send("GET", "/bookings/B001", null);
+        assertEquals(200, fetched.statusCode());
+        assertTrue(fetched.body().contains("\"status\":\"CONFIRMED\""));
+
+        HttpResponse<String> cancelled = send("DELETE", "/bookings/B001", null);
+        assertEquals(200, cancelled.statusCode());
+        assertTrue(cancelled.body().contains("\"status\":\"CANCELLED\""));
+        assertEquals(404, send("DELETE", "/bookings/B001", null).statusCode());
+    }
+
+    @Test
+    @DisplayName("Should map errors to status codes")
+    void testErrors() throws Exception {
+        String form = "bookingId=B001&guestName=Jane&roomNumber=101&checkIn=" + checkIn + "&checkOut=" + checkOut;
+        assertEquals(201, send("POST", "/bookings", form).statusCode());
+        assertEquals(409, send("POST", "/bookings", form.replace("B001", "B002")).statusCode());
+        assertEquals(400, send("POST", "/bookings", form).statusCode());
+        assertEquals(400, send("POST", "/bookings", "bookingId=B003").statusCode());
+        assertEquals(400, send("GET", "/availability?checkIn=tomorrow&checkOut=" + checkOut, null).statusCode());
+        assertEquals(404, send("GET", "/bookings/MISSING", null).statusCode());
+        assertEquals(405, send("PUT", "/stats", "").statusCode());
+    }
+
+    @Test
+    @DisplayName("Should report availability and stats")
+    void testAvailabilityAndStats() throws Exception {
+        send("POST", "/bookings",
+                "bookingId=B001&guestName=Jane&roomNumber=101&checkIn=" + checkIn + "&checkOut=" + checkOut);
+
+        HttpResponse<String> available = send("GET",
+                "/availability?checkIn=" + checkIn + "&checkOut=" + checkOut, null);
+        assertEquals(200, available.statusCode());
+        assertFalse(available.body().contains("\"101\""));
+        assertTrue(available.body().contains("\"roomNumber\":\"102\""));
+
+        HttpResponse<String> stats = send("GET", "/stats", null);
+        assertEquals(200, stats.statusCode());
+        assertTrue(stats.body().contains("\"totalRooms\":2"));
+        assertTrue(stats.body().contains("\"occupancyRate\":50.00"));
+        assertTrue(stats.body().contains("\"activeBookings\":1"));
+    }
+
+    @Test
+    @DisplayName("Should page bookings and stream exports")
+    void testBookingPagesAndExport() throws Exception {
+        send("POST", "/bookings",
+                "bookingId=B001&guestName=Jane&roomNumber=101&checkIn=" + checkIn + "&checkOut=" + checkOut);
+        send("POST", "/bookings",
+                "bookingId=B002&guestName=John&roomNumber=102&checkIn=" + checkIn + "&checkOut=" + checkOut);
+
+        HttpResponse<String> first = send("GET", "/bookings?limit=1", null);
+        assertEquals(200, first.statusCode());
+        assertTrue(first.body().startsWith("{\"bookings\":[{\"bookingId\":\"B001\""), first.body());
+        assertTrue(first.body().endsWith(",\"nextCursor\":\"1\"}"), first.body());
+        HttpResponse<String> second = send("GET", "/bookings?limit=1&cursor=1", null);
+        assertTrue(second.body().contains("\"bookingId\":\"B002\""));
+        assertTrue(second.body().endsWith(",\"nextCursor\":null}"), second.body());
+        assertTrue(send("GET", "/bookings?guest=john", null).body().contains("\"B002\""));
+        assertEquals(400, send("GET", "/bookings?limit=5000", null).statusCode());
+        assertEquals(400, send("GET", "/bookings?cursor=!", null).statusCode());
+
+        HttpResponse<String> csv = send("GET", "/export?format=csv&status=active", null);
+        assertEquals(200, csv.statusCode());
+        assertTrue(csv.headers().firstValue("Content-Type").orElse("").startsWith("text/csv"));
+        assertEquals(3, csv.body().split("\n").length);
+        HttpResponse<String> ndjson = send("GET", "/export?format=ndjson&guest=jane", null);
+        assertTrue(ndjson.body().startsWith("{\"bookingId\":\"B001\""), ndjson.body());
+        assertEquals(400, send("GET", "/export?format=xml", null).statusCode());
+    }
+
+    private HttpResponse<String> send(String method, String path, String form) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path));
+        if (form == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/x-www-form-urlencoded")
+                    .method(method, HttpRequest.BodyPublishers.ofString(form));
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
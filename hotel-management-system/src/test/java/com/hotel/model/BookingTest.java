@@ -151,6 +151,40 @@ class BookingTest {
         assertEquals("John Doe", booking.getGuestName());
     }
     
+    @Test
+    @DisplayName("Should copy booking with a new status")
+    void testWithStatus() {
+        // Arrange
+        Booking booking = new Booking("B001", "John Doe", room, checkInDate, checkOutDate, 300.0, BookingStatus.CONFIRMED);
+        
+        // Act
+        Booking cancelled = booking.withStatus(BookingStatus.CANCELLED);
+        
+        // Assert
+        assertEquals(BookingStatus.CANCELLED, cancelled.getStatus());
+        assertEquals(BookingStatus.CONFIRMED, booking.getStatus());
+        assertEquals(booking, cancelled);
+        assertEquals(300.0, cancelled.getTotalPrice());
+        assertThrows(IllegalArgumentException.class, () -> booking.withStatus(null));
+    }
+    
+    @Test
+    @DisplayName("Should restore booking with past check-in date")
+    void testRestorePastBooking() {
+        // Arrange
+        LocalDate pastCheckIn = LocalDate.now().minusYears(2);
+        
+        // Act
+        Booking booking = Booking.restore("B001", "John Doe", room, pastCheckIn, pastCheckIn.plusDays(2), 200.0, BookingStatus.COMPLETED);
+        
+        // Assert
+        assertEquals(pastCheckIn, booking.getCheckInDate());
+        assertThrows(IllegalArgumentException.class,
+                () -> Booking.restore("B002", "John Doe", room, pastCheckIn, pastCheckIn, 0.0, BookingStatus.COMPLETED));
+        assertThrows(IllegalArgumentException.class,
+                () -> Booking.restore("B003", "John Doe", room, null, pastCheckIn, 0.0, BookingStatus.COMPLETED));
+    }
+    
     @Test
     @DisplayName("Should consider bookings equal with same ID, guest, and date")
     void testEquality() {
@@ -0,0 +1,36 @@
+package com.hotel.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Additional suite for {@link RoomRepository} engines that keep their
+ * rooms on storage after closing.
+ */
+public abstract class DurableRoomRepositoryContractTest extends RoomRepositoryContractTest {
+
+    /**
+     * Closes the engine and opens it again on the same storage.
+     */
+    protected abstract RoomRepository reopen(RoomRepository closed, Path directory) throws IOException;
+
+    @Test
+    @DisplayName("Contract: should keep rooms across reopening")
+    void testContractReopen() throws IOException {
+        repository.add(new Room("101", RoomType.DOUBLE, 100.0));
+        repository.addAll(List.of(new Room("102", RoomType.SINGLE, 80.5), new Room("103", RoomType.SUITE, 250.0)));
+        repository.remove("101");
+
+        repository = reopen(repository, storage);
+        assertEquals(List.of("102", "103"), numbers(repository.getAll()));
+        assertEquals(RoomType.SINGLE, repository.get("102").getType());
+        assertEquals(80.5, repository.get("102").getPricePerNight());
+        assertFalse(repository.add(new Room("103", RoomType.DOUBLE, 90.0)));
+    }
+}
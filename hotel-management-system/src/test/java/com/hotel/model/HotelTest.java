@@ -6,6 +6,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -103,6 +111,28 @@ class HotelTest {
         assertEquals(1, hotel.getTotalRoomCount());
     }
     
+    @Test
+    @DisplayName("Should add many rooms at once, skipping duplicates")
+    void testAddRooms() {
+        // Arrange
+        hotel.addRoom(new Room("101", RoomType.DOUBLE, 100.0));
+        Room suite = new Room("201", RoomType.SUITE, 300.0);
+        suite.setStatus(RoomStatus.MAINTENANCE);
+        
+        // Act
+        int added = hotel.addRooms(List.of(new Room("101", RoomType.SINGLE, 50.0),
+                new Room("102", RoomType.SINGLE, 80.0), suite));
+        
+        // Assert
+        assertEquals(2, added);
+        assertEquals(3, hotel.getTotalRoomCount());
+        assertEquals(RoomType.DOUBLE, hotel.getRoomByNumber("101").getType());
+        assertEquals(List.of(suite), hotel.getRoomsByStatus(RoomStatus.MAINTENANCE));
+        assertEquals(180.0, hotel.getSnapshot().getAvailablePriceTotal());
+        assertThrows(IllegalArgumentException.class, () -> hotel.addRooms(Arrays.asList(suite, null)));
+        assertDoesNotThrow(hotel::verifyAggregates);
+    }
+    
     @Test
     @DisplayName("Should throw exception when adding null room")
     void testAddNullRoom() {
@@ -151,6 +181,40 @@ class HotelTest {
         assertEquals("101", retrieved.getRoomNumber());
     }
     
+    @Test
+    @DisplayName("Should find room by number with surrounding whitespace")
+    void testGetRoomByNumberTrimmed() {
+        // Arrange
+        Room room = new Room("101", RoomType.DOUBLE, 100.0);
+        hotel.addRoom(room);
+        
+        // Act & Assert
+        assertSame(room, hotel.getRoomByNumber("  101 "));
+    }
+    
+    @Test
+    @DisplayName("Should keep lookup and insertion order in sync after removal")
+    void testRemoveRoomKeepsIndexInSync() {
+        // Arrange
+        Room room1 = new Room("101", RoomType.SINGLE, 50.0);
+        Room room2 = new Room("102", RoomType.DOUBLE, 100.0);
+        Room room3 = new Room("103", RoomType.SUITE, 200.0);
+        hotel.addRoom(room1);
+        hotel.addRoom(room2);
+        hotel.addRoom(room3);
+        
+        // Act
+        hotel.removeRoom("102");
+        boolean readded = hotel.addRoom(new Room("102", RoomType.DELUXE, 150.0));
+        
+        // Assert
+        assertTrue(readded);
+        assertEquals(RoomType.DELUXE, hotel.getRoomByNumber("102").getType());
+        assertEquals("101", hotel.getAllRooms().get(0).getRoomNumber());
+        assertEquals("103", hotel.getAllRooms().get(1).getRoomNumber());
+        assertEquals("102", hotel.getAllRooms().get(2).getRoomNumber());
+    }
+    
     @Test
     @DisplayName("Should return null for non-existent room")
     void testGetNonExistentRoom() {
@@ -230,6 +294,205 @@ class HotelTest {
         assertEquals(1, count);
     }
     
+    @Test
+    @DisplayName("Should keep type and status partitions in sync with room status")
+    void testPartitionsFollowStatusChanges() {
+        // Arrange
+        Room room1 = new Room("101", RoomType.DOUBLE, 100.0);
+        Room room2 = new Room("102", RoomType.DOUBLE, 120.0);
+        Room room3 = new Room("103", RoomType.SINGLE, 75.0);
+        hotel.addRoom(room1);
+        hotel.addRoom(room2);
+        hotel.addRoom(room3);
+        
+        // Act
+        room2.setStatus(RoomStatus.MAINTENANCE);
+        
+        // Assert
+        assertEquals(List.of(room1), hotel.getRoomsByTypeAndStatus(RoomType.DOUBLE, RoomStatus.AVAILABLE));
+        assertEquals(List.of(room2), hotel.getRoomsByStatus(RoomStatus.MAINTENANCE));
+        assertEquals(2, hotel.getRoomsByStatus(RoomStatus.AVAILABLE).size());
+        assertTrue(hotel.getRoomsByStatus(RoomStatus.OCCUPIED).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Should stop tracking status of removed rooms")
+    void testPartitionsAfterRemoval() {
+        // Arrange
+        Room room = new Room("101", RoomType.DOUBLE, 100.0);
+        hotel.addRoom(room);
+        
+        // Act
+        hotel.removeRoom("101");
+        room.setStatus(RoomStatus.OCCUPIED);
+        
+        // Assert
+        assertTrue(hotel.getRoomsByStatus(RoomStatus.AVAILABLE).isEmpty());
+        assertTrue(hotel.getRoomsByStatus(RoomStatus.OCCUPIED).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Should keep a snapshot unchanged after later mutations")
+    void testSnapshotIsStable() {
+        // Arrange
+        Room room1 = new Room("101", RoomType.DOUBLE, 100.0);
+        Room room2 = new Room("102", RoomType.SINGLE, 75.0);
+        hotel.addRoom(room1);
+        hotel.addRoom(room2);
+        HotelSnapshot before = hotel.getSnapshot();
+        
+        // Act
+        room2.setStatus(RoomStatus.OCCUPIED);
+        hotel.addRoom(new Room("103", RoomType.SUITE, 200.0));
+        HotelSnapshot after = hotel.getSnapshot();
+        
+        // Assert
+        assertEquals(2, before.getTotalRoomCount());
+        assertEquals(List.of(room1, room2), before.getRoomsByStatus(RoomStatus.AVAILABLE));
+        assertSame(room2, before.getCheapestAvailableRoom());
+        assertEquals(175.0, before.getAvailablePriceTotal(), 0.001);
+        assertEquals(3, after.getTotalRoomCount());
+        assertEquals(List.of(room2), after.getRoomsByStatus(RoomStatus.OCCUPIED));
+        assertTrue(after.getVersion() > before.getVersion());
+        assertThrows(UnsupportedOperationException.class,
+                () -> before.getAllRooms().add(room1));
+    }
+    
+    @Test
+    @DisplayName("Should reuse the snapshot until the hotel changes")
+    void testSnapshotReusedBetweenMutations() {
+        // Arrange
+        Room room = new Room("101", RoomType.DOUBLE, 100.0);
+        hotel.addRoom(room);
+        
+        // Act
+        HotelSnapshot first = hotel.getSnapshot();
+        HotelSnapshot second = hotel.getSnapshot();
+        room.setStatus(RoomStatus.AVAILABLE);
+        HotelSnapshot unchanged = hotel.getSnapshot();
+        room.setStatus(RoomStatus.MAINTENANCE);
+        HotelSnapshot changed = hotel.getSnapshot();
+        
+        // Assert
+        assertSame(first, second);
+        assertSame(first, unchanged);
+        assertNotSame(first, changed);
+        assertSame(hotel.getAllRooms(), changed.getAllRooms());
+    }
+    
+    @Test
+    @DisplayName("Should answer price queries from the snapshot in price order")
+    void testSnapshotPriceQueries() {
+        // Arrange
+        Room cheap = new Room("101", RoomType.SINGLE, 75.0);
+        Room midA = new Room("102", RoomType.DOUBLE, 120.0);
+        Room midB = new Room("103", RoomType.DOUBLE, 120.0);
+        Room suite = new Room("104", RoomType.SUITE, 200.0);
+        Room suiteB = new Room("105", RoomType.SUITE, 200.0);
+        hotel.addRoom(suite);
+        hotel.addRoom(midA);
+        hotel.addRoom(cheap);
+        hotel.addRoom(midB);
+        hotel.addRoom(suiteB);
+        
+        // Act
+        HotelSnapshot snapshot = hotel.getSnapshot();
+        
+        // Assert
+        assertSame(cheap, snapshot.getCheapestAvailableRoom());
+        assertSame(suite, snapshot.getMostExpensiveAvailableRoom());
+        assertEquals(List.of(cheap, midA), snapshot.getCheapestAvailableRooms(2));
+        assertEquals(List.of(midA, midB), snapshot.getAvailableRoomsInPriceRange(100.0, 150.0));
+        assertEquals(List.of(midA, midB, suite, suiteB), snapshot.getAvailableRoomsInPriceRange(120.0, 200.0));
+        assertTrue(snapshot.getAvailableRoomsInPriceRange(130.0, 150.0).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Should keep aggregates consistent with a full recount")
+    void testAggregatesMatchRecount() {
+        // Arrange
+        Random random = new Random(3);
+        RoomStatus[] statuses = RoomStatus.values();
+        for (int i = 0; i < 200; i++) {
+            hotel.addRoom(new Room("R" + i, RoomType.values()[i % 4], 40.0 + random.nextInt(30000) / 100.0));
+        }
+        
+        // Act
+        for (int i = 0; i < 5000; i++) {
+            int roomIndex = random.nextInt(250);
+            if (roomIndex >= 200) {
+                hotel.removeRoom("R" + (roomIndex - 200));
+                hotel.addRoom(new Room("R" + (roomIndex - 200), RoomType.SUITE, 99.99));
+            } else {
+                hotel.getRoomByNumber("R" + roomIndex).setStatus(statuses[random.nextInt(statuses.length)]);
+            }
+        }
+        
+        // Assert
+        assertDoesNotThrow(hotel::verifyAggregates);
+        int total = 0;
+        for (RoomStatus status : statuses) {
+            total += hotel.getRoomCount(status);
+        }
+        assertEquals(200, total);
+    }
+    
+    @Test
+    @DisplayName("Should change room status while the hotel's monitor is held")
+    void testStatusChangeDoesNotLockHotel() throws Exception {
+        // Arrange
+        Room room = new Room("101", RoomType.DOUBLE, 100.0);
+        hotel.addRoom(room);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        
+        // Act
+        try {
+            synchronized (hotel) {
+                Future<Boolean> booking = executor.submit(
+                        () -> room.transition(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED));
+                assertTrue(booking.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        // Assert
+        assertEquals(List.of(room), hotel.getRoomsByStatus(RoomStatus.OCCUPIED));
+        assertTrue(hotel.getAvailableRooms().isEmpty());
+        assertDoesNotThrow(hotel::verifyAggregates);
+    }
+    
+    @Test
+    @DisplayName("Should read counts and price total without building a snapshot")
+    void testAggregatesReadWithoutSnapshot() throws Exception {
+        // Arrange
+        Room room1 = new Room("101", RoomType.DOUBLE, 100.0);
+        Room room2 = new Room("102", RoomType.SINGLE, 75.0);
+        hotel.addRoom(room1);
+        hotel.addRoom(room2);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        
+        // Act
+        try {
+            synchronized (hotel) {
+                Future<double[]> aggregates = executor.submit(() -> {
+                    room2.transition(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED);
+                    return new double[] {hotel.getTotalRoomCount(), hotel.getAvailableRoomCount(),
+                            hotel.getRoomCount(RoomStatus.OCCUPIED), hotel.getAvailablePriceTotal()};
+                });
+                
+                // Assert
+                assertArrayEquals(new double[] {2, 1, 1, 100.0}, aggregates.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        room1.setStatus(RoomStatus.MAINTENANCE);
+        assertEquals(0, hotel.getAvailableRoomCount());
+        assertEquals(0.0, hotel.getAvailablePriceTotal());
+        assertDoesNotThrow(hotel::verifyAggregates);
+    }
+    
     @Test
     @DisplayName("Should set star rating")
     void testSetStarRating() {
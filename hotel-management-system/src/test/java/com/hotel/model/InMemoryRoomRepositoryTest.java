@@ -0,0 +1,44 @@
+package com.hotel.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryRoomRepository Tests")
+class InMemoryRoomRepositoryTest extends RoomRepositoryContractTest {
+
+    @Override
+    protected RoomRepository createRepository(Path directory) {
+        return new InMemoryRoomRepository();
+    }
+
+    @Test
+    @DisplayName("Should serve lookups while rooms are being added")
+    void testConcurrentLookups() throws Exception {
+        InMemoryRoomRepository repository = new InMemoryRoomRepository();
+        repository.add(new Room("R0", RoomType.DOUBLE, 100.0));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> reader = executor.submit(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    assertNotNull(repository.get("R0"));
+                }
+            });
+            for (int i = 1; i < 5_000; i++) {
+                repository.add(new Room("R" + i, RoomType.SINGLE, 80.0));
+            }
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(5_000, repository.size());
+        assertEquals("R4999", repository.getAll().get(4_999).getRoomNumber());
+    }
+}
@@ -0,0 +1,240 @@
+package com.hotel.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OccupancyCalendar class.
+ */
+@DisplayName("OccupancyCalendar Tests")
+class OccupancyCalendarTest {
+    
+    private OccupancyCalendar calendar;
+    private LocalDate today;
+    
+    @BeforeEach
+    void setUp() {
+        calendar = new OccupancyCalendar();
+        today = LocalDate.now();
+    }
+    
+    @Test
+    @DisplayName("Should report unknown rooms as free")
+    void testUnknownRoomIsFree() {
+        // Act & Assert
+        assertTrue(calendar.isFree("101", today, today.plusDays(3)));
+    }
+    
+    @Test
+    @DisplayName("Should hold every day of an occupied range, inclusive")
+    void testMarkOccupied() {
+        // Arrange
+        calendar.markOccupied("101", today.plusDays(10), today.plusDays(13));
+        
+        // Act & Assert
+        assertFalse(calendar.isFree("101", today.plusDays(13), today.plusDays(20)));
+        assertFalse(calendar.isFree("101", today.plusDays(5), today.plusDays(10)));
+        assertTrue(calendar.isFree("101", today.plusDays(14), today.plusDays(20)));
+        assertTrue(calendar.isFree("101", today.plusDays(5), today.plusDays(9)));
+        assertTrue(calendar.isFree("102", today.plusDays(10), today.plusDays(13)));
+    }
+    
+    @Test
+    @DisplayName("Should release days marked free")
+    void testMarkFree() {
+        // Arrange
+        calendar.markOccupied("101", today.plusDays(60), today.plusDays(140));
+        
+        // Act
+        calendar.markFree("101", today.plusDays(60), today.plusDays(140));
+        
+        // Assert
+        assertTrue(calendar.isFree("101", today, today.plusDays(400)));
+    }
+    
+    @Test
+    @DisplayName("Should skip past days when marking and reject queries that include them")
+    void testPastDates() {
+        // Arrange
+        calendar.markOccupied("101", today.plusDays(30), today.plusDays(32));
+        
+        // Act
+        calendar.markOccupied("102", today.minusDays(200), today.minusDays(198));
+        calendar.markOccupied("103", today.minusDays(2), today.plusDays(1));
+        
+        // Assert
+        assertFalse(calendar.isFree("101", today.plusDays(31), today.plusDays(31)));
+        assertTrue(calendar.isFree("102", today, today.plusDays(40)));
+        assertFalse(calendar.isFree("103", today, today));
+        assertTrue(calendar.isFree("103", today.plusDays(2), today.plusDays(40)));
+        assertThrows(IllegalArgumentException.class,
+                () -> calendar.isFree("102", today.minusDays(199), today.minusDays(199)));
+        assertThrows(IllegalArgumentException.class,
+                () -> calendar.findFreeRooms(List.of(), today.minusDays(1), today));
+    }
+    
+    @Test
+    @DisplayName("Should reserve free days and reject overlapping stays, inclusive of check-out")
+    void testTryReserveInclusiveBoundaries() {
+        // Act & Assert
+        assertTrue(calendar.tryReserve("101", today.plusDays(10), today.plusDays(13)));
+        
+        assertFalse(calendar.tryReserve("101", today.plusDays(13), today.plusDays(15)));
+        assertFalse(calendar.tryReserve("101", today.plusDays(5), today.plusDays(10)));
+        assertFalse(calendar.tryReserve("101", today.plusDays(1), today.plusDays(100)));
+        assertTrue(calendar.tryReserve("101", today.plusDays(14), today.plusDays(16)));
+        assertTrue(calendar.tryReserve("102", today.plusDays(10), today.plusDays(13)));
+    }
+    
+    @Test
+    @DisplayName("Should roll back partial claims when a later word is taken")
+    void testTryReserveRollbackAcrossWords() {
+        // Arrange
+        assertTrue(calendar.tryReserve("101", today.plusDays(200), today.plusDays(201)));
+        
+        // Act
+        assertFalse(calendar.tryReserve("101", today.plusDays(1), today.plusDays(200)));
+        
+        // Assert
+        assertTrue(calendar.isFree("101", today.plusDays(1), today.plusDays(199)));
+        assertTrue(calendar.tryReserve("101", today.plusDays(1), today.plusDays(199)));
+    }
+    
+    @Test
+    @DisplayName("Should grow a room's window for stays further ahead and keep earlier days")
+    void testWindowGrows() {
+        // Arrange
+        assertTrue(calendar.tryReserve("101", today.plusDays(3), today.plusDays(4)));
+        
+        // Act
+        assertTrue(calendar.tryReserve("101", today.plusDays(900), today.plusDays(905)));
+        
+        // Assert
+        assertFalse(calendar.isFree("101", today.plusDays(4), today.plusDays(4)));
+        assertFalse(calendar.isFree("101", today.plusDays(905), today.plusDays(2000)));
+        assertTrue(calendar.isFree("101", today.plusDays(5), today.plusDays(899)));
+    }
+    
+    @Test
+    @DisplayName("Should reject stays past the horizon")
+    void testOutsideHorizon() {
+        // Arrange
+        OccupancyCalendar shortCalendar = new OccupancyCalendar(400);
+        
+        // Act & Assert
+        assertEquals(today.plusDays(399), shortCalendar.getLastDay());
+        assertTrue(shortCalendar.tryReserve("101", today.plusDays(398), today.plusDays(399)));
+        assertThrows(IllegalArgumentException.class,
+                () -> shortCalendar.tryReserve("101", today.plusDays(398), today.plusDays(400)));
+        assertThrows(IllegalArgumentException.class,
+                () -> shortCalendar.markOccupied("101", today, today.plusDays(400)));
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyCalendar(0));
+    }
+    
+    @Test
+    @DisplayName("Should never grant overlapping stays to racing threads")
+    void testConcurrentReservations() throws Exception {
+        // Arrange
+        int threads = 8;
+        boolean[][] granted = new boolean[threads][];
+        int[][] stays = new int[threads * 500][];
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        
+        // Act
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            granted[t] = new boolean[500];
+            futures.add(executor.submit(() -> {
+                Random random = new Random(thread);
+                start.await();
+                for (int i = 0; i < 500; i++) {
+                    // Stays reach ever further ahead, so racing threads also grow the window
+                    int from = random.nextInt(80 + i * 3 / 5);
+                    int to = from + random.nextInt(10);
+                    stays[thread * 500 + i] = new int[] {from, to};
+                    granted[thread][i] = calendar.tryReserve("101", today.plusDays(from), today.plusDays(to));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        
+        // Assert
+        int[] owners = new int[400];
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < 500; i++) {
+                if (granted[t][i]) {
+                    int[] stay = stays[t * 500 + i];
+                    for (int d = stay[0]; d <= stay[1]; d++) {
+                        assertEquals(0, owners[d], "Day " + d + " granted twice");
+                        owners[d] = 1;
+                    }
+                }
+            }
+        }
+        for (int d = 0; d < 390; d++) {
+            assertEquals(owners[d] == 0, calendar.isFree("101", today.plusDays(d), today.plusDays(d)));
+        }
+    }
+    
+    @Test
+    @DisplayName("Should throw exception for reversed range")
+    void testReversedRange() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> calendar.isFree("101", today.plusDays(3), today));
+    }
+    
+    @Test
+    @DisplayName("Should find free rooms consistently with per-day checks")
+    void testFindFreeRoomsMatchesDayByDay() {
+        // Arrange
+        Random random = new Random(7);
+        List<Room> rooms = new ArrayList<>();
+        boolean[][] held = new boolean[50][400];
+        for (int i = 0; i < 50; i++) {
+            rooms.add(new Room("R" + i, RoomType.SINGLE, 50.0));
+            for (int j = 0; j < 10; j++) {
+                int from = random.nextInt(380);
+                int to = from + random.nextInt(15);
+                calendar.markOccupied("R" + i, today.plusDays(from), today.plusDays(to));
+                for (int d = from; d <= to; d++) {
+                    held[i][d] = true;
+                }
+            }
+        }
+        
+        // Act & Assert
+        for (int q = 0; q < 200; q++) {
+            int from = random.nextInt(380);
+            int to = from + random.nextInt(20);
+            List<Room> free = calendar.findFreeRooms(rooms, today.plusDays(from), today.plusDays(to));
+            for (int i = 0; i < 50; i++) {
+                boolean expected = true;
+                for (int d = from; d <= to && d < 400; d++) {
+                    expected &= !held[i][d];
+                }
+                assertEquals(expected, free.contains(rooms.get(i)));
+            }
+        }
+    }
+}
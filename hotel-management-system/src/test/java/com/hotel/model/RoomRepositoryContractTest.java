@@ -0,0 +1,134 @@
+package com.hotel.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conformance and performance suite every {@link RoomRepository} engine
+ * must pass. An engine's test class extends this and supplies the engine.
+ */
+public abstract class RoomRepositoryContractTest {
+
+    private static final int PERFORMANCE_ROOMS = 20_000;
+
+    @TempDir
+    protected Path storage;
+
+    protected RoomRepository repository;
+
+    /**
+     * Creates an empty engine for one test, keeping any files in the given directory.
+     */
+    protected abstract RoomRepository createRepository(Path directory) throws IOException;
+
+    @BeforeEach
+    void setUpRepository() throws IOException {
+        repository = createRepository(storage);
+    }
+
+    @AfterEach
+    void closeRepository() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Contract: should add rooms once and look them up by number")
+    void testContractAddAndGet() {
+        Room room = new Room("101", RoomType.DOUBLE, 100.0);
+
+        assertTrue(repository.add(room));
+        assertFalse(repository.add(new Room("101", RoomType.SUITE, 300.0)));
+        assertSame(room, repository.get("101"));
+        assertNull(repository.get("999"));
+        assertEquals(1, repository.size());
+        assertThrows(IllegalArgumentException.class, () -> repository.add(null));
+    }
+
+    @Test
+    @DisplayName("Contract: should add a batch skipping numbers already stored")
+    void testContractAddAll() {
+        repository.add(new Room("101", RoomType.DOUBLE, 100.0));
+        Room second = new Room("102", RoomType.SINGLE, 80.0);
+        Room third = new Room("103", RoomType.SUITE, 250.0);
+
+        List<Room> added = repository.addAll(List.of(new Room("101", RoomType.SUITE, 300.0), second,
+                new Room("102", RoomType.DELUXE, 180.0), third));
+
+        assertEquals(List.of(second, third), added);
+        assertEquals(List.of("101", "102", "103"), numbers(repository.getAll()));
+        assertTrue(repository.addAll(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Contract: should remove rooms and keep the order of the rest")
+    void testContractRemove() {
+        for (int i = 0; i < 4; i++) {
+            repository.add(new Room(String.valueOf(101 + i), RoomType.DOUBLE, 100.0));
+        }
+
+        assertEquals("102", repository.remove("102").getRoomNumber());
+        assertNull(repository.remove("102"));
+        assertNull(repository.get("102"));
+        assertEquals(List.of("101", "103", "104"), numbers(repository.getAll()));
+        assertEquals(3, repository.size());
+        assertTrue(repository.add(new Room("102", RoomType.SINGLE, 70.0)));
+        assertEquals(List.of("101", "103", "104", "102"), numbers(repository.getAll()));
+        assertThrows(UnsupportedOperationException.class, () -> repository.getAll().clear());
+    }
+
+    @Test
+    @DisplayName("Contract: should back a hotel's room inventory")
+    void testContractHotel() {
+        Hotel hotel = new Hotel("H001", "Test Hotel", "Test City", 4, repository);
+        hotel.addRoom(new Room("101", RoomType.DOUBLE, 100.0));
+        hotel.addRooms(List.of(new Room("102", RoomType.SINGLE, 80.0), new Room("103", RoomType.SUITE, 250.0)));
+        hotel.removeRoom("102");
+
+        assertEquals(2, repository.size());
+        assertEquals(2, hotel.getTotalRoomCount());
+        assertEquals(100.0, hotel.getCheapestAvailableRoom().getPricePerNight());
+        assertSame(repository.get("103"), hotel.getRoomByNumber(" 103 "));
+        hotel.verifyAggregates();
+    }
+
+    @Test
+    @DisplayName("Performance: should handle tens of thousands of rooms within budget")
+    void testPerformanceBudget() {
+        // Generous for a single slow core; catches accidental quadratic behaviour, not small regressions
+        assertTimeout(Duration.ofSeconds(20), () -> {
+            List<Room> rooms = new ArrayList<>(PERFORMANCE_ROOMS);
+            for (int i = 0; i < PERFORMANCE_ROOMS; i++) {
+                rooms.add(new Room("R" + i, RoomType.values()[i % 4], 80.0 + i % 120));
+            }
+            assertEquals(PERFORMANCE_ROOMS, repository.addAll(rooms).size());
+            for (int round = 0; round < 10; round++) {
+                for (int i = 0; i < PERFORMANCE_ROOMS; i++) {
+                    assertNotNull(repository.get("R" + i));
+                }
+            }
+            for (int i = 0; i < 100; i++) {
+                assertNotNull(repository.remove("R" + i * 7));
+            }
+            assertEquals(PERFORMANCE_ROOMS - 100, repository.getAll().size());
+        });
+    }
+
+    protected static List<String> numbers(List<Room> rooms) {
+        List<String> numbers = new ArrayList<>();
+        for (Room room : rooms) {
+            numbers.add(room.getRoomNumber());
+        }
+        return numbers;
+    }
+}
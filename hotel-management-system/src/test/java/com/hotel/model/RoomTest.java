@@ -6,6 +6,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -204,6 +209,82 @@ class RoomTest {
         assertEquals(room1.hashCode(), room2.hashCode());
     }
     
+    @Test
+    @DisplayName("Should notify status listeners only on actual changes")
+    void testStatusListener() {
+        // Arrange
+        List<RoomStatus> seen = new ArrayList<>();
+        RoomStatusListener listener = (r, oldStatus, newStatus) -> seen.add(newStatus);
+        room.addStatusListener(listener);
+        
+        // Act
+        room.setStatus(RoomStatus.OCCUPIED);
+        room.setStatus(RoomStatus.OCCUPIED);
+        room.removeStatusListener(listener);
+        room.setStatus(RoomStatus.AVAILABLE);
+        
+        // Assert
+        assertEquals(List.of(RoomStatus.OCCUPIED), seen);
+    }
+    
+    @Test
+    @DisplayName("Should transition only from the expected status and bump the version")
+    void testTransition() {
+        // Arrange
+        long version = room.getVersion();
+        
+        // Act & Assert
+        assertFalse(room.transition(RoomStatus.OCCUPIED, RoomStatus.AVAILABLE));
+        assertEquals(version, room.getVersion());
+        assertTrue(room.transition(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED));
+        assertEquals(RoomStatus.OCCUPIED, room.getStatus());
+        assertEquals(version + 1, room.getVersion());
+        room.setStatus(RoomStatus.MAINTENANCE);
+        assertEquals(version + 2, room.getVersion());
+        assertFalse(room.transition(RoomStatus.OCCUPIED, RoomStatus.AVAILABLE));
+        assertEquals(RoomStatus.MAINTENANCE, room.getStatus());
+        assertThrows(IllegalArgumentException.class, () -> room.transition(null, RoomStatus.AVAILABLE));
+    }
+    
+    @Test
+    @DisplayName("Should let exactly one racing transition win")
+    void testConcurrentTransition() throws Exception {
+        // Arrange
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger winners = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (room.transition(RoomStatus.AVAILABLE, RoomStatus.OCCUPIED)) {
+                    winners.incrementAndGet();
+                }
+            }));
+        }
+        
+        // Act
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        // Assert
+        assertEquals(1, winners.get());
+        assertEquals(1, room.getVersion());
+    }
+    
+    @Test
+    @DisplayName("Should throw exception for null status listener")
+    void testNullStatusListener() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> room.addStatusListener(null));
+    }
+    
     @Test
     @DisplayName("Should generate meaningful string representation")
     void testToString() {
@@ -0,0 +1,75 @@
+package com.hotel.persistence;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookingExporter Tests")
+class BookingExporterTest {
+
+    private Hotel hotel;
+    private BookingService bookingService;
+    private LocalDate checkIn;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        hotel.addRoom(new Room("101", RoomType.DOUBLE, 100.0));
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 33.33));
+        bookingService = new BookingService(hotel);
+        checkIn = LocalDate.now().plusDays(1);
+        bookingService.createBooking("B001", "Doe, \"Johnny\" John", "101", checkIn, checkIn.plusDays(2));
+        bookingService.createBooking("B002", "Jane Roe", "102", checkIn, checkIn.plusDays(3));
+        bookingService.cancelBooking("B001");
+    }
+
+    @Test
+    @DisplayName("Should export CSV that imports back unchanged")
+    void testCsvRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(2, BookingExporter.export(bookingService.streamAllBookings(), BookingExporter.Format.CSV, out));
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith(BookingExporter.CSV_HEADER + "\n"), csv);
+        assertTrue(csv.contains("B001,\"Doe, \"\"Johnny\"\" John\",101,"), csv);
+
+        Hotel copy = new Hotel("H001", "Test Hotel", "Test City", 4);
+        copy.addRoom(new Room("101", RoomType.DOUBLE, 100.0));
+        copy.addRoom(new Room("102", RoomType.SINGLE, 33.33));
+        BookingService imported = new BookingService(copy);
+        ImportReport report = new CsvImporter(copy, imported).importBookings(new StringReader(csv));
+
+        assertEquals(2, report.getImported(), report.getErrors().toString());
+        for (Booking original : bookingService.getAllBookings()) {
+            Booking restored = imported.getBookingById(original.getBookingId());
+            assertEquals(original.getGuestName(), restored.getGuestName());
+            assertEquals(original.getCheckInDate(), restored.getCheckInDate());
+            assertEquals(original.getCheckOutDate(), restored.getCheckOutDate());
+            assertEquals(original.getTotalPrice(), restored.getTotalPrice());
+            assertEquals(original.getStatus(), restored.getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Should export one JSON object per line")
+    void testNdjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BookingExporter.export(bookingService.streamActiveBookings(), BookingExporter.Format.NDJSON, out);
+
+        assertEquals(List.of("{\"bookingId\":\"B002\",\"guestName\":\"Jane Roe\",\"roomNumber\":\"102\""
+                + ",\"checkInDate\":\"" + checkIn + "\",\"checkOutDate\":\"" + checkIn.plusDays(3)
+                + "\",\"totalPrice\":99.99,\"status\":\"CONFIRMED\"}"),
+                List.of(out.toString(StandardCharsets.UTF_8).split("\n")));
+        assertThrows(IllegalArgumentException.class, () -> BookingExporter.export(null, null, out));
+    }
+}
@@ -0,0 +1,104 @@
+package com.hotel.persistence;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvImporter Tests")
+class CsvImporterTest {
+
+    private Hotel hotel;
+    private BookingService bookingService;
+    private CsvImporter importer;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        bookingService = new BookingService(hotel);
+        importer = new CsvImporter(hotel, bookingService, 2);
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("Should import rooms and report rejected rows by line")
+    void testImportRooms() throws IOException {
+        ImportReport report = importer.importRooms(new StringReader(String.join("\n",
+                "roomNumber,type,pricePerNight,status",
+                "101,double,100.0",
+                "102,SINGLE,75.5,MAINTENANCE",
+                "",
+                "101,SUITE,300",
+                "103,PENTHOUSE,500",
+                "\"104\",SUITE,-1",
+                "105,SUITE")));
+
+        assertEquals(2, report.getImported());
+        assertEquals(4, report.getRejected());
+        assertEquals(List.of("line 5: Room already exists: 101", "line 6: Invalid RoomType: PENTHOUSE",
+                "line 7: Price per night cannot be negative", "line 8: Expected 3 to 4 columns but found 2"),
+                report.getErrors());
+        assertEquals(RoomType.DOUBLE, hotel.getRoomByNumber("101").getType());
+        assertEquals(RoomStatus.MAINTENANCE, hotel.getRoomByNumber("102").getStatus());
+        assertDoesNotThrow(hotel::verifyAggregates);
+    }
+
+    @Test
+    @DisplayName("Should import past and future bookings with their checks")
+    void testImportBookings(@TempDir Path directory) throws IOException {
+        importer.importRooms(new StringReader("101,DOUBLE,100\n102,SINGLE,75\n103,SUITE,200\n"));
+        LocalDate past = today.minusYears(2);
+        LocalDate future = today.plusDays(10);
+        Path file = directory.resolve("bookings.csv");
+        Files.write(file, List.of(
+                "bookingId,guestName,roomNumber,checkInDate,checkOutDate,totalPrice,status",
+                "B001,\"Doe, John\",101," + past + "," + past.plusDays(2) + ",200.0,COMPLETED",
+                "B002,Jane Roe,102," + future + "," + future.plusDays(3) + ",225.0,CONFIRMED",
+                "B003,Jim Poe,102," + future.plusDays(3) + "," + future.plusDays(5) + ",150.0,CONFIRMED",
+                "B001,Jim Poe,103," + future + "," + future.plusDays(1) + ",200.0,CONFIRMED",
+                "B004,Jim Poe,999," + future + "," + future.plusDays(1) + ",200.0,CONFIRMED",
+                "B005,Jim Poe,103," + future + ",2024-02-30,200.0,CONFIRMED",
+                "B006,\"JANE \"\"JR\"\" ROE\",103," + past + "," + past.plusDays(1) + ",200.0,cancelled"));
+
+        ImportReport report = importer.importBookings(file);
+
+        assertEquals(3, report.getImported());
+        assertEquals(4, report.getRejected());
+        List<String> errors = report.getErrors();
+        assertEquals("line 4: Room 102 is not available for the specified dates", errors.get(0));
+        assertEquals("line 5: Booking ID already exists: B001", errors.get(1));
+        assertEquals("line 6: Room not found: 999", errors.get(2));
+        assertTrue(errors.get(3).startsWith("line 7: "), errors.get(3));
+
+        assertEquals("Doe, John", bookingService.getBookingById("B001").getGuestName());
+        assertEquals(past, bookingService.getBookingById("B001").getCheckInDate());
+        assertEquals("JANE \"JR\" ROE", bookingService.getBookingById("B006").getGuestName());
+        assertEquals(BookingStatus.CANCELLED, bookingService.getBookingById("B006").getStatus());
+        assertEquals(1, bookingService.getBookingsByGuest("jane roe").size());
+        assertEquals(RoomStatus.OCCUPIED, hotel.getRoomByNumber("102").getStatus());
+        assertEquals(RoomStatus.AVAILABLE, hotel.getRoomByNumber("101").getStatus());
+        assertFalse(bookingService.isRoomAvailableForDates("102", future.plusDays(1), future.plusDays(2)));
+        assertTrue(bookingService.isRoomAvailableForDates("103", future, future.plusDays(1)));
+        assertEquals(3, bookingService.getTotalBookings());
+    }
+
+    @Test
+    @DisplayName("Should split quoted CSV fields")
+    void testSplit() {
+        assertArrayEquals(new String[] {"a", "", "c"}, CsvImporter.split("a,,c"));
+        assertArrayEquals(new String[] {"a,b", "say \"hi\"", ""}, CsvImporter.split("\"a,b\",\"say \"\"hi\"\"\","));
+        assertThrows(IllegalArgumentException.class, () -> CsvImporter.split("\"open"));
+    }
+}
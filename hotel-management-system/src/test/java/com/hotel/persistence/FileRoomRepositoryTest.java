@@ -0,0 +1,86 @@
+package com.hotel.persistence;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FileRoomRepository Tests")
+class FileRoomRepositoryTest extends DurableRoomRepositoryContractTest {
+
+    @Override
+    protected RoomRepository createRepository(Path directory) throws IOException {
+        return new FileRoomRepository(directory.resolve("contract.rooms"));
+    }
+
+    @Override
+    protected RoomRepository reopen(RoomRepository closed, Path directory) throws IOException {
+        closed.close();
+        return new FileRoomRepository(directory.resolve("contract.rooms"));
+    }
+
+    @Test
+    @DisplayName("Should drop a torn record at the end of the file")
+    void testTornTail(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("rooms.dat");
+        try (FileRoomRepository repository = new FileRoomRepository(path)) {
+            repository.add(new Room("101", RoomType.DOUBLE, 100.0));
+            repository.add(new Room("102", RoomType.SUITE, 250.0));
+        }
+        long complete = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(complete - 3);
+        }
+
+        try (FileRoomRepository repository = new FileRoomRepository(path)) {
+            assertEquals(1, repository.size());
+            assertNotNull(repository.get("101"));
+            assertTrue(repository.add(new Room("102", RoomType.SINGLE, 70.0)));
+        }
+        try (FileRoomRepository repository = new FileRoomRepository(path)) {
+            assertEquals(RoomType.SINGLE, repository.get("102").getType());
+            assertEquals(RoomStatus.AVAILABLE, repository.get("102").getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not room files")
+    void testRejectsForeignFile(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("other.dat");
+        Files.write(path, new byte[] {1, 2, 3, 4, 5});
+
+        assertThrows(IOException.class, () -> new FileRoomRepository(path));
+        assertThrows(IllegalArgumentException.class, () -> new FileRoomRepository(null));
+    }
+
+    @Test
+    @DisplayName("Should reopen a hotel with its room inventory")
+    void testHotelReopen(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("hotel.rooms");
+        try (FileRoomRepository rooms = new FileRoomRepository(path)) {
+            Hotel hotel = new Hotel("H001", "Test Hotel", "Test City", 4, rooms);
+            hotel.addRooms(List.of(new Room("101", RoomType.DOUBLE, 100.0), new Room("102", RoomType.SUITE, 250.0)));
+        }
+
+        try (FileRoomRepository rooms = new FileRoomRepository(path)) {
+            Hotel hotel = new Hotel("H001", "Test Hotel", "Test City", 4, rooms);
+            assertEquals(2, hotel.getTotalRoomCount());
+            assertEquals(2, hotel.getAvailableRoomCount());
+            assertEquals(250.0, hotel.getMostExpensiveAvailableRoom().getPricePerNight());
+            hotel.verifyAggregates();
+        }
+        FileRoomRepository closed = new FileRoomRepository(path);
+        closed.close();
+        assertThrows(UncheckedIOException.class, () -> closed.add(new Room("103", RoomType.SINGLE, 70.0)));
+    }
+}
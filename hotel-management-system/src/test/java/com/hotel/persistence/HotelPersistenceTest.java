@@ -0,0 +1,218 @@
+package com.hotel.persistence;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingCommandPipeline;
+import com.hotel.service.BookingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HotelPersistence Tests")
+class HotelPersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    private LocalDate checkIn;
+
+    @BeforeEach
+    void setUp() {
+        checkIn = LocalDate.now().plusDays(1);
+    }
+
+    private static Hotel newHotel() {
+        Hotel hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        hotel.addRoom(new Room("101", RoomType.DOUBLE, 100.0));
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 75.0));
+        hotel.addRoom(new Room("103", RoomType.SUITE, 200.0));
+        return hotel;
+    }
+
+    @Test
+    @DisplayName("Should restore bookings and room states from the log alone")
+    void testRestoreFromLog() throws Exception {
+        try (HotelPersistence persistence = HotelPersistence.open(directory, newHotel(), DurabilityPolicy.PER_OPERATION)) {
+            BookingService bookingService = persistence.getBookingService();
+            bookingService.createBooking("B001", "John Doe", "101", checkIn, checkIn.plusDays(2));
+            bookingService.createBooking("B002", "Jane Smith", "102", checkIn, checkIn.plusDays(3));
+            bookingService.cancelBooking("B002");
+            bookingService.setRoomStatus("103", RoomStatus.MAINTENANCE);
+        }
+
+        Hotel hotel = newHotel();
+        try (HotelPersistence persistence = HotelPersistence.open(directory, hotel, DurabilityPolicy.PER_OPERATION)) {
+            BookingService bookingService = persistence.getBookingService();
+            assertEquals(2, bookingService.getTotalBookings());
+            assertEquals(BookingStatus.CONFIRMED, bookingService.getBookingById("B001").getStatus());
+            assertEquals(BookingStatus.CANCELLED, bookingService.getBookingById("B002").getStatus());
+            assertEquals(RoomStatus.OCCUPIED, hotel.getRoomByNumber("101").getStatus());
+            assertEquals(RoomStatus.AVAILABLE, hotel.getRoomByNumber("102").getStatus());
+            assertEquals(RoomStatus.MAINTENANCE, hotel.getRoomByNumber("103").getStatus());
+            assertFalse(bookingService.isRoomAvailableForDates("101", checkIn, checkIn.plusDays(1)));
+            assertTrue(bookingService.isRoomAvailableForDates("102", checkIn, checkIn.plusDays(1)));
+            assertEquals(1, bookingService.getBookingsByGuest("john doe").size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should restore from a checkpoint plus the log tail after it")
+    void testRestoreFromCheckpointAndTail() throws Exception {
+        try (HotelPersistence persistence = HotelPersistence.open(directory, newHotel(), DurabilityPolicy.BATCHED)) {
+            BookingService bookingService = persistence.getBookingService();
+            bookingService.createBooking("B001", "John Doe", "101", checkIn, checkIn.plusDays(2));
+            bookingService.createBooking("B002", "Jane Smith", "102", checkIn, checkIn.plusDays(3));
+            persistence.checkpointAsync().get();
+            bookingService.cancelBooking("B001");
+            bookingService.createBooking("B003", "Alice Brown", "103", checkIn, checkIn.plusDays(1));
+        }
+
+        Hotel hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        try (HotelPersistence persistence = HotelPersistence.open(directory, hotel, DurabilityPolicy.BATCHED)) {
+            BookingService bookingService = persistence.getBookingService();
+            assertEquals(3, hotel.getTotalRoomCount());
+            assertEquals(3, bookingService.getTotalBookings());
+            assertEquals(BookingStatus.CANCELLED, bookingService.getBookingById("B001").getStatus());
+            assertEquals(BookingStatus.CONFIRMED, bookingService.getBookingById("B003").getStatus());
+            assertEquals(RoomStatus.AVAILABLE, hotel.getRoomByNumber("101").getStatus());
+            assertEquals(RoomStatus.OCCUPIED, hotel.getRoomByNumber("102").getStatus());
+            assertEquals(RoomStatus.OCCUPIED, hotel.getRoomByNumber("103").getStatus());
+            assertSame(hotel.getRoomByNumber("103"), bookingService.getBookingById("B003").getRoom());
+
+            bookingService.createBooking("B004", "Bob White", "101", checkIn, checkIn.plusDays(2));
+        }
+
+        try (HotelPersistence persistence = HotelPersistence.open(directory, newHotel(), DurabilityPolicy.BATCHED)) {
+            assertEquals(4, persistence.getBookingService().getTotalBookings());
+        }
+    }
+
+    @Test
+    @DisplayName("Should truncate the log after a checkpoint and restore across several checkpoints")
+    void testCheckpointTruncatesLog() throws Exception {
+        Path logPath = directory.resolve(HotelPersistence.LOG_FILE);
+        try (HotelPersistence persistence = HotelPersistence.open(directory, newHotel(), DurabilityPolicy.ASYNC)) {
+            BookingService bookingService = persistence.getBookingService();
+            for (int i = 0; i < 200; i++) {
+                bookingService.createBooking("H" + i, "Guest " + i, "101", checkIn.plusDays(i * 3L),
+                        checkIn.plusDays(i * 3L + 1));
+                bookingService.cancelBooking("H" + i);
+            }
+            persistence.getLog().sync();
+            long fullSize = Files.size(logPath);
+            persistence.checkpoint();
+            assertTrue(Files.size(logPath) < fullSize / 10, "Log was not truncated after the checkpoint");
+            bookingService.createBooking("B001", "John Doe", "102", checkIn, checkIn.plusDays(2));
+            persistence.checkpoint();
+            bookingService.cancelBooking("B001");
+        }
+
+        Hotel hotel = newHotel();
+        try (HotelPersistence persistence = HotelPersistence.open(directory, hotel, DurabilityPolicy.ASYNC)) {
+            BookingService bookingService = persistence.getBookingService();
+            assertEquals(201, bookingService.getTotalBookings());
+            assertEquals(BookingStatus.CANCELLED, bookingService.getBookingById("B001").getStatus());
+            assertEquals(RoomStatus.AVAILABLE, hotel.getRoomByNumber("102").getStatus());
+            assertEquals(0, persistence.getSkippedRecordCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay logged room additions and count records for unknown rooms")
+    void testRoomAdditions() throws Exception {
+        try (HotelPersistence persistence = HotelPersistence.open(directory, newHotel(), DurabilityPolicy.PER_OPERATION)) {
+            BookingService bookingService = persistence.getBookingService();
+            assertTrue(bookingService.addRoom(new Room("201", RoomType.DELUXE, 150.0)));
+            assertFalse(bookingService.addRoom(new Room("101", RoomType.SUITE, 300.0)));
+            bookingService.createBooking("B001", "John Doe", "201", checkIn, checkIn.plusDays(2));
+            persistence.getHotel().addRoom(new Room("301", RoomType.SINGLE, 60.0));
+            bookingService.createBooking("B002", "Jane Smith", "301", checkIn, checkIn.plusDays(2));
+        }
+
+        Hotel hotel = newHotel();
+        try (HotelPersistence persistence = HotelPersistence.open(directory, hotel, DurabilityPolicy.PER_OPERATION)) {
+            Room added = hotel.getRoomByNumber("201");
+            assertEquals(RoomType.DELUXE, added.getType());
+            assertEquals(150.0, added.getPricePerNight());
+            assertSame(added, persistence.getBookingService().getBookingById("B001").getRoom());
+            assertNull(persistence.getBookingService().getBookingById("B002"));
+            assertEquals(1, persistence.getSkippedRecordCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay room status changes made through the command pipeline")
+    void testPipelineStatusChanges() throws Exception {
+        try (HotelPersistence persistence = HotelPersistence.open(directory, newHotel(), DurabilityPolicy.PER_OPERATION);
+             BookingCommandPipeline pipeline = new BookingCommandPipeline(persistence.getBookingService(), 8)) {
+            pipeline.setRoomStatus(persistence.getHotel().getRoomByNumber("102"), RoomStatus.MAINTENANCE)
+                    .get(10, TimeUnit.SECONDS);
+        }
+
+        Hotel hotel = newHotel();
+        try (HotelPersistence persistence = HotelPersistence.open(directory, hotel, DurabilityPolicy.PER_OPERATION)) {
+            assertEquals(RoomStatus.MAINTENANCE, hotel.getRoomByNumber("102").getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep archived bookings out of the working set after reopening")
+    void testCompactionSurvivesReopen() throws Exception {
+        LocalDate past = LocalDate.now().minusDays(60);
+        try (HotelPersistence persistence = HotelPersistence.open(directory, newHotel(), DurabilityPolicy.ASYNC)) {
+            BookingService bookingService = persistence.getBookingService();
+            Room room = persistence.getHotel().getRoomByNumber("103");
+            List<Booking> history = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                history.add(Booking.restore("H" + i, "Guest " + i % 7, room, past.plusDays(i % 20),
+                        past.plusDays(i % 20 + 1), 200.0, BookingStatus.COMPLETED));
+            }
+            bookingService.importBookings(history);
+            bookingService.createBooking("B001", "John Doe", "101", checkIn, checkIn.plusDays(2));
+            assertEquals(100, bookingService.compact(LocalDate.now()));
+            persistence.checkpoint();
+            bookingService.createBooking("B002", "Jane Smith", "102", checkIn, checkIn.plusDays(2));
+        }
+
+        try (HotelPersistence persistence = HotelPersistence.open(directory, newHotel(), DurabilityPolicy.ASYNC)) {
+            BookingService bookingService = persistence.getBookingService();
+            assertEquals(2, bookingService.getWorkingSetSize());
+            assertEquals(100, bookingService.getArchivedBookingCount());
+            assertEquals(102, bookingService.getTotalBookings());
+            assertEquals(BookingStatus.COMPLETED, bookingService.getBookingById("H42").getStatus());
+            assertEquals(15, bookingService.getArchivedBookingsByGuest("guest 0").size());
+            assertEquals(RoomStatus.AVAILABLE, persistence.getHotel().getRoomByNumber("103").getStatus());
+            persistence.checkpoint();
+        }
+        try (HotelPersistence persistence = HotelPersistence.open(directory, newHotel(), DurabilityPolicy.ASYNC)) {
+            assertEquals(2, persistence.getBookingService().getWorkingSetSize());
+            assertEquals(100, persistence.getBookingService().getArchivedBookingCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a corrupt checkpoint")
+    void testCorruptCheckpoint() throws Exception {
+        try (HotelPersistence persistence = HotelPersistence.open(directory, newHotel(), DurabilityPolicy.ASYNC)) {
+            persistence.getBookingService().createBooking("B001", "John Doe", "101", checkIn, checkIn.plusDays(2));
+            persistence.checkpoint();
+        }
+        Path checkpoint = directory.resolve(HotelPersistence.CHECKPOINT_FILE);
+        byte[] bytes = Files.readAllBytes(checkpoint);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(checkpoint, bytes);
+
+        assertThrows(IOException.class,
+                () -> HotelPersistence.open(directory, newHotel(), DurabilityPolicy.ASYNC));
+    }
+}
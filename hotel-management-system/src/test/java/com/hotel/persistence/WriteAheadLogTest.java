@@ -0,0 +1,203 @@
+package com.hotel.persistence;
+
+import com.hotel.model.*;
+import com.hotel.service.BookingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WriteAheadLog Tests")
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(DurabilityPolicy.class)
+    @DisplayName("Should read back every record type in append order")
+    void testRoundTrip(DurabilityPolicy policy) throws Exception {
+        Path path = directory.resolve("bookings.wal");
+        Room room = new Room("101", RoomType.DOUBLE, 100.0);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        Booking booking = new Booking("B001", "John Doe", room, checkIn, checkIn.plusDays(2),
+                200.0, BookingStatus.CONFIRMED);
+
+        try (WriteAheadLog log = new WriteAheadLog(path, policy)) {
+            log.awaitDurable(log.appendBookingCreated(booking));
+            log.awaitDurable(log.appendRoomStatus("102", RoomStatus.MAINTENANCE));
+            log.awaitDurable(log.appendBookingCancelled("B001"));
+        }
+
+        List<LogRecord> records = new ArrayList<>();
+        assertEquals(3, WriteAheadLog.replay(path, records::add));
+        LogRecord created = records.get(0);
+        assertEquals(LogRecord.Type.BOOKING_CREATED, created.getType());
+        assertEquals("B001", created.getBookingId());
+        assertEquals("John Doe", created.getGuestName());
+        assertEquals("101", created.getRoomNumber());
+        assertEquals(checkIn, created.getCheckInDate());
+        assertEquals(checkIn.plusDays(2), created.getCheckOutDate());
+        assertEquals(200.0, created.getTotalPrice());
+        assertEquals(RoomStatus.MAINTENANCE, records.get(1).getRoomStatus());
+        assertEquals(LogRecord.Type.BOOKING_CANCELLED, records.get(2).getType());
+    }
+
+    @Test
+    @DisplayName("Should discard a torn tail when reopened and keep appending")
+    void testTornTailIsTruncated() throws Exception {
+        Path path = directory.resolve("bookings.wal");
+        try (WriteAheadLog log = new WriteAheadLog(path, DurabilityPolicy.PER_OPERATION)) {
+            log.awaitDurable(log.appendRoomStatus("101", RoomStatus.OCCUPIED));
+            log.awaitDurable(log.appendRoomStatus("102", RoomStatus.OCCUPIED));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        assertEquals(1, WriteAheadLog.replay(path, record -> { }));
+
+        try (WriteAheadLog log = new WriteAheadLog(path, DurabilityPolicy.PER_OPERATION)) {
+            log.awaitDurable(log.appendRoomStatus("103", RoomStatus.MAINTENANCE));
+        }
+
+        List<LogRecord> records = new ArrayList<>();
+        WriteAheadLog.replay(path, records::add);
+        assertEquals(2, records.size());
+        assertEquals("101", records.get(0).getRoomNumber());
+        assertEquals("103", records.get(1).getRoomNumber());
+    }
+
+    @Test
+    @DisplayName("Should drop records before an offset and keep later offsets valid")
+    void testTruncateBefore() throws Exception {
+        Path path = directory.resolve("bookings.wal");
+        long checkpointOffset;
+        long endOffset;
+        try (WriteAheadLog log = new WriteAheadLog(path, DurabilityPolicy.PER_OPERATION)) {
+            for (int i = 0; i < 100; i++) {
+                log.awaitDurable(log.appendRoomStatus("R" + i, RoomStatus.OCCUPIED));
+            }
+            checkpointOffset = log.getEndOffset();
+            log.awaitDurable(log.appendRoomStatus("101", RoomStatus.MAINTENANCE));
+            long sizeBefore = Files.size(path);
+
+            log.truncateBefore(checkpointOffset);
+            log.truncateBefore(checkpointOffset - 1);
+            assertEquals(checkpointOffset, log.getStartOffset());
+            assertTrue(Files.size(path) < sizeBefore / 10, "Log was not truncated");
+            log.awaitDurable(log.appendRoomStatus("102", RoomStatus.MAINTENANCE));
+            endOffset = log.getEndOffset();
+            assertThrows(IllegalArgumentException.class, () -> log.truncateBefore(endOffset + 1));
+        }
+
+        List<String> rooms = new ArrayList<>();
+        assertEquals(2, WriteAheadLog.replay(path, checkpointOffset, record -> rooms.add(record.getRoomNumber())));
+        assertEquals(List.of("101", "102"), rooms);
+        assertEquals(2, WriteAheadLog.replay(path, record -> { }));
+        assertThrows(IOException.class, () -> WriteAheadLog.replay(path, checkpointOffset - 1, record -> { }));
+        try (WriteAheadLog log = new WriteAheadLog(path, DurabilityPolicy.PER_OPERATION)) {
+            assertEquals(checkpointOffset, log.getStartOffset());
+            assertEquals(endOffset, log.getEndOffset());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not logs")
+    void testRejectsForeignFile() throws Exception {
+        Path path = directory.resolve("notes.txt");
+        Files.writeString(path, "not a log");
+
+        assertThrows(IOException.class, () -> new WriteAheadLog(path, DurabilityPolicy.ASYNC));
+    }
+
+    @Test
+    @DisplayName("Should share syncs between concurrent writers")
+    void testGroupCommit() throws Exception {
+        Path path = directory.resolve("bookings.wal");
+        int threads = 8;
+        int perThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (WriteAheadLog log = new WriteAheadLog(path, DurabilityPolicy.BATCHED)) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        log.awaitDurable(log.appendRoomStatus("R" + thread, RoomStatus.OCCUPIED));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            assertTrue(log.getSyncCount() < threads * perThread,
+                    "Expected shared syncs but got " + log.getSyncCount());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * perThread, WriteAheadLog.replay(path, record -> { }));
+    }
+
+    @Test
+    @DisplayName("Should not make a lone batched writer wait for the batching interval")
+    void testBatchedLoneWriter() throws Exception {
+        Path path = directory.resolve("bookings.wal");
+        try (WriteAheadLog log = new WriteAheadLog(path, DurabilityPolicy.BATCHED, TimeUnit.SECONDS.toNanos(5))) {
+            long begin = System.nanoTime();
+            for (int i = 0; i < 20; i++) {
+                log.awaitDurable(log.appendRoomStatus("101", RoomStatus.OCCUPIED));
+            }
+            assertTrue(System.nanoTime() - begin < TimeUnit.SECONDS.toNanos(5),
+                    "A single writer waited for the batching interval");
+            assertEquals(20, log.getSyncCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should log booking service changes and reject appends after close")
+    void testBookingServiceLogging() throws Exception {
+        Path path = directory.resolve("bookings.wal");
+        Hotel hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        hotel.addRoom(new Room("101", RoomType.DOUBLE, 100.0));
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 75.0));
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+
+        WriteAheadLog log = new WriteAheadLog(path, DurabilityPolicy.PER_OPERATION);
+        BookingService bookingService = new BookingService(hotel, log);
+        bookingService.createBooking("B001", "John Doe", "101", checkIn, checkIn.plusDays(2));
+        bookingService.cancelBooking("B001");
+        assertTrue(bookingService.setRoomStatus("102", RoomStatus.MAINTENANCE));
+        log.close();
+
+        assertThrows(IllegalStateException.class,
+                () -> bookingService.createBooking("B002", "Jane Doe", "101", checkIn, checkIn.plusDays(2)));
+        assertNull(bookingService.getBookingById("B002"));
+        assertTrue(hotel.getRoomByNumber("101").isAvailable());
+
+        List<LogRecord.Type> types = new ArrayList<>();
+        WriteAheadLog.replay(path, record -> types.add(record.getType()));
+        assertEquals(List.of(LogRecord.Type.BOOKING_CREATED, LogRecord.Type.BOOKING_CANCELLED,
+                LogRecord.Type.ROOM_STATUS), types);
+    }
+}
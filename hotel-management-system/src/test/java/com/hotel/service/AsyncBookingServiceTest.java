@@ -0,0 +1,115 @@
+package com.hotel.service;
+
+import com.hotel.exception.RoomNotAvailableException;
+import com.hotel.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncBookingService Tests")
+class AsyncBookingServiceTest {
+
+    private Hotel hotel;
+    private ExecutorService executor;
+    private AsyncBookingService asyncService;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    @BeforeEach
+    void setUp() {
+        hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        for (int i = 0; i < 10; i++) {
+            hotel.addRoom(new Room("10" + i, RoomType.DOUBLE, 100.0));
+        }
+        executor = Executors.newFixedThreadPool(2);
+        asyncService = new AsyncBookingService(new HotelService(hotel), new BookingService(hotel), executor, 100);
+        checkIn = LocalDate.now().plusDays(1);
+        checkOut = checkIn.plusDays(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should pipeline create, get and cancel")
+    void testPipeline() throws Exception {
+        Boolean cancelled = asyncService.createBookingAsync("B001", "John Doe", "100", checkIn, checkOut)
+                .thenCompose(booking -> asyncService.getBookingByIdAsync(booking.getBookingId()))
+                .thenCompose(booking -> asyncService.cancelBookingAsync(booking.getBookingId()))
+                .get(10, TimeUnit.SECONDS);
+
+        assertTrue(cancelled);
+        assertEquals(10, asyncService.checkAvailabilityAsync(checkIn, checkOut).get(10, TimeUnit.SECONDS).size());
+        assertEquals(0, asyncService.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Should complete exceptionally with the checked exception")
+    void testCheckedExceptionMapping() throws Exception {
+        asyncService.createBookingAsync("B001", "John Doe", "100", checkIn, checkOut).get(10, TimeUnit.SECONDS);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> asyncService.createBookingAsync("B002", "Jane Doe", "100", checkIn, checkOut)
+                        .get(10, TimeUnit.SECONDS));
+        assertInstanceOf(RoomNotAvailableException.class, thrown.getCause());
+        assertFalse(asyncService.isRoomAvailableForDatesAsync("100", checkIn, checkOut).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond the pending limit")
+    void testBackPressure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService blocked = Executors.newSingleThreadExecutor();
+        blocked.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        AsyncBookingService limited = new AsyncBookingService(new HotelService(hotel), new BookingService(hotel),
+                blocked, 3);
+        try {
+            List<CompletableFuture<Booking>> accepted = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                accepted.add(limited.createBookingAsync("B" + i, "Guest " + i, "10" + i, checkIn, checkOut));
+            }
+            CompletableFuture<Booking> rejected = limited.createBookingAsync("B9", "Guest 9", "109", checkIn, checkOut);
+
+            assertEquals(3, limited.getPendingCount());
+            ExecutionException thrown = assertThrows(ExecutionException.class, rejected::get);
+            assertInstanceOf(RejectedExecutionException.class, thrown.getCause());
+
+            release.countDown();
+            CompletableFuture.allOf(accepted.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+            assertEquals(0, limited.getPendingCount());
+        } finally {
+            blocked.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid construction")
+    void testInvalidConstruction() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AsyncBookingService(null, new BookingService(hotel), executor, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AsyncBookingService(new HotelService(hotel), new BookingService(hotel), executor, 0));
+    }
+}
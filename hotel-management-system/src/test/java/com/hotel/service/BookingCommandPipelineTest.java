@@ -0,0 +1,165 @@
+package com.hotel.service;
+
+import com.hotel.exception.RoomNotAvailableException;
+import com.hotel.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookingCommandPipeline Tests")
+class BookingCommandPipelineTest {
+
+    private static final int ROOMS = 3000;
+
+    private Hotel hotel;
+    private BookingService bookingService;
+    private BookingCommandPipeline pipeline;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    @BeforeEach
+    void setUp() {
+        hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        for (int i = 0; i < ROOMS; i++) {
+            hotel.addRoom(new Room("R" + i, RoomType.DOUBLE, 100.0));
+        }
+        bookingService = new BookingService(hotel);
+        pipeline = new BookingCommandPipeline(bookingService, 8);
+        checkIn = LocalDate.now().plusDays(1);
+        checkOut = checkIn.plusDays(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.close();
+    }
+
+    @Test
+    @DisplayName("Should apply commands and publish them before completing")
+    void testCreateCancelAndSnapshot() throws Exception {
+        Booking booking = pipeline.createBooking("B001", "John Doe", "R0", checkIn, checkOut)
+                .get(10, TimeUnit.SECONDS);
+        BookingSnapshot afterCreate = pipeline.getSnapshot();
+        assertEquals(booking, afterCreate.getBookingById("B001"));
+        assertEquals(1, afterCreate.getActiveBookings().size());
+
+        assertTrue(pipeline.cancelBooking("B001").get(10, TimeUnit.SECONDS));
+        BookingSnapshot afterCancel = pipeline.getSnapshot();
+        assertEquals(BookingStatus.CANCELLED, afterCancel.getBookingById("B001").getStatus());
+        assertEquals(BookingStatus.CONFIRMED, afterCreate.getBookingById("B001").getStatus());
+        assertTrue(afterCancel.getSequence() > afterCreate.getSequence());
+        assertFalse(pipeline.cancelBooking("B001").get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should start from the bookings the service already holds")
+    void testPrePopulatedService() throws Exception {
+        pipeline.close();
+        bookingService.createBooking("B1", "John Doe", "R0", checkIn, checkOut);
+        bookingService.createBooking("B2", "Jane Roe", "R1", checkIn, checkOut);
+        pipeline = new BookingCommandPipeline(bookingService, 8);
+
+        BookingSnapshot seeded = pipeline.getSnapshot();
+        assertEquals(2, seeded.getTotalBookings());
+        assertEquals("R1", seeded.getBookingById("B2").getRoom().getRoomNumber());
+
+        assertTrue(pipeline.cancelBooking(" B1 ").get(10, TimeUnit.SECONDS));
+        pipeline.createBooking("B3", "John Doe", "R2", checkIn, checkOut).get(10, TimeUnit.SECONDS);
+        BookingSnapshot snapshot = pipeline.getSnapshot();
+        assertEquals(bookingService.getTotalBookings(), snapshot.getTotalBookings());
+        assertEquals(BookingStatus.CANCELLED, snapshot.getBookingById("B1").getStatus());
+        assertEquals(BookingStatus.CONFIRMED, seeded.getBookingById("B1").getStatus());
+        assertEquals(2, snapshot.getActiveBookings().size());
+    }
+
+    @Test
+    @DisplayName("Should complete exceptionally with the service's exception")
+    void testFailures() throws Exception {
+        pipeline.setRoomStatus(hotel.getRoomByNumber("R1"), RoomStatus.MAINTENANCE).get(10, TimeUnit.SECONDS);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> pipeline.createBooking("B001", "John Doe", "R1", checkIn, checkOut).get(10, TimeUnit.SECONDS));
+        assertInstanceOf(RoomNotAvailableException.class, thrown.getCause());
+        assertEquals(0, pipeline.getSnapshot().getTotalBookings());
+        thrown = assertThrows(ExecutionException.class, () -> pipeline.setRoomStatus(
+                new Room("X1", RoomType.SINGLE, 50.0), RoomStatus.MAINTENANCE).get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
+    }
+
+    @Test
+    @DisplayName("Should keep applying commands after one throws an Error")
+    void testErrorKeepsWriterRunning() throws Exception {
+        pipeline.close();
+        BookingService failing = new BookingService(hotel) {
+            @Override
+            public boolean cancelBooking(String bookingId) {
+                throw new StackOverflowError("cancel");
+            }
+        };
+        pipeline = new BookingCommandPipeline(failing, 8);
+
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> pipeline.cancelBooking("B001").get(10, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, thrown.getCause());
+        assertEquals("B001", pipeline.createBooking("B001", "John Doe", "R0", checkIn, checkOut)
+                .get(10, TimeUnit.SECONDS).getBookingId());
+    }
+
+    @Test
+    @DisplayName("Should apply every command from many producers through a small ring")
+    void testConcurrentProducers() throws Exception {
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<CompletableFuture<Booking>>>> submitted = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                submitted.add(producers.submit(() -> {
+                    List<CompletableFuture<Booking>> futures = new ArrayList<>();
+                    for (int i = thread; i < ROOMS; i += 4) {
+                        futures.add(pipeline.createBooking("B" + i, "Guest " + i, "R" + i, checkIn, checkOut));
+                    }
+                    return futures;
+                }));
+            }
+            for (Future<List<CompletableFuture<Booking>>> future : submitted) {
+                for (CompletableFuture<Booking> booking : future.get(30, TimeUnit.SECONDS)) {
+                    assertNotNull(booking.get(30, TimeUnit.SECONDS));
+                }
+            }
+        } finally {
+            producers.shutdownNow();
+        }
+
+        BookingSnapshot snapshot = pipeline.getSnapshot();
+        assertEquals(ROOMS, snapshot.getTotalBookings());
+        assertEquals(ROOMS, bookingService.getTotalBookings());
+        for (int i = 0; i < ROOMS; i++) {
+            assertEquals("R" + i, snapshot.getBookingById("B" + i).getRoom().getRoomNumber());
+        }
+        assertEquals(0, hotel.getAvailableRoomCount());
+    }
+
+    @Test
+    @DisplayName("Should reject commands after close")
+    void testClose() {
+        pipeline.close();
+        ExecutionException thrown = assertThrows(ExecutionException.class,
+                () -> pipeline.cancelBooking("B001").get(10, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, thrown.getCause());
+        assertThrows(IllegalArgumentException.class, () -> new BookingCommandPipeline(bookingService, 12));
+    }
+}
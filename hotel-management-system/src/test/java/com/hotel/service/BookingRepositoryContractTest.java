@@ -0,0 +1,207 @@
+package com.hotel.service;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conformance and performance suite every {@link BookingRepository} engine
+ * must pass. An engine's test class extends this and supplies the engine.
+ */
+abstract class BookingRepositoryContractTest {
+
+    private static final int PERFORMANCE_BOOKINGS = 50_000;
+
+    BookingRepository repository;
+    Hotel hotel;
+    Room room;
+    LocalDate checkInDate;
+    LocalDate checkOutDate;
+
+    /**
+     * Creates an empty engine for one test.
+     */
+    protected abstract BookingRepository createRepository(Hotel hotel) throws IOException;
+
+    @BeforeEach
+    void setUpRepository() throws IOException {
+        hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        for (int i = 0; i < 100; i++) {
+            hotel.addRoom(new Room(String.valueOf(100 + i), RoomType.values()[i % 4], 80.0 + i));
+        }
+        room = hotel.getRoomByNumber("101");
+        repository = createRepository(hotel);
+        checkInDate = LocalDate.now().plusDays(1);
+        checkOutDate = checkInDate.plusDays(3);
+    }
+
+    @AfterEach
+    void closeRepository() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Contract: should store and look up bookings by trimmed ID")
+    void testContractAddAndGet() {
+        repository.add(new Booking("B001", "John Doe", room, checkInDate, checkOutDate, 299.99,
+                BookingStatus.CONFIRMED));
+
+        assertSameBooking(repository.getAllBookings().get(0), repository.getBookingById(" B001 "));
+        Booking stored = repository.getBookingById("B001");
+        assertEquals("John Doe", stored.getGuestName());
+        assertEquals("101", stored.getRoom().getRoomNumber());
+        assertEquals(checkInDate, stored.getCheckInDate());
+        assertEquals(checkOutDate, stored.getCheckOutDate());
+        assertEquals(299.99, stored.getTotalPrice(), 1e-9);
+        assertEquals(BookingStatus.CONFIRMED, stored.getStatus());
+        assertTrue(repository.containsBookingId("B001"));
+        assertFalse(repository.containsBookingId("B002"));
+        assertNull(repository.getBookingById("B002"));
+        assertEquals(1, repository.getTotalBookings());
+    }
+
+    @Test
+    @DisplayName("Contract: should reject duplicates and invalid input")
+    void testContractInvalidInput() {
+        Booking booking = new Booking("B001", "John Doe", room, checkInDate, checkOutDate, 300.0,
+                BookingStatus.CONFIRMED);
+        repository.add(booking);
+
+        assertThrows(IllegalArgumentException.class, () -> repository.add(booking));
+        assertThrows(IllegalArgumentException.class, () -> repository.add(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.getBookingById(" "));
+        assertThrows(IllegalArgumentException.class, () -> repository.cancelBooking(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.getBookingsByGuest(""));
+        assertThrows(IllegalArgumentException.class,
+                () -> repository.isRoomAvailableForDates(" ", checkInDate, checkOutDate));
+        assertEquals(1, repository.getTotalBookings());
+    }
+
+    @Test
+    @DisplayName("Contract: should cancel once and free the room")
+    void testContractCancel() {
+        repository.add(new Booking("B001", "John Doe", room, checkInDate, checkOutDate, 300.0,
+                BookingStatus.CONFIRMED));
+        assertFalse(repository.isRoomAvailableForDates("101", checkInDate, checkOutDate));
+
+        assertTrue(repository.cancelBooking(" B001"));
+        assertFalse(repository.cancelBooking("B001"));
+        assertFalse(repository.cancelBooking("B404"));
+        assertEquals(BookingStatus.CANCELLED, repository.getBookingById("B001").getStatus());
+        assertTrue(repository.getActiveBookings().isEmpty());
+        assertTrue(repository.isRoomAvailableForDates("101", checkInDate, checkOutDate));
+    }
+
+    @Test
+    @DisplayName("Contract: should check availability with inclusive boundaries")
+    void testContractAvailability() {
+        repository.add(new Booking("B001", "John Doe", room, checkInDate, checkOutDate, 300.0,
+                BookingStatus.CONFIRMED));
+        repository.add(Booking.restore("B002", "John Doe", hotel.getRoomByNumber("102"), checkInDate,
+                checkOutDate, 300.0, BookingStatus.COMPLETED));
+
+        assertFalse(repository.isRoomAvailableForDates("101", checkOutDate, checkOutDate.plusDays(1)));
+        assertFalse(repository.isRoomAvailableForDates("101", checkInDate.minusDays(2), checkInDate));
+        assertTrue(repository.isRoomAvailableForDates("101", checkOutDate.plusDays(1), checkOutDate.plusDays(2)));
+        assertTrue(repository.isRoomAvailableForDates("102", checkInDate, checkOutDate));
+        assertTrue(repository.isRoomAvailableForDates("999", checkInDate, checkOutDate));
+    }
+
+    @Test
+    @DisplayName("Contract: should check each room against its own bookings only")
+    void testContractAvailabilityPerRoom() {
+        for (int i = 0; i < 200; i++) {
+            LocalDate checkIn = checkInDate.plusDays(i / 40 * 5L);
+            repository.add(new Booking("B" + i, "Guest " + i, hotel.getRoomByNumber(String.valueOf(100 + i % 40)),
+                    checkIn, checkIn.plusDays(2), 100.0, BookingStatus.CONFIRMED));
+        }
+        for (int i = 0; i < 200; i += 7) {
+            repository.cancelBooking("B" + i);
+        }
+
+        List<Booking> all = repository.getAllBookings();
+        for (int room = 95; room < 145; room++) {
+            for (int day = -3; day < 30; day += 2) {
+                String number = String.valueOf(room);
+                LocalDate from = checkInDate.plusDays(day);
+                LocalDate to = from.plusDays(1);
+                boolean expected = all.stream().noneMatch(b -> b.getRoom().getRoomNumber().equals(number)
+                        && b.getStatus() == BookingStatus.CONFIRMED
+                        && !to.isBefore(b.getCheckInDate()) && !from.isAfter(b.getCheckOutDate()));
+                assertEquals(expected, repository.isRoomAvailableForDates(number, from, to),
+                        "Mismatch for room " + number + " " + from);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Contract: should keep insertion order in a live view and match guests ignoring case")
+    void testContractOrderAndGuests() {
+        String[] guests = {"John Doe", "Jane Roe", "JOHN DOE", "Jim Poe"};
+        List<Booking> view = repository.getAllBookings();
+        for (int i = 0; i < guests.length; i++) {
+            repository.add(new Booking("B00" + i, guests[i], hotel.getRoomByNumber(String.valueOf(100 + i)),
+                    checkInDate, checkOutDate, 100.0, BookingStatus.CONFIRMED));
+        }
+        repository.cancelBooking("B001");
+
+        assertEquals(List.of("B000", "B001", "B002", "B003"), ids(repository.getAllBookings()));
+        assertEquals(List.of("B000", "B001", "B002", "B003"), ids(view));
+        assertEquals(BookingStatus.CANCELLED, view.get(1).getStatus());
+        assertEquals(List.of("B000", "B002", "B003"), ids(repository.getActiveBookings()));
+        assertEquals(List.of("B000", "B002"), ids(repository.getBookingsByGuest(" john doe ")));
+        assertTrue(repository.getBookingsByGuest("Nobody").isEmpty());
+        assertEquals(List.of(0, 2), repository.getGuestPositions(" john doe "));
+        assertEquals(List.of(1, 3, 0, 2), repository.getGuestPositionsByPrefix("J"));
+        assertTrue(repository.getGuestPositionsByPrefix("x").isEmpty());
+        assertEquals(3, repository.getActiveBookingCount());
+        assertThrows(UnsupportedOperationException.class, () -> repository.getAllBookings().clear());
+    }
+
+    @Test
+    @DisplayName("Performance: should handle tens of thousands of bookings within budget")
+    void testPerformanceBudget() {
+        // Generous for a single slow core; catches accidental quadratic behaviour, not regressions of a few percent
+        assertTimeout(Duration.ofSeconds(20), () -> {
+            List<Room> rooms = hotel.getAllRooms();
+            for (int i = 0; i < PERFORMANCE_BOOKINGS; i++) {
+                LocalDate checkIn = checkInDate.plusDays(i / rooms.size() * 2L);
+                repository.add(new Booking("P" + i, "Guest " + i % 1_000, rooms.get(i % rooms.size()),
+                        checkIn, checkIn.plusDays(1), 100.0, BookingStatus.CONFIRMED));
+            }
+            for (int i = 0; i < PERFORMANCE_BOOKINGS; i++) {
+                assertTrue(repository.containsBookingId("P" + i));
+            }
+            for (int i = 0; i < 200; i++) {
+                assertEquals(PERFORMANCE_BOOKINGS / 1_000, repository.getBookingsByGuest("guest " + i).size());
+                repository.isRoomAvailableForDates(rooms.get(i % rooms.size()).getRoomNumber(),
+                        checkInDate.plusDays(i), checkInDate.plusDays(i + 1));
+            }
+            assertEquals(PERFORMANCE_BOOKINGS, repository.getActiveBookings().size());
+        });
+    }
+
+    private static void assertSameBooking(Booking expected, Booking actual) {
+        assertEquals(expected.getBookingId(), actual.getBookingId());
+        assertEquals(expected.getGuestName(), actual.getGuestName());
+        assertEquals(expected.getStatus(), actual.getStatus());
+    }
+
+    static List<String> ids(List<Booking> bookings) {
+        List<String> ids = new ArrayList<>();
+        for (Booking booking : bookings) {
+            ids.add(booking.getBookingId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,131 @@
+package com.hotel.service;
+
+import com.hotel.exception.InvalidBookingException;
+import com.hotel.exception.RoomNotAvailableException;
+import com.hotel.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BookingService Concurrency Tests")
+class BookingServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ROOMS = 20;
+
+    private Hotel hotel;
+    private BookingService bookingService;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        for (int i = 0; i < ROOMS; i++) {
+            hotel.addRoom(new Room("R" + i, RoomType.DOUBLE, 100.0));
+        }
+        bookingService = new BookingService(hotel);
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("Should never double-book a room under concurrent create and cancel")
+    void testNoDoubleBookings() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        runConcurrently(thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < 2_000; i++) {
+                String roomNumber = "R" + random.nextInt(ROOMS);
+                LocalDate checkIn = today.plusDays(1 + random.nextInt(60));
+                String bookingId = "T" + thread + "-" + i;
+                try {
+                    bookingService.createBooking(bookingId, "Guest " + thread, roomNumber,
+                            checkIn, checkIn.plusDays(1 + random.nextInt(4)));
+                    created.incrementAndGet();
+                    if (random.nextBoolean()) {
+                        bookingService.cancelBooking(bookingId);
+                    }
+                } catch (RoomNotAvailableException e) {
+                    // Lost the race for this room, expected
+                }
+            }
+        });
+
+        assertTrue(created.get() > 0);
+        assertEquals(created.get(), bookingService.getTotalBookings());
+        Map<String, List<Booking>> confirmedByRoom = new HashMap<>();
+        for (Booking booking : bookingService.getActiveBookings()) {
+            confirmedByRoom.computeIfAbsent(booking.getRoom().getRoomNumber(), k -> new ArrayList<>()).add(booking);
+        }
+        for (Room room : hotel.getAllRooms()) {
+            List<Booking> confirmed = confirmedByRoom.getOrDefault(room.getRoomNumber(), List.of());
+            assertTrue(confirmed.size() <= 1, "Room " + room.getRoomNumber() + " double-booked: " + confirmed);
+            assertEquals(confirmed.isEmpty() ? RoomStatus.AVAILABLE : RoomStatus.OCCUPIED, room.getStatus());
+            for (Booking booking : confirmed) {
+                assertFalse(bookingService.isRoomAvailableForDates(room.getRoomNumber(),
+                        booking.getCheckInDate(), booking.getCheckOutDate()));
+            }
+        }
+        assertDoesNotThrow(hotel::verifyAggregates);
+    }
+
+    @Test
+    @DisplayName("Should accept a contended booking ID exactly once")
+    void testDuplicateIdRace() throws Exception {
+        AtomicInteger successes = new AtomicInteger();
+        runConcurrently(thread -> {
+            try {
+                bookingService.createBooking("SAME", "Guest " + thread, "R" + thread,
+                        today.plusDays(1), today.plusDays(3));
+                successes.incrementAndGet();
+            } catch (InvalidBookingException e) {
+                // Another thread took the ID first
+            }
+        });
+
+        assertEquals(1, successes.get());
+        assertEquals(1, bookingService.getTotalBookings());
+        assertEquals(ROOMS - 1, hotel.getAvailableRoomCount());
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
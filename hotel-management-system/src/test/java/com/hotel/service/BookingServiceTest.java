@@ -1,14 +1,20 @@
 package com.hotel.service;
 
+import com.hotel.exception.HotelException;
 import com.hotel.exception.InvalidBookingException;
 import com.hotel.exception.RoomNotAvailableException;
 import com.hotel.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -92,6 +98,20 @@ class BookingServiceTest {
                         date3, date4));
     }
 
+    @Test
+    @DisplayName("Should reject duplicate booking ID")
+    void testCreateBookingDuplicateId() throws Exception {
+        Room room2 = new Room("102", RoomType.SINGLE, 75.0);
+        hotel.addRoom(room2);
+        bookingService.createBooking("B001", "John Doe", "101", checkInDate, checkOutDate);
+
+        assertThrows(InvalidBookingException.class,
+                () -> bookingService.createBooking(" B001 ", "Jane Smith", "102",
+                        checkInDate, checkOutDate));
+        assertEquals(1, bookingService.getTotalBookings());
+        assertEquals(RoomStatus.AVAILABLE, room2.getStatus());
+    }
+
     @Test
     @DisplayName("Should throw exception for null booking ID")
     void testCreateBookingNullId() {
@@ -116,6 +136,19 @@ class BookingServiceTest {
                         null, checkOutDate));
     }
 
+    @Test
+    @DisplayName("Should reject check-out not after check-in like a batch does")
+    void testCreateBookingCheckOutBeforeCheckIn() {
+        InvalidBookingException single = assertThrows(InvalidBookingException.class,
+                () -> bookingService.createBooking("B001", "John Doe", "101", checkInDate, checkInDate));
+        HotelException batched = bookingService.createBookings(List.of(
+                new BookingRequest("B001", "John Doe", "101", checkInDate, checkInDate))).get(0).getFailure();
+
+        assertInstanceOf(InvalidBookingException.class, batched);
+        assertEquals(single.getMessage(), batched.getMessage());
+        assertEquals(RoomStatus.AVAILABLE, room.getStatus());
+    }
+
     @Test
     @DisplayName("Should check room availability correctly")
     void testIsRoomAvailableForDates() throws Exception {
@@ -150,6 +183,31 @@ class BookingServiceTest {
         assertEquals(RoomStatus.AVAILABLE, room.getStatus());
     }
 
+    @Test
+    @DisplayName("Should not overwrite maintenance when cancelling")
+    void testCancelKeepsMaintenance() throws Exception {
+        bookingService.createBooking("B001", "John Doe", "101",
+                checkInDate, checkOutDate);
+        room.setStatus(RoomStatus.MAINTENANCE);
+
+        assertTrue(bookingService.cancelBooking("B001"));
+        assertEquals(RoomStatus.MAINTENANCE, room.getStatus());
+        assertTrue(bookingService.isRoomAvailableForDates("101", checkInDate, checkOutDate));
+    }
+
+    @Test
+    @DisplayName("Should mark booking cancelled and release its dates")
+    void testCancelBookingReleasesDates() throws Exception {
+        bookingService.createBooking("B001", "John Doe", "101",
+                checkInDate, checkOutDate);
+        assertTrue(bookingService.cancelBooking("B001"));
+
+        assertEquals(BookingStatus.CANCELLED, bookingService.getBookingById("B001").getStatus());
+        assertTrue(bookingService.isRoomAvailableForDates("101", checkInDate, checkOutDate));
+        assertTrue(bookingService.getActiveBookings().isEmpty());
+        assertFalse(bookingService.cancelBooking("B001"));
+    }
+
     @Test
     @DisplayName("Should return false when cancelling non-existent booking")
     void testCancelNonExistentBooking() {
@@ -191,6 +249,38 @@ class BookingServiceTest {
         assertEquals(2, guestBookings.size());
     }
 
+    @Test
+    @DisplayName("Should get bookings by guest ignoring case and whitespace")
+    void testGetBookingsByGuestIgnoresCase() throws Exception {
+        bookingService.createBooking("B001", "John Doe", "101",
+                checkInDate, checkOutDate);
+        bookingService.cancelBooking("B001");
+
+        List<Booking> guestBookings = bookingService.getBookingsByGuest("  JOHN doe ");
+        assertEquals(1, guestBookings.size());
+        assertEquals(BookingStatus.CANCELLED, guestBookings.get(0).getStatus());
+        assertTrue(bookingService.getBookingsByGuest("John").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should get bookings by guest name prefix")
+    void testGetBookingsByGuestPrefix() throws Exception {
+        Room room2 = new Room("102", RoomType.SINGLE, 75.0);
+        Room room3 = new Room("103", RoomType.SINGLE, 75.0);
+        hotel.addRoom(room2);
+        hotel.addRoom(room3);
+        bookingService.createBooking("B001", "John Doe", "101", checkInDate, checkOutDate);
+        bookingService.createBooking("B002", "Johanna Smith", "102", checkInDate, checkOutDate);
+        bookingService.createBooking("B003", "Jane Roe", "103", checkInDate, checkOutDate);
+
+        List<Booking> matches = bookingService.getBookingsByGuestPrefix("joh");
+        assertEquals(2, matches.size());
+        assertEquals("B002", matches.get(0).getBookingId());
+        assertEquals("B001", matches.get(1).getBookingId());
+        assertThrows(IllegalArgumentException.class,
+                () -> bookingService.getBookingsByGuestPrefix(" "));
+    }
+
     @Test
     @DisplayName("Should get active bookings")
     void testGetActiveBookings() throws Exception {
@@ -217,4 +307,366 @@ class BookingServiceTest {
         int count = bookingService.getTotalBookings();
         assertEquals(1, count);
     }
+
+    @Test
+    @DisplayName("Should report per-item results for a batch")
+    void testCreateBookingsPerItem() throws Exception {
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 80.0));
+        hotel.addRoom(new Room("103", RoomType.SINGLE, 80.0));
+        bookingService.createBooking("B000", "Existing Guest", "103", checkInDate, checkOutDate);
+
+        List<BookingResult> results = bookingService.createBookings(List.of(
+                new BookingRequest("B002", "Late Guest", "101", checkInDate.plusDays(5), checkOutDate.plusDays(5)),
+                new BookingRequest("B001", "Early Guest", "101", checkInDate, checkOutDate),
+                new BookingRequest("B003", "Jane Doe", "102", checkInDate, checkOutDate),
+                new BookingRequest("B000", "Duplicate", "102", checkInDate, checkOutDate),
+                new BookingRequest("B004", "Jane Doe", "103", checkInDate, checkOutDate),
+                new BookingRequest("B005", "Jane Doe", "999", checkInDate, checkOutDate),
+                new BookingRequest("B006", "Jane Doe", "102", checkOutDate, checkInDate)));
+
+        assertEquals(7, results.size());
+        assertInstanceOf(RoomNotAvailableException.class, results.get(0).getFailure());
+        assertEquals("B001", results.get(1).getBooking().getBookingId());
+        assertTrue(results.get(2).isSuccess());
+        assertInstanceOf(InvalidBookingException.class, results.get(3).getFailure());
+        assertInstanceOf(RoomNotAvailableException.class, results.get(4).getFailure());
+        assertInstanceOf(InvalidBookingException.class, results.get(5).getFailure());
+        assertInstanceOf(InvalidBookingException.class, results.get(6).getFailure());
+        assertEquals(3, bookingService.getTotalBookings());
+        assertEquals(RoomStatus.OCCUPIED, hotel.getRoomByNumber("102").getStatus());
+        assertFalse(bookingService.isRoomAvailableForDates("101", checkInDate, checkOutDate));
+    }
+
+    @Test
+    @DisplayName("Should book nothing when any item of an atomic batch fails")
+    void testCreateBookingsAtomically() throws Exception {
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 80.0));
+        List<BookingRequest> batch = List.of(
+                new BookingRequest("B001", "John Doe", "101", checkInDate, checkOutDate),
+                new BookingRequest("B002", "Jane Doe", "102", checkInDate, checkOutDate));
+        hotel.getRoomByNumber("102").setStatus(RoomStatus.MAINTENANCE);
+
+        assertThrows(RoomNotAvailableException.class, () -> bookingService.createBookingsAtomically(batch));
+        assertEquals(0, bookingService.getTotalBookings());
+        assertEquals(RoomStatus.AVAILABLE, room.getStatus());
+        assertTrue(bookingService.isRoomAvailableForDates("101", checkInDate, checkOutDate));
+
+        hotel.getRoomByNumber("102").setStatus(RoomStatus.AVAILABLE);
+        List<Booking> created = bookingService.createBookingsAtomically(batch);
+        assertEquals(List.of("B001", "B002"), List.of(created.get(0).getBookingId(), created.get(1).getBookingId()));
+        assertEquals(2, bookingService.getBookingsByGuestPrefix("j").size());
+        assertEquals(0, hotel.getAvailableRoomCount());
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate IDs within an atomic batch")
+    void testCreateBookingsAtomicallyDuplicateIds() {
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 80.0));
+        assertThrows(InvalidBookingException.class, () -> bookingService.createBookingsAtomically(List.of(
+                new BookingRequest("B001", "John Doe", "101", checkInDate, checkOutDate),
+                new BookingRequest("B001", "Jane Doe", "102", checkInDate, checkOutDate))));
+        assertEquals(2, hotel.getAvailableRoomCount());
+        assertThrows(IllegalArgumentException.class, () -> bookingService.createBookings(null));
+    }
+
+    @Test
+    @DisplayName("Should page through bookings with cursors while bookings are added")
+    void testBookingPages() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            hotel.addRoom(new Room("20" + i, RoomType.SINGLE, 80.0));
+            bookingService.createBooking("B00" + i, i % 2 == 0 ? "John Doe" : "Jane Doe", "20" + i,
+                    checkInDate, checkOutDate);
+        }
+        bookingService.cancelBooking("B001");
+
+        BookingPage first = bookingService.getAllBookings(null, 2);
+        assertEquals(List.of("B000", "B001"), ids(first.getBookings()));
+        assertTrue(first.hasMore());
+        bookingService.createBooking("B005", "john doe", "101", checkInDate, checkOutDate);
+        BookingPage second = bookingService.getAllBookings(first.getNextCursor(), 2);
+        assertEquals(List.of("B002", "B003"), ids(second.getBookings()));
+        BookingPage last = bookingService.getAllBookings(second.getNextCursor(), 5);
+        assertEquals(List.of("B004", "B005"), ids(last.getBookings()));
+        assertNull(last.getNextCursor());
+
+        BookingPage active = bookingService.getActiveBookings(null, 2);
+        assertEquals(List.of("B000", "B002"), ids(active.getBookings()));
+        assertEquals(List.of("B003", "B004"),
+                ids(bookingService.getActiveBookings(active.getNextCursor(), 2).getBookings()));
+
+        BookingPage guest = bookingService.getBookingsByGuest("JOHN DOE", null, 2);
+        assertEquals(List.of("B000", "B002"), ids(guest.getBookings()));
+        guest = bookingService.getBookingsByGuest("john doe", guest.getNextCursor(), 2);
+        assertEquals(List.of("B004", "B005"), ids(guest.getBookings()));
+        assertFalse(guest.hasMore());
+        assertTrue(bookingService.getBookingsByGuest("Nobody", null, 2).getBookings().isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> bookingService.getAllBookings("not a cursor!", 2));
+        assertThrows(IllegalArgumentException.class, () -> bookingService.getAllBookings("zzzz", 2));
+        assertThrows(IllegalArgumentException.class, () -> bookingService.getActiveBookings(null, 0));
+    }
+
+    @Test
+    @DisplayName("Should stream bookings lazily in booking order")
+    void testBookingStreams() throws Exception {
+        for (int i = 0; i < 2500; i++) {
+            String roomNumber = "R" + i;
+            hotel.addRoom(new Room(roomNumber, RoomType.SINGLE, 80.0));
+            bookingService.createBooking("B" + i, "Guest " + i % 3, roomNumber, checkInDate, checkOutDate);
+        }
+        bookingService.cancelBooking("B0");
+
+        assertEquals(ids(bookingService.getAllBookings()), ids(bookingService.streamAllBookings()
+                .collect(Collectors.toList())));
+        assertEquals(2499, bookingService.streamActiveBookings().count());
+        assertEquals(2499, bookingService.getActiveBookingCount());
+        assertEquals(ids(bookingService.getBookingsByGuest("guest 1")), ids(bookingService
+                .streamBookingsByGuest("guest 1").collect(Collectors.toList())));
+        assertEquals(BookingStatus.CANCELLED,
+                bookingService.streamBookingsByGuest("Guest 0").findFirst().get().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should leave rooms bookable after importing or restoring finished stays")
+    void testFinishedStaysKeepRoomsAvailable() throws Exception {
+        LocalDate past = LocalDate.now().minusDays(40);
+        Room restoredRoom = new Room("102", RoomType.SINGLE, 80.0);
+        hotel.addRoom(restoredRoom);
+        assertNull(bookingService.importBookings(List.of(Booking.restore("H001", "John Doe", room, past,
+                past.plusDays(2), 160.0, BookingStatus.CONFIRMED)))[0]);
+        assertEquals(1, bookingService.restoreBookings(List.of(Booking.restore("H002", "Jane Doe", restoredRoom,
+                past, past.plusDays(2), 160.0, BookingStatus.CONFIRMED))));
+
+        assertEquals(RoomStatus.AVAILABLE, room.getStatus());
+        assertEquals(RoomStatus.AVAILABLE, restoredRoom.getStatus());
+        bookingService.createBooking("B001", "John Doe", "101", checkInDate, checkOutDate);
+        bookingService.createBooking("B002", "Jane Doe", "102", checkInDate, checkOutDate);
+        assertEquals(RoomStatus.OCCUPIED, room.getStatus());
+        assertEquals(4, bookingService.getActiveBookingCount());
+    }
+
+    @Test
+    @DisplayName("Should archive finished bookings and keep them reachable")
+    void testCompact() throws Exception {
+        LocalDate past = LocalDate.now().minusDays(40);
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 80.0));
+        Room single = new Room("103", RoomType.SINGLE, 80.0);
+        hotel.addRoom(single);
+        bookingService.importBookings(List.of(
+                Booking.restore("H001", "John Doe", single, past, past.plusDays(2), 160.0, BookingStatus.COMPLETED),
+                Booking.restore("H002", "Jane Doe", single, past.plusDays(30), past.plusDays(31), 80.0,
+                        BookingStatus.CONFIRMED)));
+        bookingService.createBooking("B001", "John Doe", "101", checkInDate, checkOutDate);
+        bookingService.createBooking("B002", "Jane Doe", "102", checkInDate, checkOutDate);
+        hotel.addRoom(new Room("104", RoomType.SINGLE, 80.0));
+        bookingService.createBooking("B003", "John Doe", "104", checkOutDate.plusDays(1), checkOutDate.plusDays(2));
+        bookingService.cancelBooking("B002");
+        BookingPage first = bookingService.getAllBookings(null, 3);
+
+        assertThrows(IllegalArgumentException.class, () -> bookingService.compact(LocalDate.now().plusDays(1)));
+        assertEquals(2, new BookingCompactor(bookingService, 30).compactNow());
+        assertEquals(1, bookingService.compact(LocalDate.now()));
+        assertEquals(0, bookingService.compact(LocalDate.now()));
+
+        assertEquals(2, bookingService.getWorkingSetSize());
+        assertEquals(3, bookingService.getArchivedBookingCount());
+        assertEquals(5, bookingService.getTotalBookings());
+        assertEquals(5, bookingService.getAllBookings().size());
+        assertEquals(5, bookingService.captureState().getBookings().size());
+        assertEquals(List.of("B001", "B003"), ids(bookingService.getBookingsByGuest("john doe")));
+        assertEquals(List.of("H001"), ids(bookingService.getArchivedBookingsByGuest("JOHN DOE")));
+        assertEquals(BookingStatus.CANCELLED, bookingService.getBookingById("B002").getStatus());
+        assertEquals(160.0, bookingService.getBookingById("H001").getTotalPrice());
+        assertFalse(bookingService.cancelBooking("H002"));
+        assertThrows(InvalidBookingException.class, () -> bookingService.createBooking("B002", "Jane Doe", "102",
+                checkOutDate.plusDays(1), checkOutDate.plusDays(2)));
+
+        BookingPage rest = bookingService.getAllBookings(first.getNextCursor(), 3);
+        assertEquals(List.of("B003"), ids(rest.getBookings()));
+        assertNull(rest.getNextCursor());
+        assertEquals(List.of("B001", "B003"), ids(bookingService.getActiveBookings(null, 5).getBookings()));
+        bookingService.createBooking("B004", "John Doe", "102", checkOutDate.plusDays(1), checkOutDate.plusDays(2));
+        assertEquals(List.of("B003", "B004"),
+                ids(bookingService.getBookingsByGuest("John Doe", first.getNextCursor(), 5).getBookings()));
+        assertEquals(ids(bookingService.getAllBookings()), ids(bookingService.streamAllBookings()
+                .collect(Collectors.toList())));
+        assertEquals(List.of("H001", "B001", "B003", "B004"), ids(bookingService.streamBookingsByGuest("john doe")
+                .collect(Collectors.toList())));
+    }
+
+    @Test
+    @DisplayName("Should free the room of an archived confirmed stay")
+    void testCompactReleasesRooms() throws Exception {
+        LocalDate past = LocalDate.now().minusDays(40);
+        Room held = new Room("102", RoomType.SINGLE, 80.0);
+        hotel.addRoom(held);
+        bookingService.importBookings(List.of(
+                Booking.restore("H001", "John Doe", room, past, past.plusDays(2), 160.0, BookingStatus.CONFIRMED),
+                Booking.restore("H002", "Jane Doe", held, past, past.plusDays(2), 160.0, BookingStatus.CONFIRMED)));
+        bookingService.createBooking("B001", "Jane Doe", "102", checkInDate, checkOutDate);
+        // Both rooms were taken while their stays ran
+        room.setStatus(RoomStatus.OCCUPIED);
+
+        assertEquals(2, bookingService.compact(LocalDate.now()));
+        assertEquals(RoomStatus.AVAILABLE, room.getStatus());
+        assertEquals(RoomStatus.OCCUPIED, held.getStatus());
+        bookingService.createBooking("B002", "John Doe", "101", checkInDate, checkOutDate);
+    }
+
+    @Test
+    @DisplayName("Should keep every booking in exactly one tier when the archive fails")
+    void testCompactArchiveFailure() throws Exception {
+        LocalDate past = LocalDate.now().minusDays(40);
+        BookingRepository failing = new InMemoryBookingRepository() {
+            @Override
+            public void add(Booking booking) {
+                if (getTotalBookings() == 1) {
+                    throw new IllegalStateException("archive full");
+                }
+                super.add(booking);
+            }
+        };
+        BookingService service = new BookingService(hotel, null, failing);
+        List<Booking> history = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            history.add(Booking.restore("H00" + i, "John Doe", room, past, past.plusDays(2), 160.0,
+                    BookingStatus.COMPLETED));
+        }
+        service.importBookings(history);
+        service.createBooking("B001", "John Doe", "101", checkInDate, checkOutDate);
+
+        assertThrows(IllegalStateException.class, () -> service.compact(LocalDate.now()));
+        assertEquals(1, service.getArchivedBookingCount());
+        assertEquals(3, service.getWorkingSetSize());
+        assertEquals(4, service.getTotalBookings());
+        assertEquals(List.of("H000", "H001", "H002", "B001"), ids(service.getAllBookings()));
+        assertEquals(List.of("H001", "H002", "B001"), ids(service.getBookingsByGuest("john doe", null, 5)
+                .getBookings()));
+        assertTrue(service.cancelBooking("B001"));
+        assertEquals(BookingStatus.CANCELLED, service.getBookingById("B001").getStatus());
+    }
+
+    @Test
+    @DisplayName("Should keep the working set in a supplied engine")
+    void testWorkingSetEngine() throws Exception {
+        LocalDate past = LocalDate.now().minusDays(40);
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 80.0));
+        BookingService service = new BookingService(hotel, null, new InMemoryBookingRepository(),
+                CompactBookingStore::new);
+        service.importBookings(List.of(
+                Booking.restore("H001", "John Doe", room, past, past.plusDays(2), 160.0, BookingStatus.COMPLETED)));
+        service.createBooking("B001", "John Doe", "101", checkInDate, checkOutDate);
+        service.createBooking("B002", "Jane Doe", "102", checkInDate, checkOutDate);
+        assertTrue(service.cancelBooking("B002"));
+
+        assertEquals(2, service.compact(LocalDate.now()));
+        assertEquals(1, service.getWorkingSetSize());
+        assertEquals(List.of("H001", "B002", "B001"), ids(service.getAllBookings()));
+        assertEquals(BookingStatus.CANCELLED, service.getBookingById("B002").getStatus());
+        assertEquals(List.of("B001"), ids(service.getActiveBookings()));
+        assertEquals(List.of("H001", "B001"), ids(service.streamBookingsByGuest("john doe")
+                .collect(Collectors.toList())));
+        assertThrows(InvalidBookingException.class, () -> service.createBooking("B001", "Jane Doe", "102",
+                checkOutDate.plusDays(1), checkOutDate.plusDays(2)));
+        service.createBooking("B003", "Jane Doe", "102", checkInDate, checkOutDate);
+        assertEquals(List.of("B003"), ids(service.getBookingsByGuest("jane doe")));
+        assertEquals(List.of("B003", "B001"), ids(service.getBookingsByGuestPrefix("J")));
+        assertEquals(2, service.getActiveBookingCount());
+        assertEquals(List.of("B002", "B003"), ids(service.streamBookingsByGuest("jane doe")
+                .collect(Collectors.toList())));
+
+        assertThrows(IllegalArgumentException.class, () -> new BookingService(hotel, null,
+                new InMemoryBookingRepository(), null));
+        BookingRepository used = new InMemoryBookingRepository();
+        used.add(new Booking("X001", "John Doe", room, checkInDate, checkOutDate, 300.0, BookingStatus.CONFIRMED));
+        assertThrows(IllegalArgumentException.class, () -> new BookingService(hotel, null,
+                new InMemoryBookingRepository(), () -> used));
+    }
+
+    @Test
+    @DisplayName("Should archive into a pluggable engine that survives a restart")
+    void testDurableArchive(@TempDir Path directory) throws Exception {
+        LocalDate past = LocalDate.now().minusDays(40);
+        hotel.addRoom(new Room("102", RoomType.SINGLE, 80.0));
+        Path path = directory.resolve("archive.dat");
+        try (MappedBookingStore archive = new MappedBookingStore(path, hotel)) {
+            BookingService first = new BookingService(hotel, null, archive);
+            first.importBookings(List.of(Booking.restore("H001", "John Doe", hotel.getRoomByNumber("102"), past,
+                    past.plusDays(2), 160.0, BookingStatus.COMPLETED)));
+            first.createBooking("B001", "John Doe", "101", checkInDate, checkOutDate);
+            assertEquals(1, first.compact(LocalDate.now()));
+        }
+
+        try (MappedBookingStore archive = new MappedBookingStore(path, hotel)) {
+            BookingService restarted = new BookingService(hotel, null, archive);
+            assertEquals(0, restarted.restoreBookings(List.of(Booking.restore("H001", "John Doe",
+                    hotel.getRoomByNumber("102"), past, past.plusDays(2), 160.0, BookingStatus.COMPLETED))));
+            assertEquals(1, restarted.getArchivedBookingCount());
+            assertEquals(0, restarted.getWorkingSetSize());
+            assertEquals(160.0, restarted.getBookingById("H001").getTotalPrice());
+            assertEquals(List.of("H001"), ids(restarted.getArchivedBookingsByGuest("john doe")));
+            assertThrows(InvalidBookingException.class, () -> restarted.createBooking("H001", "Jane Doe", "102",
+                    checkInDate, checkOutDate));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BookingService(hotel, null, null));
+    }
+
+    @Test
+    @DisplayName("Should agree with a linear scan of the bookings, including past ranges")
+    void testAvailabilityMatchesLinearScan() throws Exception {
+        LocalDate today = LocalDate.now();
+        for (int i = 2; i < 5; i++) {
+            hotel.addRoom(new Room("10" + i, RoomType.DOUBLE, 100.0));
+        }
+        List<Booking> history = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            LocalDate checkIn = today.minusDays(40 - i * 2);
+            history.add(Booking.restore("H" + i, "Guest " + i, hotel.getRoomByNumber("10" + (1 + i % 4)), checkIn,
+                    checkIn.plusDays(3), 300.0, i % 3 == 0 ? BookingStatus.CANCELLED : BookingStatus.CONFIRMED));
+        }
+        bookingService.restoreBookings(history);
+        bookingService.compact(today.minusDays(30));
+        Random random = new Random(42);
+
+        for (int i = 0; i < 500; i++) {
+            Room target = hotel.getAllRooms().get(random.nextInt(4));
+            target.setStatus(RoomStatus.AVAILABLE);
+            LocalDate checkIn = today.plusDays(1 + random.nextInt(365));
+            LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(7));
+            try {
+                bookingService.createBooking("B" + i, "Guest " + i, target.getRoomNumber(), checkIn, checkOut);
+            } catch (RoomNotAvailableException e) {
+                // Overlapping request, rejected as expected
+            }
+            if (random.nextInt(4) == 0) {
+                bookingService.cancelBooking("B" + random.nextInt(i + 1));
+            }
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            String roomNumber = "10" + (1 + random.nextInt(4));
+            LocalDate checkIn = today.plusDays(random.nextInt(420) - 40);
+            LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(10));
+            assertEquals(linearScan(bookingService.getAllBookings(), roomNumber, checkIn, checkOut),
+                    bookingService.isRoomAvailableForDates(roomNumber, checkIn, checkOut),
+                    "Mismatch for room " + roomNumber + " " + checkIn + ".." + checkOut);
+        }
+    }
+
+    private static boolean linearScan(List<Booking> bookings, String roomNumber,
+                                      LocalDate checkIn, LocalDate checkOut) {
+        return bookings.stream()
+                .filter(b -> b.getRoom().getRoomNumber().equals(roomNumber))
+                .filter(b -> b.getStatus() == BookingStatus.CONFIRMED)
+                .noneMatch(b -> !checkOut.isBefore(b.getCheckInDate())
+                        && !checkIn.isAfter(b.getCheckOutDate()));
+    }
+
+    private static List<String> ids(List<Booking> bookings) {
+        List<String> ids = new ArrayList<>();
+        for (Booking booking : bookings) {
+            ids.add(booking.getBookingId());
+        }
+        return ids;
+    }
 }
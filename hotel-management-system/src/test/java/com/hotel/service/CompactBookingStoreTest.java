@@ -0,0 +1,131 @@
+package com.hotel.service;
+
+import com.hotel.exception.RoomNotAvailableException;
+import com.hotel.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompactBookingStore Tests")
+class CompactBookingStoreTest extends BookingRepositoryContractTest {
+
+    private CompactBookingStore store;
+    private Room room;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+
+    @BeforeEach
+    void setUp() {
+        store = new CompactBookingStore();
+        room = new Room("101", RoomType.DOUBLE, 100.0);
+        checkInDate = LocalDate.now().plusDays(1);
+        checkOutDate = checkInDate.plusDays(3);
+    }
+
+    @Override
+    protected BookingRepository createRepository(Hotel hotel) {
+        return new CompactBookingStore();
+    }
+
+    @Test
+    @DisplayName("Should round-trip booking fields")
+    void testRoundTrip() {
+        Booking booking = new Booking("B001", "John Doe", room, checkInDate, checkOutDate,
+                299.99, BookingStatus.CONFIRMED);
+        store.add(booking);
+
+        Booking stored = store.getBookingById(" B001 ");
+        assertEquals(booking, stored);
+        assertSame(room, stored.getRoom());
+        assertEquals(checkOutDate, stored.getCheckOutDate());
+        assertEquals(299.99, stored.getTotalPrice());
+        assertEquals(BookingStatus.CONFIRMED, stored.getStatus());
+        assertNull(store.getBookingById("B999"));
+    }
+
+    @Test
+    @DisplayName("Should restore past bookings")
+    void testPastBooking() {
+        LocalDate past = LocalDate.now().minusYears(3);
+        store.add(Booking.restore("B001", "John Doe", room, past, past.plusDays(2),
+                200.0, BookingStatus.COMPLETED));
+        assertEquals(past, store.getAllBookings().get(0).getCheckInDate());
+        assertTrue(store.getActiveBookings().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate booking IDs")
+    void testDuplicateId() {
+        store.add(new Booking("B001", "John Doe", room, checkInDate, checkOutDate,
+                300.0, BookingStatus.CONFIRMED));
+        assertThrows(IllegalArgumentException.class, () -> store.add(new Booking("B001", "Jane Roe", room,
+                checkInDate, checkOutDate, 300.0, BookingStatus.CONFIRMED)));
+        assertEquals(1, store.getTotalBookings());
+    }
+
+    @Test
+    @DisplayName("Should keep each guest name spelling while matching ignoring case")
+    void testGuestSpellings() {
+        Room room2 = new Room("102", RoomType.SINGLE, 75.0);
+        store.add(new Booking("B001", "John Doe", room, checkInDate, checkOutDate,
+                300.0, BookingStatus.CONFIRMED));
+        store.add(new Booking("B002", "JOHN DOE", room2, checkInDate, checkOutDate,
+                225.0, BookingStatus.CONFIRMED));
+
+        List<Booking> bookings = store.getBookingsByGuest("john doe");
+        assertEquals(2, bookings.size());
+        assertEquals("John Doe", bookings.get(0).getGuestName());
+        assertEquals("JOHN DOE", bookings.get(1).getGuestName());
+    }
+
+    @Test
+    @DisplayName("Should answer queries like BookingService")
+    void testMatchesBookingService() throws Exception {
+        Hotel hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        for (int i = 0; i < 10; i++) {
+            hotel.addRoom(new Room("R" + i, RoomType.SINGLE, 50.0 + i));
+        }
+        BookingService bookingService = new BookingService(hotel);
+        Random random = new Random(11);
+        for (int i = 0; i < 300; i++) {
+            Room target = hotel.getAllRooms().get(random.nextInt(10));
+            target.setStatus(RoomStatus.AVAILABLE);
+            LocalDate checkIn = LocalDate.now().plusDays(1 + random.nextInt(200));
+            try {
+                bookingService.createBooking("B" + i, "Guest " + random.nextInt(20), target.getRoomNumber(),
+                        checkIn, checkIn.plusDays(1 + random.nextInt(5)));
+            } catch (RoomNotAvailableException e) {
+                // Overlapping request, rejected as expected
+            }
+        }
+        for (int i = 0; i < 50; i++) {
+            bookingService.cancelBooking("B" + random.nextInt(300));
+        }
+        for (Booking booking : bookingService.getAllBookings()) {
+            store.add(booking);
+        }
+
+        assertEquals(bookingService.getTotalBookings(), store.getTotalBookings());
+        assertEquals(ids(bookingService.getActiveBookings()), ids(store.getActiveBookings()));
+        assertEquals(ids(bookingService.getBookingsByGuest("guest 7")), ids(store.getBookingsByGuest("guest 7")));
+        for (int i = 0; i < 500; i++) {
+            String roomNumber = "R" + random.nextInt(10);
+            LocalDate checkIn = LocalDate.now().plusDays(random.nextInt(210));
+            LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(6));
+            assertEquals(bookingService.isRoomAvailableForDates(roomNumber, checkIn, checkOut),
+                    store.isRoomAvailableForDates(roomNumber, checkIn, checkOut));
+        }
+
+        Booking active = store.getActiveBookings().get(0);
+        assertTrue(store.cancelBooking(active.getBookingId()));
+        assertFalse(store.cancelBooking(active.getBookingId()));
+        assertTrue(store.isRoomAvailableForDates(active.getRoom().getRoomNumber(),
+                active.getCheckInDate(), active.getCheckOutDate()));
+    }
+}
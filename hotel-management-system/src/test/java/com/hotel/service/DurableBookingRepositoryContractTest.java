@@ -0,0 +1,41 @@
+package com.hotel.service;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Additional suite for {@link BookingRepository} engines that keep their
+ * bookings on storage after closing.
+ */
+abstract class DurableBookingRepositoryContractTest extends BookingRepositoryContractTest {
+
+    /**
+     * Closes the engine and opens it again on the same storage.
+     */
+    protected abstract BookingRepository reopen(BookingRepository closed, Hotel hotel) throws IOException;
+
+    @Test
+    @DisplayName("Contract: should keep bookings across reopening")
+    void testContractReopen() throws IOException {
+        repository.add(new Booking("B001", "John Doe", room, checkInDate, checkOutDate, 300.0,
+                BookingStatus.CONFIRMED));
+        repository.add(new Booking("B002", "Jane Roe", hotel.getRoomByNumber("102"), checkInDate, checkOutDate,
+                200.0, BookingStatus.CONFIRMED));
+        repository.cancelBooking("B002");
+
+        repository = reopen(repository, hotel);
+        assertEquals(List.of("B001", "B002"), ids(repository.getAllBookings()));
+        assertEquals(BookingStatus.CANCELLED, repository.getBookingById("B002").getStatus());
+        assertEquals(List.of("B001"), ids(repository.getActiveBookings()));
+        assertFalse(repository.isRoomAvailableForDates("101", checkInDate, checkOutDate));
+        assertTrue(repository.isRoomAvailableForDates("102", checkInDate, checkOutDate));
+        assertThrows(IllegalArgumentException.class, () -> repository.add(new Booking("B001", "John Doe", room,
+                checkInDate, checkOutDate, 300.0, BookingStatus.CONFIRMED)));
+    }
+}
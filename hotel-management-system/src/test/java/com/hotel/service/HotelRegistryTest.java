@@ -0,0 +1,97 @@
+package com.hotel.service;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HotelRegistry Tests")
+class HotelRegistryTest {
+
+    private HotelRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new HotelRegistry(3);
+        for (int h = 0; h < 12; h++) {
+            Hotel hotel = new Hotel("H" + h, "Hotel " + h, h % 2 == 0 ? "Lisbon" : "Porto", 4);
+            for (int r = 0; r < 5; r++) {
+                hotel.addRoom(new Room("10" + r, RoomType.DOUBLE, 100.0 + h * 10 + r));
+            }
+            registry.registerHotel(hotel);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("Should register hotels once and look them up by ID")
+    void testRegisterAndLookup() {
+        assertEquals(12, registry.getHotelCount());
+        assertFalse(registry.registerHotel(new Hotel("H0", "Duplicate", "Lisbon", 3)));
+        assertEquals("Hotel 3", registry.getHotel("H3").getHotelName());
+        assertSame(registry.getHotel("H3"), registry.getHotelService("H3").getHotel());
+        assertNotNull(registry.getBookingService("H3"));
+        assertNull(registry.getHotel("H99"));
+
+        assertTrue(registry.removeHotel("H3"));
+        assertFalse(registry.removeHotel("H3"));
+        assertNull(registry.getHotel("H3"));
+        assertEquals(6, registry.getHotelsInLocation("Lisbon").size());
+        assertEquals(5, registry.getHotelsInLocation(" porto ").size());
+    }
+
+    @Test
+    @DisplayName("Should merge the cheapest rooms of every hotel in a location")
+    void testFindCheapestAcrossHotels() {
+        registry.getHotel("H0").getRoomByNumber("100").setStatus(RoomStatus.MAINTENANCE);
+
+        List<RoomOffer> offers = registry.findCheapestAvailableRooms("Lisbon", 6);
+
+        assertEquals(6, offers.size());
+        assertEquals(101.0, offers.get(0).getPricePerNight());
+        for (int i = 1; i < offers.size(); i++) {
+            assertTrue(offers.get(i - 1).getPricePerNight() <= offers.get(i).getPricePerNight());
+        }
+        for (RoomOffer offer : offers) {
+            assertEquals("Lisbon", offer.getHotel().getLocation());
+        }
+        assertEquals(120.0, offers.get(4).getPricePerNight());
+        assertTrue(registry.findCheapestAvailableRooms("Madrid", 5).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> registry.findCheapestAvailableRooms("Lisbon", -1));
+    }
+
+    @Test
+    @DisplayName("Should exclude booked rooms from location-wide availability")
+    void testCheckAvailabilityAcrossHotels() throws Exception {
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        LocalDate checkOut = checkIn.plusDays(2);
+        registry.getBookingService("H1").createBooking("B1", "John Doe", "100", checkIn, checkOut);
+
+        List<RoomOffer> offers = registry.checkAvailability("Porto", checkIn, checkOut);
+
+        assertEquals(29, offers.size());
+        assertFalse(offers.stream().anyMatch(offer -> offer.getHotel().getHotelId().equals("H1")
+                && offer.getRoom().getRoomNumber().equals("100")));
+        assertEquals(111.0, offers.get(0).getPricePerNight());
+        assertThrows(IllegalArgumentException.class, () -> registry.checkAvailability("Porto", checkOut, checkIn));
+    }
+
+    @Test
+    @DisplayName("Should reject queries after close")
+    void testClose() {
+        registry.close();
+
+        assertThrows(RejectedExecutionException.class, () -> registry.findCheapestAvailableRooms("Lisbon", 1));
+    }
+}
@@ -52,6 +52,52 @@ class HotelServiceTest {
         assertEquals(4, available.size());
     }
 
+    @Test
+    @DisplayName("Should exclude rooms booked during the requested stay")
+    void testCheckAvailabilityExcludesBookedRooms() throws Exception {
+        BookingService bookingService = new BookingService(hotel);
+        LocalDate checkIn = LocalDate.now().plusDays(10);
+        LocalDate checkOut = checkIn.plusDays(3);
+        bookingService.createBooking("B001", "John Doe", "101", checkIn, checkOut);
+
+        List<Room> overlapping = hotelService.checkAvailability(checkIn.plusDays(1), checkOut.plusDays(2));
+        List<Room> later = hotelService.checkAvailability(checkOut.plusDays(1), checkOut.plusDays(4));
+
+        assertEquals(3, overlapping.size());
+        assertFalse(overlapping.contains(hotel.getRoomByNumber("101")));
+        // Room 101 stays occupied until its stay is cancelled or archived, so it cannot be booked later either
+        assertEquals(3, later.size());
+        assertFalse(later.contains(hotel.getRoomByNumber("101")));
+    }
+
+    @Test
+    @DisplayName("Should only return rooms that can then be booked")
+    void testCheckAvailabilityRoomsCanBeBooked() throws Exception {
+        BookingService bookingService = new BookingService(hotel);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        bookingService.createBooking("B001", "John Doe", "101", checkIn, checkIn.plusDays(2));
+        LocalDate monthAhead = checkIn.plusMonths(1);
+
+        List<Room> available = hotelService.checkAvailability(monthAhead, monthAhead.plusDays(2));
+
+        assertEquals(3, available.size());
+        for (Room room : available) {
+            Booking booking = bookingService.createBooking("S" + room.getRoomNumber(), "Jane Roe",
+                    room.getRoomNumber(), monthAhead, monthAhead.plusDays(2));
+            assertEquals(BookingStatus.CONFIRMED, booking.getStatus());
+        }
+        assertTrue(hotelService.checkAvailability(monthAhead, monthAhead.plusDays(2)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should exclude rooms under maintenance from availability")
+    void testCheckAvailabilityExcludesMaintenance() {
+        hotel.getRoomByNumber("102").setStatus(RoomStatus.MAINTENANCE);
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        List<Room> available = hotelService.checkAvailability(checkIn, checkIn.plusDays(2));
+        assertEquals(3, available.size());
+    }
+
     @Test
     @DisplayName("Should throw exception for invalid date range")
     void testCheckAvailabilityInvalidDates() {
@@ -137,6 +183,33 @@ class HotelServiceTest {
         assertNull(expensive);
     }
 
+    @Test
+    @DisplayName("Should find cheapest available rooms in price order")
+    void testFindCheapestAvailableRooms() {
+        hotel.getRoomByNumber("101").setStatus(RoomStatus.OCCUPIED);
+        List<Room> cheapest = hotelService.findCheapestAvailableRooms(2);
+        assertEquals(2, cheapest.size());
+        assertEquals("102", cheapest.get(0).getRoomNumber());
+        assertEquals("104", cheapest.get(1).getRoomNumber());
+        assertEquals(3, hotelService.findCheapestAvailableRooms(10).size());
+    }
+
+    @Test
+    @DisplayName("Should find available rooms within a price range")
+    void testFindAvailableRoomsInPriceRange() {
+        List<Room> midRange = hotelService.findAvailableRoomsInPriceRange(100.0, 150.0);
+        assertEquals(2, midRange.size());
+        assertEquals("102", midRange.get(0).getRoomNumber());
+        assertEquals("104", midRange.get(1).getRoomNumber());
+
+        hotel.getRoomByNumber("104").setStatus(RoomStatus.MAINTENANCE);
+        assertEquals(1, hotelService.findAvailableRoomsInPriceRange(100.0, 150.0).size());
+        hotel.getRoomByNumber("104").setStatus(RoomStatus.AVAILABLE);
+        assertEquals("103", hotelService.findMostExpensiveAvailableRoom().getRoomNumber());
+        assertThrows(IllegalArgumentException.class,
+                () -> hotelService.findAvailableRoomsInPriceRange(200.0, 100.0));
+    }
+
     @Test
     @DisplayName("Should calculate occupancy rate correctly")
     void testGetOccupancyRate() {
@@ -0,0 +1,58 @@
+package com.hotel.service;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryBookingRepository Tests")
+class InMemoryBookingRepositoryTest extends BookingRepositoryContractTest {
+
+    private InMemoryBookingRepository repository;
+    private Room room;
+    private LocalDate checkInDate;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryBookingRepository();
+        room = new Room("101", RoomType.DOUBLE, 100.0);
+        checkInDate = LocalDate.now().plusDays(1);
+    }
+
+    @Override
+    protected BookingRepository createRepository(Hotel hotel) {
+        return new InMemoryBookingRepository();
+    }
+
+    @Test
+    @DisplayName("Should return the stored booking objects")
+    void testKeepsBookingObjects() {
+        Booking booking = new Booking("B001", "John Doe", room, checkInDate, checkInDate.plusDays(2),
+                200.0, BookingStatus.CONFIRMED);
+        repository.add(booking);
+
+        assertSame(booking, repository.getBookingById("B001"));
+        assertSame(booking, repository.getBookingsByGuest("john doe").get(0));
+        assertSame(booking, repository.getActiveBookings().get(0));
+    }
+
+    @Test
+    @DisplayName("Should only consider the booked room's own bookings for availability")
+    void testAvailabilityPerRoom() {
+        Room other = new Room("102", RoomType.SINGLE, 80.0);
+        repository.add(new Booking("B001", "John Doe", room, checkInDate, checkInDate.plusDays(2),
+                200.0, BookingStatus.CONFIRMED));
+        repository.add(new Booking("B002", "Jane Roe", other, checkInDate.plusDays(5), checkInDate.plusDays(6),
+                80.0, BookingStatus.CONFIRMED));
+
+        assertTrue(repository.isRoomAvailableForDates("101", checkInDate.plusDays(5), checkInDate.plusDays(6)));
+        assertFalse(repository.isRoomAvailableForDates("102", checkInDate.plusDays(5), checkInDate.plusDays(6)));
+        repository.cancelBooking("B002");
+        assertTrue(repository.isRoomAvailableForDates("102", checkInDate.plusDays(5), checkInDate.plusDays(6)));
+        assertEquals(1, repository.getActiveBookings().size());
+    }
+}
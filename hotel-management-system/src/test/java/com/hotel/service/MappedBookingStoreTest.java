@@ -0,0 +1,179 @@
+package com.hotel.service;
+
+import com.hotel.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedBookingStore Tests")
+class MappedBookingStoreTest extends DurableBookingRepositoryContractTest {
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private MappedBookingStore store;
+    private Room room;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        path = directory.resolve("bookings.dat");
+        store = new MappedBookingStore(path);
+        room = new Room("101", RoomType.DOUBLE, 100.0);
+        checkInDate = LocalDate.now().plusDays(1);
+        checkOutDate = checkInDate.plusDays(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Override
+    protected BookingRepository createRepository(Hotel hotel) throws IOException {
+        return new MappedBookingStore(directory.resolve("contract.dat"), hotel);
+    }
+
+    @Override
+    protected BookingRepository reopen(BookingRepository closed, Hotel hotel) throws IOException {
+        closed.close();
+        return new MappedBookingStore(directory.resolve("contract.dat"), hotel);
+    }
+
+    @Test
+    @DisplayName("Should round-trip booking fields")
+    void testRoundTrip() {
+        Booking booking = new Booking("B001", "John Doe", room, checkInDate, checkOutDate,
+                299.99, BookingStatus.CONFIRMED);
+        store.add(booking);
+
+        Booking stored = store.getBookingById(" B001 ");
+        assertEquals(booking, stored);
+        assertSame(room, stored.getRoom());
+        assertEquals("John Doe", stored.getGuestName());
+        assertEquals(checkOutDate, stored.getCheckOutDate());
+        assertEquals(299.99, stored.getTotalPrice());
+        assertEquals(BookingStatus.CONFIRMED, stored.getStatus());
+        assertNull(store.getBookingById("B999"));
+        assertTrue(Files.exists(directory.resolve("bookings.dat.strings")));
+    }
+
+    @Test
+    @DisplayName("Should keep bookings and in-place cancellations across reopening")
+    void testReopen() throws IOException {
+        LocalDate past = LocalDate.now().minusYears(3);
+        store.add(Booking.restore("B001", "John Doe", room, past, past.plusDays(2),
+                200.0, BookingStatus.COMPLETED));
+        store.add(new Booking("B002", "Jane Roe", room, checkInDate, checkOutDate,
+                300.0, BookingStatus.CONFIRMED));
+        assertTrue(store.cancelBooking("B002"));
+        store.close();
+
+        Hotel hotel = new Hotel("H001", "Test Hotel", "Test City", 4);
+        Room hotelRoom = new Room("101", RoomType.DOUBLE, 100.0);
+        hotel.addRoom(hotelRoom);
+        store = new MappedBookingStore(path, hotel);
+        assertEquals(2, store.getTotalBookings());
+        assertEquals(past, store.getBookingById("B001").getCheckInDate());
+        assertEquals(BookingStatus.CANCELLED, store.getBookingById("B002").getStatus());
+        assertSame(hotelRoom, store.getBookingById("B002").getRoom());
+        assertThrows(IllegalArgumentException.class, () -> store.add(new Booking("B001", "Jane Roe", room,
+                checkInDate, checkOutDate, 300.0, BookingStatus.CONFIRMED)));
+
+        store.add(new Booking("B003", "Jane Roe", new Room("102", RoomType.SUITE, 250.0), checkInDate,
+                checkOutDate, 750.0, BookingStatus.CONFIRMED));
+        store.close();
+        store = new MappedBookingStore(path);
+        Room detached = store.getBookingById("B003").getRoom();
+        assertEquals(RoomType.SUITE, detached.getType());
+        assertEquals(250.0, detached.getPricePerNight());
+        assertEquals(2, store.getBookingsByGuest("JANE ROE").size());
+    }
+
+    @Test
+    @DisplayName("Should grow the files beyond their initial size")
+    void testGrowth() throws IOException {
+        for (int i = 0; i < 5_000; i++) {
+            store.add(new Booking("B" + i, "Guest " + i, new Room("R" + (i % 300), RoomType.SINGLE, 50.0),
+                    checkInDate, checkOutDate, 150.0, BookingStatus.CONFIRMED));
+        }
+        store.close();
+
+        store = new MappedBookingStore(path);
+        assertEquals(5_000, store.getTotalBookings());
+        for (int i = 0; i < 5_000; i += 97) {
+            Booking booking = store.getBookingById("B" + i);
+            assertEquals("Guest " + i, booking.getGuestName());
+            assertEquals("R" + (i % 300), booking.getRoom().getRoomNumber());
+        }
+        assertEquals("B4999", store.getAllBookings().get(4_999).getBookingId());
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate IDs, foreign files and use after close")
+    void testRejections() throws IOException {
+        store.add(new Booking("B001", "John Doe", room, checkInDate, checkOutDate,
+                300.0, BookingStatus.CONFIRMED));
+        assertThrows(IllegalArgumentException.class, () -> store.add(new Booking("B001", "Jane Roe", room,
+                checkInDate, checkOutDate, 300.0, BookingStatus.CONFIRMED)));
+        assertEquals(1, store.getTotalBookings());
+
+        store.close();
+        assertThrows(IllegalStateException.class, () -> store.getBookingById("B001"));
+
+        Path foreign = directory.resolve("foreign.dat");
+        Files.write(foreign, new byte[100_000]);
+        assertThrows(IOException.class, () -> new MappedBookingStore(foreign));
+    }
+
+    @Test
+    @DisplayName("Should answer queries like CompactBookingStore")
+    void testMatchesCompactStore() {
+        CompactBookingStore compact = new CompactBookingStore();
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            LocalDate checkIn = LocalDate.now().plusDays(random.nextInt(365));
+            Booking booking = Booking.restore("B" + i, random.nextBoolean() ? "Guest " + random.nextInt(30)
+                            : "GUEST " + random.nextInt(30), new Room("R" + random.nextInt(40), RoomType.SINGLE, 60.0),
+                    checkIn, checkIn.plusDays(1 + random.nextInt(6)), 10 + random.nextInt(90_000) / 100.0,
+                    BookingStatus.values()[random.nextInt(BookingStatus.values().length)]);
+            compact.add(booking);
+            store.add(booking);
+        }
+        for (int i = 0; i < 200; i++) {
+            String bookingId = "B" + random.nextInt(2_000);
+            assertEquals(compact.cancelBooking(bookingId), store.cancelBooking(bookingId));
+        }
+
+        assertEquals(ids(compact.getActiveBookings()), ids(store.getActiveBookings()));
+        assertEquals(compact.getActiveBookings(), store.getActiveBookings());
+        assertEquals(ids(compact.getBookingsByGuest("guest 7")), ids(store.getBookingsByGuest("guest 7")));
+        for (int i = 0; i < 500; i++) {
+            String roomNumber = "R" + random.nextInt(40);
+            LocalDate checkIn = LocalDate.now().plusDays(random.nextInt(370));
+            LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(6));
+            assertEquals(compact.isRoomAvailableForDates(roomNumber, checkIn, checkOut),
+                    store.isRoomAvailableForDates(roomNumber, checkIn, checkOut));
+        }
+        for (int i = 0; i < 2_000; i += 37) {
+            Booking expected = compact.getBookingById("B" + i);
+            Booking actual = store.getBookingById("B" + i);
+            assertEquals(expected.getTotalPrice(), actual.getTotalPrice());
+            assertEquals(expected.getStatus(), actual.getStatus());
+            assertEquals(expected.getGuestName(), actual.getGuestName());
+        }
+    }
+}